@@ -0,0 +1,116 @@
+package com.runners.app.community.post.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.runners.app.community.post.dto.response.CommunityPostCursorListResponse;
+import com.runners.app.community.post.dto.response.CommunityPostSummaryResponse;
+import com.runners.app.community.post.entity.CommunityPostBoardType;
+import com.runners.app.global.util.CursorCodec;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 게시글 목록/검색 응답 생성 경로
+ * DTO 조립은 50개 요약 + 다음 커서 + JSON 직렬화까지 포함
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CommunityPostServiceBenchmark {
+
+    private static final int PAGE_SIZE = 50;
+
+    private String shortContent;
+    private String longContent;
+    private String searchQuery;
+    private String[] contents;
+    private LocalDateTime[] createdAts;
+    private ObjectMapper objectMapper;
+    private CursorCodec cursorCodec;
+
+    @Setup
+    public void setUp() {
+        shortContent = "오늘 한강 10km 완주했습니다!";
+        longContent = ("오늘은 아침 6시에 일어나서 한강 반포지구부터 잠실까지 달렸습니다.\n\n"
+                + "페이스는 5분 30초 정도로 유지했고,   중간에 물 마시러 한 번 멈췄어요.\t"
+                + "다음 주에는 하프 마라톤 연습을 해볼 생각입니다. ").repeat(4);
+        searchQuery = "  한강  러닝 +마라톤 \"하프 코스\" 페이스*  ";
+
+        contents = new String[PAGE_SIZE];
+        createdAts = new LocalDateTime[PAGE_SIZE];
+        LocalDateTime base = LocalDateTime.of(2026, 3, 14, 9, 0);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            contents[i] = i % 2 == 0 ? longContent : shortContent;
+            createdAts[i] = base.minusMinutes(i * 7L);
+        }
+
+        objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        cursorCodec = new CursorCodec(null, true);
+    }
+
+    @Benchmark
+    public String toContentPreviewShort() {
+        return CommunityPostService.toContentPreview(shortContent);
+    }
+
+    @Benchmark
+    public String toContentPreviewLong() {
+        return CommunityPostService.toContentPreview(longContent);
+    }
+
+    @Benchmark
+    public String toBooleanModePrefixQuery() {
+        return CommunityPostService.toBooleanModePrefixQuery(searchQuery);
+    }
+
+    @Benchmark
+    public CommunityPostCursorListResponse assembleCursorListResponse() {
+        return assemble();
+    }
+
+    @Benchmark
+    public byte[] assembleAndSerializeCursorListResponse() throws Exception {
+        return objectMapper.writeValueAsBytes(assemble());
+    }
+
+    private CommunityPostCursorListResponse assemble() {
+        List<CommunityPostSummaryResponse> posts = new ArrayList<>(PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            long postId = 100_000L - i;
+            posts.add(new CommunityPostSummaryResponse(
+                    postId,
+                    10L + i,
+                    "러너" + i,
+                    "https://cdn.example.com/users/profile/" + (10 + i) + "/avatar.jpg",
+                    1234.5 + i,
+                    CommunityPostBoardType.FREE,
+                    "한강 러닝 후기 #" + i,
+                    CommunityPostService.toContentPreview(contents[i]),
+                    i % 3 == 0 ? "https://cdn.example.com/community/posts/" + postId + "/1.jpg" : null,
+                    120 + i,
+                    7 + i,
+                    3 + i,
+                    createdAts[i]
+            ));
+        }
+        CommunityPostSummaryResponse last = posts.get(posts.size() - 1);
+        String nextCursor = cursorCodec.encodeCursor(last.createdAt(), last.postId());
+        return new CommunityPostCursorListResponse(posts, nextCursor);
+    }
+}
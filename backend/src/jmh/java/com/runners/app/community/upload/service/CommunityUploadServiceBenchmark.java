@@ -0,0 +1,48 @@
+package com.runners.app.community.upload.service;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 썸네일/이미지 URL 생성 (게시글 목록 1페이지당 최대 페이지 크기만큼 호출)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CommunityUploadServiceBenchmark {
+
+    private CommunityUploadService uploadService;
+    private String key;
+
+    @Setup
+    public void setUp() throws Exception {
+        // URL 생성만 측정하므로 S3 클라이언트는 주입하지 않음
+        uploadService = new CommunityUploadService(null, null);
+        setField("publicBaseUrl", "https://cdn.example.com/");
+        key = "community/posts/42/2026-03-14/3f2b8c1e-9d7a-4c55-b0e1-7a6f2d9c4e10 러닝 사진.jpg";
+    }
+
+    @Benchmark
+    public String toPublicFileUrl() {
+        return uploadService.toPublicFileUrl(key);
+    }
+
+    private void setField(String name, Object value) throws Exception {
+        Field field = CommunityUploadService.class.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(uploadService, value);
+    }
+}
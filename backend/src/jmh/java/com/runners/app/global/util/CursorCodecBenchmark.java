@@ -0,0 +1,64 @@
+package com.runners.app.global.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 목록 API마다 호출되는 커서 인코딩/디코딩
+ * signed=true면 HMAC 서명 커서, decodeLegacyCursor는 이전 문자열 형식 디코딩 비용
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CursorCodecBenchmark {
+
+    private CursorCodec cursorCodec;
+    private LocalDateTime createdAt;
+    private Long id;
+    private String encoded;
+    private String legacyEncoded;
+
+    @Param({"false", "true"})
+    public boolean signed;
+
+    @Setup
+    public void setUp() {
+        cursorCodec = new CursorCodec(signed ? "benchmark-cursor-signing-secret" : null, true);
+        createdAt = LocalDateTime.of(2026, 3, 14, 9, 26, 53, 589_793_000);
+        id = 1_234_567L;
+        encoded = cursorCodec.encodeCursor(createdAt, id);
+        legacyEncoded = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((createdAt + "|" + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Benchmark
+    public String encodeCursor() {
+        return cursorCodec.encodeCursor(createdAt, id);
+    }
+
+    @Benchmark
+    public CursorCodec.Cursor decodeCursor() {
+        return cursorCodec.decodeCursor(encoded);
+    }
+
+    @Benchmark
+    public CursorCodec.Cursor decodeLegacyCursor() {
+        return cursorCodec.decodeCursor(legacyEncoded);
+    }
+}
@@ -0,0 +1,45 @@
+package com.runners.app.notification.service;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 알림 목록 응답의 게시글 제목/댓글 미리보기 생성
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NotificationPreviewBenchmark {
+
+    private String postTitle;
+    private String comment;
+
+    @Setup
+    public void setUp() {
+        postTitle = "주말 한강 러닝 같이 하실 분 구합니다";
+        comment = ("저도 참여하고 싶어요!\n\n토요일 아침 7시 반포 맞나요?   "
+                + "페이스는 6분대면 괜찮을까요?\t").repeat(5);
+    }
+
+    @Benchmark
+    public String postTitlePreview() {
+        return NotificationService.normalizeAndTrimPreview(postTitle, 60);
+    }
+
+    @Benchmark
+    public String commentPreview() {
+        return NotificationService.normalizeAndTrimPreview(comment, 120);
+    }
+}
@@ -0,0 +1,167 @@
+package com.runners.app.loadtest;
+
+import com.github.fppt.jedismock.RedisServer;
+import com.runners.app.RunnersApplication;
+import com.runners.app.community.post.popular.CommunityPostPopularFeed;
+import com.runners.app.community.search.service.CommunityPostSearchIndexWorker;
+import com.runners.app.leaderboard.service.DistanceLeaderboard;
+import com.runners.app.auth.service.JwtService;
+import com.runners.app.global.util.CursorCodec;
+import com.runners.app.user.repository.UserRepository;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisException;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.XGroupCreateArgs;
+import io.lettuce.core.XReadArgs;
+import io.lettuce.core.api.StatefulRedisConnection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 부하 테스트 진입점
+ *
+ * 1. H2(MySQL 모드) 인메모리 DB + 프로세스 내 Redis 호환 서버(jedis-mock)로 애플리케이션을 랜덤 포트에 띄움
+ * 2. 게시글/댓글/알림 데이터를 적재
+ * 3. 실제 컨트롤러를 HTTP로 호출하고 엔드포인트별 처리량/지연시간 히스토그램을 출력
+ *
+ * 실행: gradle loadTest -PloadTestArgs="--loadtest.posts=200000 --loadtest.duration-seconds=30"
+ * MySQL 등 다른 DB로 돌리려면 --spring.datasource.url=... 로 덮어씁니다.
+ * jedis-mock은 Stream consumer group을 지원하지 않아 알림 파이프라인이 돌지 않으므로,
+ * 내장 Redis에서는 --loadtest.allow-no-notification-pipeline=true 없이는 시작 전에 중단합니다. (docs/load_test.md)
+ */
+public class LoadTestApplication {
+
+    public static void main(String[] args) throws Exception {
+        // devtools가 클래스패스에 있으면 재시작 클래스로더로 main을 다시 띄우므로 비활성화
+        System.setProperty("spring.devtools.restart.enabled", "false");
+
+        Map<String, Object> properties = defaultProperties();
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                int separator = arg.indexOf('=');
+                properties.put(arg.substring(2, separator), arg.substring(separator + 1));
+            }
+        }
+
+        // 로컬 Redis 대신 프로세스 내 Redis 호환 서버 사용 (--loadtest.embedded-redis=false면 spring.data.redis.* 사용)
+        RedisServer redisServer = null;
+        String notificationWarning = null;
+        if (Boolean.parseBoolean(String.valueOf(properties.getOrDefault("loadtest.embedded-redis", "true")))) {
+            redisServer = RedisServer.newRedisServer().start();
+            properties.put("spring.data.redis.host", redisServer.getHost());
+            properties.put("spring.data.redis.port", String.valueOf(redisServer.getBindPort()));
+
+            // 알림 파이프라인(Outbox -> Stream -> 푸시)은 consumer group이 없으면 돌지 않아 오류 0건으로 보이므로 먼저 중단
+            if (!supportsStreamConsumerGroups(redisServer)) {
+                if (!Boolean.parseBoolean(String.valueOf(
+                        properties.getOrDefault("loadtest.allow-no-notification-pipeline", "false")))) {
+                    redisServer.stop();
+                    System.err.println("Embedded Redis does not support stream consumer groups (XGROUP/XREADGROUP/XPENDING), "
+                            + "so the notification pipeline cannot run. Re-run with --loadtest.embedded-redis=false "
+                            + "against a real Redis, or pass --loadtest.allow-no-notification-pipeline=true "
+                            + "to measure the HTTP endpoints only.");
+                    System.exit(2);
+                }
+                notificationWarning = "notification pipeline did not run (embedded Redis has no stream consumer groups); "
+                        + "comment-create/recommend exclude notification delivery";
+            }
+        }
+
+        // 커맨드라인 인자로 넘겨 logging 등 초기 단계 설정까지 적용되도록 함
+        String[] applicationArgs = properties.entrySet().stream()
+                .map(entry -> "--" + entry.getKey() + "=" + entry.getValue())
+                .toArray(String[]::new);
+
+        int exitCode = 0;
+        try (ConfigurableApplicationContext context = SpringApplication.run(RunnersApplication.class, applicationArgs)) {
+            LoadTestOptions options = LoadTestOptions.from(context.getEnvironment());
+
+            LoadTestSeeder seeder = new LoadTestSeeder(context.getBean(JdbcTemplate.class), options);
+            seeder.seed();
+            // 시드는 JDBC로 직접 넣어 색인/반응 이벤트가 없으므로 검색 색인, 인기 피드, 리더보드를 다시 구축
+            context.getBean(CommunityPostSearchIndexWorker.class).rebuild();
+            context.getBean(CommunityPostPopularFeed.class).warmUp();
+            context.getBean(DistanceLeaderboard.class).rebuildAll();
+
+            List<String> accessTokens = issueAccessTokens(context, options);
+            int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+
+            LoadTestReport report = new LoadTestDriver(
+                    options,
+                    port,
+                    accessTokens,
+                    seeder.oldestPostCreatedAt(),
+                    context.getBean(CursorCodec.class)
+            ).run();
+            if (notificationWarning != null) {
+                report = report.withWarning(notificationWarning);
+            }
+            report.print();
+            report.writeJson(options.reportPath());
+            System.out.println("\nReport written to " + options.reportPath().toAbsolutePath());
+        } catch (Exception e) {
+            e.printStackTrace();
+            exitCode = 1;
+        } finally {
+            if (redisServer != null) {
+                redisServer.stop();
+            }
+        }
+        // 스케줄러/스트림 리스너 스레드가 남아 있으므로 명시적으로 종료
+        System.exit(exitCode);
+    }
+
+    private static Map<String, Object> defaultProperties() {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("server.port", "0");
+        properties.put("spring.datasource.url",
+                "jdbc:h2:mem:loadtest;MODE=MySQL;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000");
+        properties.put("spring.datasource.driver-class-name", "org.h2.Driver");
+        properties.put("spring.datasource.username", "sa");
+        properties.put("spring.datasource.password", "");
+        properties.put("spring.datasource.hikari.maximum-pool-size", "32");
+        properties.put("spring.jpa.hibernate.ddl-auto", "create");
+        properties.put("spring.jpa.show-sql", "false");
+        properties.put("jwt.secret", "loadtest-secret-change-me-loadtest-secret-change-me");
+        properties.put("google.oauth.web-client-id", "loadtest-web-client-id");
+        properties.put("firebase.enabled", "false");
+        properties.put("management.server.port", "-1");
+        properties.put("app.notification.push.sender", "fake");
+        properties.put("app.s3.public-base-url", "https://cdn.loadtest.invalid");
+        properties.put("app.community.search.in-memory", "true");
+        properties.put("logging.level.root", "WARN");
+        return properties;
+    }
+
+    private static boolean supportsStreamConsumerGroups(RedisServer redisServer) {
+        RedisClient client = RedisClient.create(RedisURI.create(redisServer.getHost(), redisServer.getBindPort()));
+        try (StatefulRedisConnection<String, String> connection = client.connect()) {
+            connection.sync().xgroupCreate(
+                    XReadArgs.StreamOffset.from("loadtest:stream-probe", "0"),
+                    "loadtest-probe",
+                    XGroupCreateArgs.Builder.mkstream()
+            );
+            return true;
+        } catch (RedisException e) {
+            return false;
+        } finally {
+            client.shutdown();
+        }
+    }
+
+    private static List<String> issueAccessTokens(ConfigurableApplicationContext context, LoadTestOptions options) {
+        JwtService jwtService = context.getBean(JwtService.class);
+        UserRepository userRepository = context.getBean(UserRepository.class);
+
+        int tokenUsers = Math.max(1, Math.min(options.tokenUsers(), options.users()));
+        List<Long> userIds = LongStream.rangeClosed(1, tokenUsers).boxed().toList();
+        return userRepository.findAllById(userIds).stream()
+                .map(jwtService::createAccessToken)
+                .toList();
+    }
+}
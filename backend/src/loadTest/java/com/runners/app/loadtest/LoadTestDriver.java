@@ -0,0 +1,188 @@
+package com.runners.app.loadtest;
+
+import com.runners.app.global.util.CursorCodec;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * 실제 컨트롤러를 HTTP로 호출하는 closed-loop 부하 생성기
+ * concurrency개의 워커가 가중치에 따라 엔드포인트를 골라 연속 호출하고, 엔드포인트별 지연시간(µs)을 기록합니다.
+ */
+@Slf4j
+class LoadTestDriver {
+
+    private static final String[] SEARCH_WORDS = {"한강", "러닝", "마라톤", "페이스", "러닝화", "크루"};
+
+    private final LoadTestOptions options;
+    private final String baseUrl;
+    private final List<String> accessTokens;
+    private final LocalDateTime oldestPostCreatedAt;
+    private final CursorCodec cursorCodec;
+    private final HttpClient httpClient;
+    private final List<Endpoint> endpoints;
+    private final int totalWeight;
+
+    LoadTestDriver(
+            LoadTestOptions options,
+            int port,
+            List<String> accessTokens,
+            LocalDateTime oldestPostCreatedAt,
+            CursorCodec cursorCodec
+    ) {
+        this.options = options;
+        this.baseUrl = "http://localhost:" + port;
+        this.accessTokens = accessTokens;
+        this.oldestPostCreatedAt = oldestPostCreatedAt;
+        this.cursorCodec = cursorCodec;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newFixedThreadPool(Math.max(2, options.concurrency() / 4)))
+                .build();
+        this.endpoints = List.of(
+                new Endpoint("list", 30, () -> get("/community/posts?size=20")),
+                new Endpoint("list-deep", 10, () -> get("/community/posts?size=20&cursor=" + deepCursor())),
+                new Endpoint("list-board", 10, () -> get("/community/posts?size=20&boardType=FREE")),
+                new Endpoint("list-popular", 5, () -> get("/community/posts?size=20&sort=POPULAR")),
+                new Endpoint("detail", 25, () -> get("/community/posts/" + randomPostId())),
+                new Endpoint("comments", 10, () -> get("/community/posts/" + randomPostId() + "/comments?size=20")),
+                new Endpoint("search", 5, () -> get("/community/posts/search?size=20&q=" + searchQuery())),
+                new Endpoint("comment-create", 3, () -> post(
+                        "/community/posts/" + randomPostId() + "/comments",
+                        "{\"content\":\"부하 테스트 댓글 " + ThreadLocalRandom.current().nextInt() + "\"}"
+                )),
+                new Endpoint("recommend", 3, () -> put("/community/posts/" + randomPostId() + "/recommend")),
+                new Endpoint("notifications", 6, () -> get("/notifications?size=20")),
+                new Endpoint("unread-count", 8, () -> get("/notifications/unread-count")),
+                new Endpoint("leaderboard", 3, () -> get("/leaderboard?size=20&page=" + ThreadLocalRandom.current().nextInt(5)))
+        );
+        this.totalWeight = endpoints.stream().mapToInt(Endpoint::weight).sum();
+    }
+
+    LoadTestReport run() throws InterruptedException {
+        log.warn("Load test: concurrency={}, warmup={}s, duration={}s",
+                options.concurrency(), options.warmupSeconds(), options.durationSeconds());
+
+        Map<String, Stats> stats = new LinkedHashMap<>();
+        endpoints.forEach(endpoint -> stats.put(endpoint.name(), new Stats()));
+
+        long warmupEndsAt = System.nanoTime() + TimeUnit.SECONDS.toNanos(options.warmupSeconds());
+        long endsAt = warmupEndsAt + TimeUnit.SECONDS.toNanos(options.durationSeconds());
+
+        ExecutorService workers = Executors.newFixedThreadPool(options.concurrency());
+        for (int i = 0; i < options.concurrency(); i++) {
+            String token = accessTokens.get(i % accessTokens.size());
+            workers.execute(() -> workerLoop(token, stats, warmupEndsAt, endsAt));
+        }
+        workers.shutdown();
+        workers.awaitTermination(options.warmupSeconds() + options.durationSeconds() + 60L, TimeUnit.SECONDS);
+
+        Map<String, LoadTestReport.EndpointResult> results = new LinkedHashMap<>();
+        stats.forEach((name, s) -> results.put(
+                name,
+                LoadTestReport.EndpointResult.of(s.histogram, s.errors.get(), options.durationSeconds())
+        ));
+        return new LoadTestReport(options, results, List.of());
+    }
+
+    private void workerLoop(String token, Map<String, Stats> stats, long warmupEndsAt, long endsAt) {
+        while (System.nanoTime() < endsAt) {
+            Endpoint endpoint = pickEndpoint();
+            HttpRequest request = endpoint.request().get()
+                    .header("Authorization", "Bearer " + token)
+                    .timeout(Duration.ofSeconds(30))
+                    .build();
+
+            long started = System.nanoTime();
+            boolean ok;
+            try {
+                HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                ok = response.statusCode() < 400;
+            } catch (Exception e) {
+                ok = false;
+            }
+            long finished = System.nanoTime();
+
+            if (started < warmupEndsAt) {
+                continue;
+            }
+            Stats s = stats.get(endpoint.name());
+            s.histogram.recordValue(Math.max(1, TimeUnit.NANOSECONDS.toMicros(finished - started)));
+            if (!ok) {
+                s.errors.incrementAndGet();
+            }
+        }
+    }
+
+    private Endpoint pickEndpoint() {
+        int pick = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (Endpoint endpoint : endpoints) {
+            pick -= endpoint.weight();
+            if (pick < 0) return endpoint;
+        }
+        return endpoints.get(0);
+    }
+
+    private HttpRequest.Builder get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).GET();
+    }
+
+    private HttpRequest.Builder post(String path, String json) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json));
+    }
+
+    private HttpRequest.Builder put(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).PUT(HttpRequest.BodyPublishers.noBody());
+    }
+
+    /**
+     * LoadTestSeeder와 같은 분포: 절반은 최신 1% 게시글
+     */
+    private long randomPostId() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int posts = Math.max(1, options.posts());
+        if (random.nextBoolean()) {
+            return posts - random.nextInt(Math.max(1, posts / 100));
+        }
+        return 1 + random.nextInt(posts);
+    }
+
+    private String deepCursor() {
+        long postId = randomPostId();
+        LocalDateTime createdAt = oldestPostCreatedAt.plusMinutes(postId - 1);
+        return cursorCodec.encodeCursor(createdAt, postId);
+    }
+
+    private String searchQuery() {
+        String word = SEARCH_WORDS[ThreadLocalRandom.current().nextInt(SEARCH_WORDS.length)];
+        return URLEncoder.encode(word, StandardCharsets.UTF_8);
+    }
+
+    private record Endpoint(String name, int weight, Supplier<HttpRequest.Builder> request) {
+    }
+
+    private static final class Stats {
+        // µs 단위, 유효숫자 3자리 (범위 자동 확장)
+        private final Histogram histogram = new ConcurrentHistogram(3);
+        private final AtomicLong errors = new AtomicLong();
+    }
+}
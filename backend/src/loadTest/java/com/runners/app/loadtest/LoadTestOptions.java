@@ -0,0 +1,34 @@
+package com.runners.app.loadtest;
+
+import java.nio.file.Path;
+import org.springframework.core.env.Environment;
+
+/**
+ * 부하 테스트 설정 (loadtest.* 프로퍼티, 실행 인자 --loadtest.posts=... 로 변경)
+ */
+record LoadTestOptions(
+        int users,
+        int posts,
+        int comments,
+        int notifications,
+        int tokenUsers,
+        int concurrency,
+        int warmupSeconds,
+        int durationSeconds,
+        Path reportPath
+) {
+
+    static LoadTestOptions from(Environment env) {
+        return new LoadTestOptions(
+                env.getProperty("loadtest.users", Integer.class, 10_000),
+                env.getProperty("loadtest.posts", Integer.class, 1_000_000),
+                env.getProperty("loadtest.comments", Integer.class, 2_000_000),
+                env.getProperty("loadtest.notifications", Integer.class, 1_000_000),
+                env.getProperty("loadtest.token-users", Integer.class, 1_000),
+                env.getProperty("loadtest.concurrency", Integer.class, 32),
+                env.getProperty("loadtest.warmup-seconds", Integer.class, 10),
+                env.getProperty("loadtest.duration-seconds", Integer.class, 60),
+                Path.of(env.getProperty("loadtest.report-path", "build/reports/loadtest/results.json"))
+        );
+    }
+}
@@ -0,0 +1,98 @@
+package com.runners.app.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramIterationValue;
+
+/**
+ * 엔드포인트별 처리량/지연시간 결과
+ * 콘솔 표와 JSON(로그 스케일 히스토그램 포함)으로 출력합니다.
+ */
+record LoadTestReport(LoadTestOptions options, Map<String, EndpointResult> endpoints, List<String> warnings) {
+
+    /**
+     * 결과만으로는 드러나지 않는 측정 조건 (예: 실행되지 않은 백그라운드 파이프라인)
+     */
+    LoadTestReport withWarning(String warning) {
+        List<String> merged = new ArrayList<>(warnings);
+        merged.add(warning);
+        return new LoadTestReport(options, endpoints, List.copyOf(merged));
+    }
+
+    void print() {
+        System.out.printf("%n%-16s %10s %8s %10s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "rps", "p50(ms)", "p90(ms)", "p99(ms)", "p99.9(ms)", "max(ms)");
+        endpoints.forEach((name, r) -> System.out.printf("%-16s %10d %8d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                name, r.requests(), r.errors(), r.throughputRps(),
+                r.p50Ms(), r.p90Ms(), r.p99Ms(), r.p999Ms(), r.maxMs()));
+        warnings.forEach(warning -> System.out.println("WARNING: " + warning));
+    }
+
+    void writeJson(Path path) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        new ObjectMapper()
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(path.toFile(), this);
+    }
+
+    record EndpointResult(
+            long requests,
+            long errors,
+            double throughputRps,
+            double meanMs,
+            double p50Ms,
+            double p90Ms,
+            double p99Ms,
+            double p999Ms,
+            double maxMs,
+            List<Bucket> histogram
+    ) {
+
+        static EndpointResult of(Histogram histogram, long errors, int durationSeconds) {
+            long requests = histogram.getTotalCount();
+            List<Bucket> buckets = new ArrayList<>();
+            if (requests > 0) {
+                // 100µs부터 2배씩 증가하는 구간
+                for (HistogramIterationValue value : histogram.logarithmicBucketValues(100, 2.0)) {
+                    if (value.getCountAddedInThisIterationStep() > 0) {
+                        buckets.add(new Bucket(
+                                value.getValueIteratedTo() / 1000.0,
+                                value.getCountAddedInThisIterationStep()
+                        ));
+                    }
+                }
+            }
+            return new EndpointResult(
+                    requests,
+                    errors,
+                    durationSeconds > 0 ? (double) requests / durationSeconds : 0,
+                    requests > 0 ? histogram.getMean() / 1000.0 : 0,
+                    percentileMs(histogram, 50),
+                    percentileMs(histogram, 90),
+                    percentileMs(histogram, 99),
+                    percentileMs(histogram, 99.9),
+                    requests > 0 ? histogram.getMaxValue() / 1000.0 : 0,
+                    buckets
+            );
+        }
+
+        private static double percentileMs(Histogram histogram, double percentile) {
+            return histogram.getTotalCount() > 0 ? histogram.getValueAtPercentile(percentile) / 1000.0 : 0;
+        }
+    }
+
+    /**
+     * upToMs 이하 구간에 속한 요청 수
+     */
+    record Bucket(double upToMs, long count) {
+    }
+}
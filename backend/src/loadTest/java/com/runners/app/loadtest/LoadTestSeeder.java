@@ -0,0 +1,206 @@
+package com.runners.app.loadtest;
+
+import com.runners.app.community.post.entity.CommunityPostBoardType;
+import com.runners.app.notification.entity.NotificationType;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 부하 테스트용 데이터 적재 (JDBC batch)
+ * 빈 스키마를 가정하므로 각 테이블의 id는 1부터 순서대로 부여됩니다.
+ */
+@Slf4j
+class LoadTestSeeder {
+
+    private static final int BATCH_SIZE = 5_000;
+    private static final String[] WORDS = {
+            "한강", "러닝", "마라톤", "하프", "페이스", "인터벌", "트랙", "조깅", "회복주", "장거리",
+            "러닝화", "스트레칭", "풀코스", "기록", "훈련", "새벽", "크루", "언덕", "템포런", "부상"
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LoadTestOptions options;
+    private final SplittableRandom random = new SplittableRandom(42);
+    private final LocalDateTime now = LocalDateTime.now();
+
+    LoadTestSeeder(JdbcTemplate jdbcTemplate, LoadTestOptions options) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.options = options;
+    }
+
+    /**
+     * 게시글 createdAt 범위 (가장 오래된 시점), 깊은 페이지 커서 생성에 사용
+     */
+    LocalDateTime oldestPostCreatedAt() {
+        return postCreatedAt(1);
+    }
+
+    LocalDateTime postCreatedAt(long postId) {
+        // id가 클수록 최신 (1분 간격)
+        return now.minusMinutes(options.posts() - postId);
+    }
+
+    void seed() {
+        long started = System.currentTimeMillis();
+        seedUsers();
+        seedPosts();
+        seedPostSummaries();
+        seedComments();
+        seedNotifications();
+        log.warn("Seeded users={}, posts={}, comments={}, notifications={} in {} ms",
+                options.users(), options.posts(), options.comments(), options.notifications(),
+                System.currentTimeMillis() - started);
+    }
+
+    private void seedUsers() {
+        insertInBatches(
+                "insert into users (email, google_sub, role, name, nickname, total_distance_km, run_count) "
+                        + "values (?, ?, 'USER', ?, ?, ?, ?)",
+                options.users(),
+                (ps, i) -> {
+                    long id = i + 1L;
+                    ps.setString(1, "loadtest" + id + "@runners.test");
+                    ps.setString(2, "loadtest-sub-" + id);
+                    ps.setString(3, "러너" + id);
+                    ps.setString(4, "runner" + id);
+                    ps.setDouble(5, random.nextInt(5_000) / 10.0);
+                    ps.setInt(6, random.nextInt(300));
+                }
+        );
+    }
+
+    private void seedPosts() {
+        CommunityPostBoardType[] boardTypes = CommunityPostBoardType.values();
+        int avgComments = options.posts() == 0 ? 0 : options.comments() / options.posts();
+        insertInBatches(
+                "insert into community_posts (author_id, title, content, status, board_type, view_count, "
+                        + "recommend_count, comment_count, created_at, updated_at) "
+                        + "values (?, ?, ?, 'ACTIVE', ?, ?, ?, ?, ?, ?)",
+                options.posts(),
+                (ps, i) -> {
+                    long id = i + 1L;
+                    Timestamp createdAt = Timestamp.valueOf(postCreatedAt(id));
+                    ps.setLong(1, randomUserId());
+                    ps.setString(2, sentence(4) + " #" + id);
+                    ps.setString(3, sentence(40 + random.nextInt(80)));
+                    ps.setString(4, boardTypes[(int) (id % boardTypes.length)].name());
+                    ps.setInt(5, random.nextInt(2_000));
+                    ps.setInt(6, random.nextInt(100));
+                    ps.setInt(7, avgComments);
+                    ps.setTimestamp(8, createdAt);
+                    ps.setTimestamp(9, createdAt);
+                }
+        );
+    }
+
+    /**
+     * 목록 읽기 모델(community_post_summaries)을 게시글과 같은 값으로 채움
+     * (시드에는 이미지가 없으므로 thumbnail_key는 비워 둠)
+     */
+    private void seedPostSummaries() {
+        jdbcTemplate.update(
+                "insert into community_post_summaries (post_id, author_id, author_display_name, "
+                        + "author_custom_picture, author_total_distance_km, board_type, title, content_preview, "
+                        + "view_count, recommend_count, comment_count, created_at) "
+                        + "select p.id, p.author_id, u.nickname, u.custom_picture, u.total_distance_km, p.board_type, "
+                        + "p.title, substring(p.content, 1, 120), p.view_count, p.recommend_count, p.comment_count, "
+                        + "p.created_at from community_posts p join users u on u.id = p.author_id"
+        );
+    }
+
+    private void seedComments() {
+        insertInBatches(
+                "insert into community_comments (post_id, author_id, content, status, recommend_count, "
+                        + "created_at, updated_at) values (?, ?, ?, 'ACTIVE', ?, ?, ?)",
+                options.comments(),
+                (ps, i) -> {
+                    long postId = randomPostId();
+                    Timestamp createdAt = Timestamp.valueOf(postCreatedAt(postId).plusSeconds(1 + random.nextInt(3_600)));
+                    ps.setLong(1, postId);
+                    ps.setLong(2, randomUserId());
+                    ps.setString(3, sentence(5 + random.nextInt(20)));
+                    ps.setInt(4, random.nextInt(20));
+                    ps.setTimestamp(5, createdAt);
+                    ps.setTimestamp(6, createdAt);
+                }
+        );
+    }
+
+    private void seedNotifications() {
+        NotificationType[] types = NotificationType.values();
+        insertInBatches(
+                "insert into notifications (recipient_id, type, related_post_id, related_comment_id, actor_id, "
+                        + "dedupe_key, is_read, created_at) values (?, ?, ?, ?, ?, ?, ?, ?)",
+                options.notifications(),
+                (ps, i) -> {
+                    // 토큰을 발급하는 사용자(1..tokenUsers)에게 알림이 몰리도록 적재
+                    long recipientId = 1 + random.nextInt(Math.max(1, Math.min(options.tokenUsers(), options.users())));
+                    ps.setLong(1, recipientId);
+                    ps.setString(2, types[i % types.length].name());
+                    ps.setLong(3, randomPostId());
+                    if (options.comments() > 0) {
+                        ps.setLong(4, 1 + random.nextInt(options.comments()));
+                    } else {
+                        ps.setNull(4, java.sql.Types.BIGINT);
+                    }
+                    ps.setLong(5, randomUserId());
+                    ps.setString(6, "LOADTEST:" + i);
+                    ps.setBoolean(7, random.nextInt(4) != 0);
+                    ps.setTimestamp(8, Timestamp.valueOf(now.minusSeconds(options.notifications() - i)));
+                }
+        );
+    }
+
+    private long randomUserId() {
+        return 1 + random.nextInt(Math.max(1, options.users()));
+    }
+
+    /**
+     * 최근 게시글에 접근이 몰리도록 1/2 확률로 최신 1% 안에서 선택
+     */
+    private long randomPostId() {
+        int posts = Math.max(1, options.posts());
+        if (random.nextBoolean()) {
+            int hot = Math.max(1, posts / 100);
+            return posts - random.nextInt(hot);
+        }
+        return 1 + random.nextInt(posts);
+    }
+
+    private String randomWord() {
+        return WORDS[random.nextInt(WORDS.length)];
+    }
+
+    private String sentence(int words) {
+        StringBuilder sb = new StringBuilder(words * 4);
+        for (int i = 0; i < words; i++) {
+            if (i > 0) sb.append(' ');
+            sb.append(randomWord());
+        }
+        return sb.toString();
+    }
+
+    private void insertInBatches(String sql, int total, RowSetter setter) {
+        List<Integer> indexes = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < total; i++) {
+            indexes.add(i);
+            if (indexes.size() == BATCH_SIZE || i == total - 1) {
+                List<Integer> batch = indexes;
+                jdbcTemplate.batchUpdate(sql, batch, batch.size(), (ps, index) -> setter.set(ps, index));
+                indexes = new ArrayList<>(BATCH_SIZE);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface RowSetter {
+        void set(PreparedStatement ps, int index) throws SQLException;
+    }
+}
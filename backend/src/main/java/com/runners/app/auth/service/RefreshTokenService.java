@@ -1,5 +1,6 @@
 package com.runners.app.auth.service;
 
+import io.micrometer.core.annotation.Timed;
 import java.time.Duration;
 import java.util.Optional;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -7,6 +8,7 @@ import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 
 @Service
+@Timed(value = "auth.refresh.token.store", histogram = true)
 public class RefreshTokenService {
 
     private static final String USER_KEY_PREFIX = "refresh:user:";
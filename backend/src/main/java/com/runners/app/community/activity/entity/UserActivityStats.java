@@ -0,0 +1,49 @@
+package com.runners.app.community.activity.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자별 커뮤니티 활동 카운터 (프로필 헤더용)
+ *
+ * - post_count: ACTIVE 게시글 수
+ * - commented_post_count: ACTIVE 댓글을 단 게시글 수 (게시글 기준 중복 제거)
+ * - received_recommend_count: ACTIVE 게시글/댓글이 받은 추천 수 합
+ *
+ * 게시글/댓글 쓰기 경로에서 같은 트랜잭션으로, 받은 추천은 커밋 후 버퍼를 거쳐 증감하며, 행이 없으면 첫 조회 때 원본 COUNT로 채웁니다.
+ * 갱신은 UserActivityStatsRepository의 원자적 UPDATE로만 합니다.
+ */
+@Entity
+@Table(
+        name = "user_activity_stats",
+        indexes = {
+                @Index(name = "idx_user_activity_stats_updated_at", columnList = "updated_at")
+        }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UserActivityStats {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "post_count", nullable = false)
+    private long postCount;
+
+    @Column(name = "commented_post_count", nullable = false)
+    private long commentedPostCount;
+
+    @Column(name = "received_recommend_count", nullable = false)
+    private long receivedRecommendCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,11 @@
+package com.runners.app.community.activity.event;
+
+/**
+ * 사용자의 게시글/댓글이 추천을 받거나(+1) 취소당했음(-1)을 알리는 이벤트
+ * 트랜잭션 커밋 후 received_recommend_count 버퍼에 누적됩니다.
+ */
+public record RecommendReceivedEvent(
+        Long authorId,
+        int delta
+) {
+}
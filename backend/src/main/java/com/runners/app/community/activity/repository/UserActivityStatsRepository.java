@@ -0,0 +1,138 @@
+package com.runners.app.community.activity.repository;
+
+import com.runners.app.community.activity.entity.UserActivityStats;
+import com.runners.app.global.status.CommunityContentStatus;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface UserActivityStatsRepository extends JpaRepository<UserActivityStats, Long> {
+
+    /**
+     * 행이 있을 때만 증감 (없으면 다음 조회 때 원본에서 채움), 음수가 되지 않도록 0에서 멈춤
+     */
+    @Modifying
+    @Query(
+            value = """
+            update user_activity_stats
+            set post_count = greatest(0, post_count + :postDelta),
+                commented_post_count = greatest(0, commented_post_count + :commentedPostDelta),
+                received_recommend_count = greatest(0, received_recommend_count + :recommendDelta),
+                updated_at = :now
+            where user_id = :userId
+            """,
+            nativeQuery = true
+    )
+    int applyDelta(
+            @Param("userId") Long userId,
+            @Param("postDelta") long postDelta,
+            @Param("commentedPostDelta") long commentedPostDelta,
+            @Param("recommendDelta") long recommendDelta,
+            @Param("now") LocalDateTime now
+    );
+
+    /**
+     * 첫 조회 시 적재, 이미 있으면 무시
+     */
+    @Modifying
+    @Query(
+            value = """
+            insert ignore into user_activity_stats
+              (user_id, post_count, commented_post_count, received_recommend_count, updated_at)
+            values (:userId, :postCount, :commentedPostCount, :recommendCount, :now)
+            """,
+            nativeQuery = true
+    )
+    int insertIgnore(
+            @Param("userId") Long userId,
+            @Param("postCount") long postCount,
+            @Param("commentedPostCount") long commentedPostCount,
+            @Param("recommendCount") long recommendCount,
+            @Param("now") LocalDateTime now
+    );
+
+    /**
+     * 보정 값으로 덮어쓰기
+     */
+    @Modifying
+    @Query(
+            value = """
+            update user_activity_stats
+            set post_count = :postCount,
+                commented_post_count = :commentedPostCount,
+                received_recommend_count = :recommendCount
+            where user_id = :userId
+            """,
+            nativeQuery = true
+    )
+    int overwrite(
+            @Param("userId") Long userId,
+            @Param("postCount") long postCount,
+            @Param("commentedPostCount") long commentedPostCount,
+            @Param("recommendCount") long recommendCount
+    );
+
+    /**
+     * since 이후 바뀐 행 (보정 대상, user_id 순 페이지)
+     */
+    @Query("""
+            select s.userId from UserActivityStats s
+            where s.updatedAt >= :since
+              and s.userId > :lastUserId
+            order by s.userId asc
+            """)
+    List<Long> findUserIdsUpdatedSince(
+            @Param("since") LocalDateTime since,
+            @Param("lastUserId") Long lastUserId,
+            Pageable pageable
+    );
+
+    @Query("""
+            select p.author.id as userId,
+                   count(p) as postCount,
+                   coalesce(sum(p.recommendCount), 0) as recommendCount
+            from CommunityPost p
+            where p.author.id in :userIds
+              and p.status = :status
+            group by p.author.id
+            """)
+    List<PostActivity> countPostActivities(
+            @Param("userIds") Collection<Long> userIds,
+            @Param("status") CommunityContentStatus status
+    );
+
+    @Query("""
+            select c.author.id as userId,
+                   count(distinct c.post.id) as commentedPostCount,
+                   coalesce(sum(c.recommendCount), 0) as recommendCount
+            from CommunityComment c
+            where c.author.id in :userIds
+              and c.status = :status
+            group by c.author.id
+            """)
+    List<CommentActivity> countCommentActivities(
+            @Param("userIds") Collection<Long> userIds,
+            @Param("status") CommunityContentStatus status
+    );
+
+    interface PostActivity {
+        Long getUserId();
+
+        long getPostCount();
+
+        long getRecommendCount();
+    }
+
+    interface CommentActivity {
+        Long getUserId();
+
+        long getCommentedPostCount();
+
+        long getRecommendCount();
+    }
+}
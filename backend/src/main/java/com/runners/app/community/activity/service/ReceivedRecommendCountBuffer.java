@@ -0,0 +1,99 @@
+package com.runners.app.community.activity.service;
+
+import com.runners.app.community.activity.event.RecommendReceivedEvent;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 받은 추천 수 write-behind 버퍼
+ * 추천/취소가 커밋된 뒤 증감분을 Redis Hash(authorId -> delta)에 누적하고,
+ * ReceivedRecommendCountFlushWorker가 주기적으로 user_activity_stats에 작성자당 UPDATE 1회로 반영합니다.
+ * (인기 작성자의 카운터 행 하나에 추천 트랜잭션이 줄 서지 않도록 추천 트랜잭션에서는 갱신하지 않음)
+ */
+@Slf4j
+@Service
+public class ReceivedRecommendCountBuffer {
+
+    static final String PENDING_KEY = "community:activity:received-recommend:pending";
+
+    // HGETALL + DEL을 원자적으로 수행하여 여러 인스턴스가 동시에 flush해도 중복 반영되지 않도록 함
+    @SuppressWarnings("rawtypes")
+    private static final DefaultRedisScript<List> DRAIN_SCRIPT = new DefaultRedisScript<>(
+            "local entries = redis.call('HGETALL', KEYS[1]) "
+                    + "redis.call('DEL', KEYS[1]) "
+                    + "return entries",
+            List.class
+    );
+
+    private final StringRedisTemplate redis;
+
+    public ReceivedRecommendCountBuffer(StringRedisTemplate redis) {
+        this.redis = redis;
+    }
+
+    /**
+     * 누락분은 UserActivityStatsRepairWorker가 원본 기준으로 맞춤
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleRecommendReceived(RecommendReceivedEvent event) {
+        if (event.authorId() == null || event.delta() == 0) return;
+        try {
+            redis.opsForHash().increment(PENDING_KEY, String.valueOf(event.authorId()), event.delta());
+        } catch (Exception e) {
+            log.warn("Failed to buffer received recommend: authorId={}, delta={}", event.authorId(), event.delta(), e);
+        }
+    }
+
+    /**
+     * 누적된 증감분을 꺼내고 버퍼를 비움
+     */
+    @SuppressWarnings("unchecked")
+    public Map<Long, Long> drain() {
+        List<Object> entries = redis.execute(DRAIN_SCRIPT, List.of(PENDING_KEY));
+        if (entries == null || entries.isEmpty()) return Collections.emptyMap();
+
+        Map<Long, Long> deltas = new HashMap<>(entries.size() / 2);
+        for (int i = 0; i + 1 < entries.size(); i += 2) {
+            deltas.put(
+                    Long.parseLong(entries.get(i).toString()),
+                    Long.parseLong(entries.get(i + 1).toString())
+            );
+        }
+        return deltas;
+    }
+
+    /**
+     * 아직 반영되지 않은 증감분이 있는 작성자 (보정 대상에서 제외용)
+     */
+    public Set<Long> pendingAuthorIds(Collection<Long> authorIds) {
+        if (authorIds.isEmpty()) return Collections.emptySet();
+
+        List<Object> fields = authorIds.stream().<Object>map(String::valueOf).toList();
+        List<Object> values = redis.opsForHash().multiGet(PENDING_KEY, fields);
+        Set<Long> pending = new HashSet<>();
+        int i = 0;
+        for (Long authorId : authorIds) {
+            if (values.get(i++) != null) pending.add(authorId);
+        }
+        return pending;
+    }
+
+    /**
+     * DB 반영에 실패한 증감분을 버퍼에 되돌림
+     */
+    public void restore(Map<Long, Long> deltas) {
+        deltas.forEach((authorId, delta) ->
+                redis.opsForHash().increment(PENDING_KEY, String.valueOf(authorId), delta));
+    }
+}
@@ -0,0 +1,52 @@
+package com.runners.app.community.activity.service;
+
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis에 누적된 받은 추천 증감분을 주기적으로 user_activity_stats에 반영하는 워커
+ * 기본 1초마다 실행
+ */
+@Slf4j
+@Component
+public class ReceivedRecommendCountFlushWorker {
+
+    private final ReceivedRecommendCountBuffer receivedRecommendCountBuffer;
+    private final UserActivityStatsService userActivityStatsService;
+
+    public ReceivedRecommendCountFlushWorker(
+            ReceivedRecommendCountBuffer receivedRecommendCountBuffer,
+            UserActivityStatsService userActivityStatsService
+    ) {
+        this.receivedRecommendCountBuffer = receivedRecommendCountBuffer;
+        this.userActivityStatsService = userActivityStatsService;
+    }
+
+    @Scheduled(fixedDelayString = "${app.community.activity-stats.recommend-flush-interval-ms:1000}")
+    public void flushPendingRecommends() {
+        Map<Long, Long> deltas;
+        try {
+            deltas = receivedRecommendCountBuffer.drain();
+        } catch (Exception e) {
+            log.error("Failed to drain pending received recommends", e);
+            return;
+        }
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        try {
+            userActivityStatsService.applyReceivedRecommends(deltas);
+            log.debug("Flushed pending received recommends: users={}", deltas.size());
+        } catch (Exception e) {
+            log.error("Failed to flush pending received recommends, restoring buffer: users={}", deltas.size(), e);
+            try {
+                receivedRecommendCountBuffer.restore(deltas);
+            } catch (Exception restoreError) {
+                log.error("Failed to restore pending received recommends: {}", deltas, restoreError);
+            }
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.runners.app.community.activity.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 최근 바뀐 사용자 활동 카운터를 표본으로 점검해 원본과 어긋난 행만 고치는 워커
+ * 기본 5분마다 최근 10분 안에 바뀐 행(id만 조회) 중 최대 sample-size명을 무작위로 골라 원본 COUNT와 비교합니다.
+ * 매번 모두 다시 세지 않으므로 오차는 여러 번에 걸쳐 수렴하며, 고친 비율은 로그로 남깁니다. (보정은 updated_at을 바꾸지 않음)
+ */
+@Slf4j
+@Component
+public class UserActivityStatsRepairWorker {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final UserActivityStatsService userActivityStatsService;
+    private final ReceivedRecommendCountBuffer receivedRecommendCountBuffer;
+    private final long windowMinutes;
+    private final int sampleSize;
+
+    public UserActivityStatsRepairWorker(
+            UserActivityStatsService userActivityStatsService,
+            ReceivedRecommendCountBuffer receivedRecommendCountBuffer,
+            @Value("${app.community.activity-stats.repair-window-minutes:10}") long windowMinutes,
+            @Value("${app.community.activity-stats.repair-sample-size:200}") int sampleSize
+    ) {
+        this.userActivityStatsService = userActivityStatsService;
+        this.receivedRecommendCountBuffer = receivedRecommendCountBuffer;
+        this.windowMinutes = Math.max(1, windowMinutes);
+        this.sampleSize = Math.max(1, sampleSize);
+    }
+
+    @Scheduled(fixedDelayString = "${app.community.activity-stats.repair-interval-ms:300000}")
+    public void repairRecentlyUpdated() {
+        try {
+            LocalDateTime since = LocalDateTime.now().minusMinutes(windowMinutes);
+            List<Long> sample = new ArrayList<>(sampleSize);
+            long candidates = 0;
+            long lastUserId = 0;
+            while (true) {
+                List<Long> userIds = userActivityStatsService.findUpdatedSince(since, lastUserId, BATCH_SIZE);
+                if (userIds.isEmpty()) {
+                    break;
+                }
+                // reservoir sampling: 후보 전체에서 균등하게 sampleSize명
+                for (Long userId : userIds) {
+                    candidates++;
+                    if (sample.size() < sampleSize) {
+                        sample.add(userId);
+                    } else {
+                        long slot = ThreadLocalRandom.current().nextLong(candidates);
+                        if (slot < sampleSize) sample.set((int) slot, userId);
+                    }
+                }
+                lastUserId = userIds.get(userIds.size() - 1);
+            }
+
+            // 버퍼에 남은 증감분이 있는 사용자는 원본으로 덮으면 flush 때 이중 반영되므로 다음 회차로 미룸
+            sample.removeAll(receivedRecommendCountBuffer.pendingAuthorIds(sample));
+            int repaired = userActivityStatsService.repair(sample);
+            if (repaired > 0) {
+                log.info("Repaired user activity stats: repaired={}, sampled={}, candidates={}",
+                        repaired, sample.size(), candidates);
+            }
+        } catch (Exception e) {
+            log.error("Failed to repair user activity stats", e);
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.runners.app.community.activity.service;
+
+import com.runners.app.community.activity.entity.UserActivityStats;
+import com.runners.app.community.activity.repository.UserActivityStatsRepository;
+import com.runners.app.community.comment.repository.CommunityCommentRepository;
+import com.runners.app.global.status.CommunityContentStatus;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * user_activity_stats 조회/증감/보정
+ *
+ * 게시글/댓글 증감 메서드는 게시글/댓글 서비스의 트랜잭션 안에서 호출되어 원본과 함께 커밋/롤백됩니다.
+ * 받은 추천 수는 추천 트랜잭션에서 바꾸지 않고 커밋 후 버퍼(ReceivedRecommendCountBuffer)를 거쳐 모아서 반영합니다.
+ * 행이 없는 사용자는 증감을 건너뛰고 첫 조회 때 원본 COUNT로 채우므로 초기값이 틀어지지 않습니다.
+ * 동시 요청이나 버퍼 유실로 생길 수 있는 오차는 UserActivityStatsRepairWorker가 최근 바뀐 행을 표본으로 점검해 맞춥니다.
+ */
+@Service
+public class UserActivityStatsService {
+
+    private final UserActivityStatsRepository userActivityStatsRepository;
+    private final CommunityCommentRepository communityCommentRepository;
+
+    public UserActivityStatsService(
+            UserActivityStatsRepository userActivityStatsRepository,
+            CommunityCommentRepository communityCommentRepository
+    ) {
+        this.userActivityStatsRepository = userActivityStatsRepository;
+        this.communityCommentRepository = communityCommentRepository;
+    }
+
+    /**
+     * 프로필 헤더용 카운터 (PK 조회 1회, 없으면 원본에서 채움)
+     */
+    @Transactional
+    public Counts get(Long userId) {
+        UserActivityStats stats = userActivityStatsRepository.findById(userId).orElse(null);
+        if (stats != null) {
+            return new Counts(stats.getPostCount(), stats.getCommentedPostCount(), stats.getReceivedRecommendCount());
+        }
+
+        Counts counts = countFromSource(List.of(userId)).get(userId);
+        userActivityStatsRepository.insertIgnore(
+                userId,
+                counts.postCount(),
+                counts.commentedPostCount(),
+                counts.receivedRecommendCount(),
+                LocalDateTime.now()
+        );
+        return counts;
+    }
+
+    public void postCreated(Long authorId) {
+        apply(authorId, 1, 0, 0);
+    }
+
+    /**
+     * 삭제된 게시글이 받은 추천은 더 이상 세지 않음
+     */
+    public void postDeleted(Long authorId, int recommendCount) {
+        apply(authorId, -1, 0, -recommendCount);
+    }
+
+    /**
+     * 댓글 저장 후 호출, 이 게시글에 단 첫 ACTIVE 댓글일 때만 commented_post_count 증가
+     */
+    public void commentCreated(Long authorId, Long postId) {
+        if (communityCommentRepository.countByPostIdAndAuthorIdAndStatus(postId, authorId, CommunityContentStatus.ACTIVE) == 1) {
+            apply(authorId, 0, 1, 0);
+        }
+    }
+
+    /**
+     * 댓글 삭제 표시 후 호출, 이 게시글에 남은 ACTIVE 댓글이 없으면 commented_post_count 감소
+     */
+    public void commentDeleted(Long authorId, Long postId, int recommendCount) {
+        boolean lastComment = communityCommentRepository
+                .countByPostIdAndAuthorIdAndStatus(postId, authorId, CommunityContentStatus.ACTIVE) == 0;
+        apply(authorId, 0, lastComment ? -1 : 0, -recommendCount);
+    }
+
+    /**
+     * 버퍼에 모인 받은 추천 증감분 반영 (작성자당 UPDATE 1회)
+     */
+    @Transactional
+    public void applyReceivedRecommends(Map<Long, Long> deltas) {
+        deltas.forEach((authorId, delta) -> apply(authorId, 0, 0, delta == null ? 0 : delta));
+    }
+
+    /**
+     * since 이후 바뀐 행 중 lastUserId 다음부터 최대 limit명의 id
+     */
+    @Transactional(readOnly = true)
+    public List<Long> findUpdatedSince(LocalDateTime since, Long lastUserId, int limit) {
+        return userActivityStatsRepository.findUserIdsUpdatedSince(
+                since,
+                lastUserId,
+                PageRequest.of(0, limit)
+        );
+    }
+
+    /**
+     * 원본과 비교해 어긋난 행만 덮어쓰기 (그룹 COUNT 2회)
+     *
+     * @return 실제로 고친 행 수
+     */
+    @Transactional
+    public int repair(Collection<Long> userIds) {
+        if (userIds.isEmpty()) return 0;
+
+        Map<Long, Counts> source = countFromSource(userIds);
+        int repaired = 0;
+        for (UserActivityStats stats : userActivityStatsRepository.findAllById(userIds)) {
+            Counts counts = source.get(stats.getUserId());
+            Counts current = new Counts(stats.getPostCount(), stats.getCommentedPostCount(), stats.getReceivedRecommendCount());
+            if (counts == null || counts.equals(current)) continue;
+
+            userActivityStatsRepository.overwrite(
+                    stats.getUserId(),
+                    counts.postCount(),
+                    counts.commentedPostCount(),
+                    counts.receivedRecommendCount()
+            );
+            repaired++;
+        }
+        return repaired;
+    }
+
+    private void apply(Long userId, long postDelta, long commentedPostDelta, long recommendDelta) {
+        if (userId == null || (postDelta == 0 && commentedPostDelta == 0 && recommendDelta == 0)) return;
+        userActivityStatsRepository.applyDelta(userId, postDelta, commentedPostDelta, recommendDelta, LocalDateTime.now());
+    }
+
+    private Map<Long, Counts> countFromSource(Collection<Long> userIds) {
+        Map<Long, long[]> values = new HashMap<>();
+        for (Long userId : userIds) {
+            values.put(userId, new long[3]);
+        }
+        for (UserActivityStatsRepository.PostActivity row
+                : userActivityStatsRepository.countPostActivities(userIds, CommunityContentStatus.ACTIVE)) {
+            long[] value = values.get(row.getUserId());
+            value[0] = row.getPostCount();
+            value[2] += row.getRecommendCount();
+        }
+        for (UserActivityStatsRepository.CommentActivity row
+                : userActivityStatsRepository.countCommentActivities(userIds, CommunityContentStatus.ACTIVE)) {
+            long[] value = values.get(row.getUserId());
+            value[1] = row.getCommentedPostCount();
+            value[2] += row.getRecommendCount();
+        }
+
+        Map<Long, Counts> counts = new HashMap<>(values.size());
+        values.forEach((userId, value) -> counts.put(userId, new Counts(value[0], value[1], value[2])));
+        return counts;
+    }
+
+    /**
+     * 사용자 활동 카운터 값
+     */
+    public record Counts(long postCount, long commentedPostCount, long receivedRecommendCount) {
+    }
+}
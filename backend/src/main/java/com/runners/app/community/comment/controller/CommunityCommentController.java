@@ -2,6 +2,7 @@ package com.runners.app.community.comment.controller;
 
 import com.runners.app.community.comment.dto.request.CreateCommunityCommentRequest;
 import com.runners.app.community.comment.dto.response.CommunityCommentCursorListResponse;
+import com.runners.app.community.comment.dto.response.CommunityCommentThreadListResponse;
 import com.runners.app.community.comment.dto.response.CommunityCommentMutationResponse;
 import com.runners.app.community.comment.dto.response.DeleteCommunityCommentResponse;
 import com.runners.app.community.comment.service.CommunityCommentService;
@@ -66,6 +67,16 @@ public class CommunityCommentController {
         return communityCommentService.listComments(postId, cursor, size);
     }
 
+    @Operation(summary = "댓글 스레드 목록 조회", description = "최상위 댓글 단위 커서 페이지네이션, 각 댓글의 답글(답글의 답글 포함)과 답글 수를 함께 반환")
+    @GetMapping("/threads")
+    public CommunityCommentThreadListResponse listCommentThreads(
+            @PathVariable Long postId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return communityCommentService.listCommentThreads(postId, cursor, size);
+    }
+
     @Operation(summary = "댓글 삭제", description = "댓글 작성자만 삭제 가능(soft delete)")
     @DeleteMapping("/{commentId}")
     public DeleteCommunityCommentResponse deleteComment(
@@ -0,0 +1,8 @@
+package com.runners.app.community.comment.dto.response;
+
+import java.util.List;
+
+public record CommunityCommentThreadListResponse(
+        List<CommunityCommentThreadResponse> threads,
+        String nextCursor
+) {}
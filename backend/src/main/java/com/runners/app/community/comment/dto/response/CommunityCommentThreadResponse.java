@@ -0,0 +1,17 @@
+package com.runners.app.community.comment.dto.response;
+
+import java.util.List;
+
+/**
+ * 최상위 댓글 1개와 그 아래 모든 답글
+ *
+ * @param replyCount 전체 답글 수 (답글의 답글 포함, replies에 다 담기지 않았어도 실제 수)
+ * @param replies 작성 순, parentId로 트리 구성
+ * @param hasMoreReplies 깊이/개수 제한으로 replies에 빠진 답글이 있으면 true
+ */
+public record CommunityCommentThreadResponse(
+        CommunityCommentResponse comment,
+        int replyCount,
+        List<CommunityCommentResponse> replies,
+        boolean hasMoreReplies
+) {}
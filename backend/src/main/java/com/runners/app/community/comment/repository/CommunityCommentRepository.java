@@ -3,31 +3,41 @@ package com.runners.app.community.comment.repository;
 import com.runners.app.global.status.CommunityContentStatus;
 import com.runners.app.community.comment.entity.CommunityComment;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
-import jakarta.persistence.LockModeType;
 
 public interface CommunityCommentRepository extends JpaRepository<CommunityComment, Long> {
 
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("""
             select c from CommunityComment c
-            join fetch c.author a
             left join fetch c.parent p
-            where c.id = :commentId
+            where c.post.id = :postId
+              and (
+                :cursorCreatedAt is null
+                or c.createdAt > :cursorCreatedAt
+                or (c.createdAt = :cursorCreatedAt and c.id > :cursorId)
+              )
+            order by c.createdAt asc, c.id asc
             """)
-    Optional<CommunityComment> findByIdForUpdate(@Param("commentId") Long commentId);
+    List<CommunityComment> findForCursor(
+            @Param("postId") Long postId,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable
+    );
 
+    /**
+     * 최상위 댓글(parent 없음)만 작성 순으로
+     */
     @Query("""
             select c from CommunityComment c
-            join fetch c.author a
-            left join fetch c.parent p
             where c.post.id = :postId
+              and c.parent is null
               and (
                 :cursorCreatedAt is null
                 or c.createdAt > :cursorCreatedAt
@@ -35,13 +45,46 @@ public interface CommunityCommentRepository extends JpaRepository<CommunityComme
               )
             order by c.createdAt asc, c.id asc
             """)
-    List<CommunityComment> findForCursor(
+    List<CommunityComment> findRootsForCursor(
             @Param("postId") Long postId,
             @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
             @Param("cursorId") Long cursorId,
             Pageable pageable
     );
 
+    /**
+     * parentIds의 바로 아래 답글 (idx_community_comments_parent_id_created_at)
+     */
+    @Query("""
+            select c from CommunityComment c
+            where c.parent.id in :parentIds
+            order by c.createdAt asc, c.id asc
+            """)
+    List<CommunityComment> findRepliesByParentIdIn(
+            @Param("parentIds") Collection<Long> parentIds,
+            Pageable pageable
+    );
+
+    /**
+     * 최상위 댓글별 전체 답글 수 (답글의 답글 포함, parent_id 재귀 조회)
+     */
+    @Query(
+            value = """
+            with recursive thread_comments (root_id, id) as (
+              select c.id, c.id from community_comments c where c.id in (:rootIds)
+              union all
+              select t.root_id, c.id
+              from community_comments c
+              join thread_comments t on c.parent_id = t.id
+            )
+            select root_id as rootId, count(*) - 1 as replyCount
+            from thread_comments
+            group by root_id
+            """,
+            nativeQuery = true
+    )
+    List<ThreadReplyCount> countThreadReplies(@Param("rootIds") Collection<Long> rootIds);
+
     @Query("""
             select c from CommunityComment c
             join fetch c.post p
@@ -72,6 +115,21 @@ public interface CommunityCommentRepository extends JpaRepository<CommunityComme
             @Param("status") CommunityContentStatus status
     );
 
+    /**
+     * 한 사용자가 한 게시글에 단 댓글 수 (idx_community_comments_author_id_post_id)
+     */
+    @Query("""
+            select count(c) from CommunityComment c
+            where c.post.id = :postId
+              and c.author.id = :authorId
+              and c.status = :status
+            """)
+    long countByPostIdAndAuthorIdAndStatus(
+            @Param("postId") Long postId,
+            @Param("authorId") Long authorId,
+            @Param("status") CommunityContentStatus status
+    );
+
     @Query("""
             select distinct c.author.id from CommunityComment c
             where c.post.id = :postId
@@ -83,4 +141,51 @@ public interface CommunityCommentRepository extends JpaRepository<CommunityComme
             @Param("excludeAuthorId") Long excludeAuthorId,
             @Param("status") CommunityContentStatus status
     );
+
+    @Modifying
+    @Query("""
+            update CommunityComment c
+            set c.recommendCount = c.recommendCount + 1
+            where c.id = :commentId
+            """)
+    int increaseRecommendCount(@Param("commentId") Long commentId);
+
+    @Modifying
+    @Query("""
+            update CommunityComment c
+            set c.recommendCount = c.recommendCount - 1
+            where c.id = :commentId
+              and c.recommendCount > 0
+            """)
+    int decreaseRecommendCount(@Param("commentId") Long commentId);
+
+    @Query("""
+            select c.recommendCount from CommunityComment c
+            where c.id = :commentId
+            """)
+    int findRecommendCountById(@Param("commentId") Long commentId);
+
+    @Query("""
+            select c.post.id as postId, c.content as content
+            from CommunityComment c
+            where c.post.id in :postIds
+              and c.status = :status
+            order by c.post.id asc, c.id asc
+            """)
+    List<PostCommentContent> findContentsByPostIdIn(
+            @Param("postIds") Collection<Long> postIds,
+            @Param("status") CommunityContentStatus status
+    );
+
+    interface PostCommentContent {
+        Long getPostId();
+
+        String getContent();
+    }
+
+    interface ThreadReplyCount {
+        Long getRootId();
+
+        long getReplyCount();
+    }
 }
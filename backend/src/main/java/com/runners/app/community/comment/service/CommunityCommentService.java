@@ -1,34 +1,60 @@
 package com.runners.app.community.comment.service;
 
+import com.runners.app.community.activity.service.UserActivityStatsService;
 import com.runners.app.community.comment.dto.response.CommunityCommentMutationResponse;
 import com.runners.app.global.status.CommunityContentStatus;
 import com.runners.app.community.comment.entity.CommunityComment;
 import com.runners.app.community.comment.dto.request.CreateCommunityCommentRequest;
 import com.runners.app.community.comment.dto.response.CommunityCommentResponse;
 import com.runners.app.community.comment.dto.response.CommunityCommentCursorListResponse;
+import com.runners.app.community.comment.dto.response.CommunityCommentThreadListResponse;
+import com.runners.app.community.comment.dto.response.CommunityCommentThreadResponse;
 import com.runners.app.community.comment.dto.response.DeleteCommunityCommentResponse;
 import com.runners.app.community.comment.event.CommentCreatedEvent;
 import com.runners.app.community.comment.repository.CommunityCommentRepository;
 import com.runners.app.community.post.entity.CommunityPost;
+import com.runners.app.community.post.event.CommunityPostChangedEvent;
+import com.runners.app.community.post.event.CommunityPostEngagementEvent;
+import com.runners.app.community.post.event.CommunityPostTextChangedEvent;
 import com.runners.app.community.post.repository.CommunityPostRepository;
+import com.runners.app.community.post.service.CommunityPostSummaryProjector;
 import com.runners.app.community.exception.CommunityDomainException;
-import com.runners.app.global.util.CursorUtils;
+import com.runners.app.global.util.CursorCodec;
+import com.runners.app.user.cache.AuthorCard;
+import com.runners.app.user.cache.AuthorCardCache;
 import com.runners.app.user.repository.UserRepository;
 import com.runners.app.user.service.UserProfileImageResolver;
+import io.micrometer.core.annotation.Timed;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
+@Timed(value = "community.comment.service", histogram = true)
 public class CommunityCommentService {
 
+    private static final int THREAD_MAX_DEPTH = 10;
+    private static final int THREAD_MAX_REPLIES = 1000;
+    private static final Comparator<CommunityComment> THREAD_ORDER = Comparator
+            .comparing(CommunityComment::getCreatedAt)
+            .thenComparing(CommunityComment::getId);
+
     private final CommunityCommentRepository communityCommentRepository;
     private final CommunityPostRepository communityPostRepository;
     private final UserRepository userRepository;
     private final UserProfileImageResolver userProfileImageResolver;
+    private final CommunityPostSummaryProjector communityPostSummaryProjector;
+    private final AuthorCardCache authorCardCache;
+    private final UserActivityStatsService userActivityStatsService;
+    private final CursorCodec cursorCodec;
     private final ApplicationEventPublisher eventPublisher;
 
     public CommunityCommentService(
@@ -36,12 +62,20 @@ public class CommunityCommentService {
             CommunityPostRepository communityPostRepository,
             UserRepository userRepository,
             UserProfileImageResolver userProfileImageResolver,
+            CommunityPostSummaryProjector communityPostSummaryProjector,
+            AuthorCardCache authorCardCache,
+            UserActivityStatsService userActivityStatsService,
+            CursorCodec cursorCodec,
             ApplicationEventPublisher eventPublisher
     ) {
         this.communityCommentRepository = communityCommentRepository;
         this.communityPostRepository = communityPostRepository;
         this.userRepository = userRepository;
         this.userProfileImageResolver = userProfileImageResolver;
+        this.communityPostSummaryProjector = communityPostSummaryProjector;
+        this.authorCardCache = authorCardCache;
+        this.userActivityStatsService = userActivityStatsService;
+        this.cursorCodec = cursorCodec;
         this.eventPublisher = eventPublisher;
     }
 
@@ -69,6 +103,16 @@ public class CommunityCommentService {
         );
 
         post.increaseCommentCount();
+        communityPostSummaryProjector.increaseCommentCount(post.getId());
+        userActivityStatsService.commentCreated(author.getId(), post.getId());
+        eventPublisher.publishEvent(new CommunityPostChangedEvent(post.getId(), post.getBoardType()));
+        eventPublisher.publishEvent(new CommunityPostTextChangedEvent(post.getId()));
+        eventPublisher.publishEvent(new CommunityPostEngagementEvent(
+                post.getId(),
+                CommunityPostEngagementEvent.Type.COMMENT,
+                1,
+                saved.getCreatedAt()
+        ));
 
         // 트랜잭션 커밋 후 Outbox 적재를 위한 이벤트 발행
         // 트랜잭션이 성공적으로 커밋된 후에만 이벤트 리스너가 실행됨
@@ -115,6 +159,7 @@ public class CommunityCommentService {
 
         // 내용 변경
         comment.updateContent(request.content());
+        eventPublisher.publishEvent(new CommunityPostTextChangedEvent(post.getId()));
 
         var updated = new CommunityCommentResponse(
             comment.getId(),
@@ -154,6 +199,16 @@ public class CommunityCommentService {
 
         comment.markDeleted();
         post.decreaseCommentCount();
+        communityPostSummaryProjector.decreaseCommentCount(post.getId());
+        userActivityStatsService.commentDeleted(comment.getAuthor().getId(), post.getId(), comment.getRecommendCount());
+        eventPublisher.publishEvent(new CommunityPostChangedEvent(post.getId(), post.getBoardType()));
+        eventPublisher.publishEvent(new CommunityPostTextChangedEvent(post.getId()));
+        eventPublisher.publishEvent(new CommunityPostEngagementEvent(
+                post.getId(),
+                CommunityPostEngagementEvent.Type.COMMENT,
+                -1,
+                comment.getCreatedAt()
+        ));
 
         return new DeleteCommunityCommentResponse(
                 comment.getId(),
@@ -168,7 +223,7 @@ public class CommunityCommentService {
         findActivePostOrThrow(postId);
 
         int safeSize = Math.min(50, Math.max(1, size));
-        CursorUtils.Cursor decodedCursor = CursorUtils.decodeCursor(cursor);
+        CursorCodec.Cursor decodedCursor = cursorCodec.decodeCursor(cursor);
         int fetchSize = safeSize + 1;
 
         List<CommunityComment> fetched = communityCommentRepository.findForCursor(
@@ -180,36 +235,128 @@ public class CommunityCommentService {
 
         boolean hasNext = fetched.size() > safeSize;
         List<CommunityComment> pageItems = hasNext ? fetched.subList(0, safeSize) : fetched;
+        Map<Long, AuthorCard> authorCards = authorCardCache.getAll(
+                pageItems.stream().map(comment -> comment.getAuthor().getId()).toList()
+        );
 
         List<CommunityCommentResponse> comments = pageItems.stream()
-                .map(comment -> {
-                    boolean isDeleted = comment.getStatus() == CommunityContentStatus.DELETED;
-                    String content = isDeleted ? "삭제된 댓글입니다" : comment.getContent();
-                     return new CommunityCommentResponse(
-                             comment.getId(),
-                             postId,
-                             comment.getAuthor().getId(),
-                             comment.getAuthor().getDisplayName(),
-                             userProfileImageResolver.resolve(comment.getAuthor()),
-                             comment.getAuthor().getTotalDistanceKm(),
-                             comment.getParent() == null ? null : comment.getParent().getId(),
-                             content,
-                             comment.getRecommendCount(),
-                             comment.getCreatedAt(),
-                             comment.getUpdatedAt()
-                     );
-                })
+                .map(comment -> toCommentResponse(comment, postId, authorCards))
                 .toList();
 
         String nextCursor = null;
         if (hasNext && !pageItems.isEmpty()) {
             CommunityComment last = pageItems.get(pageItems.size() - 1);
-            nextCursor = CursorUtils.encodeCursor(last.getCreatedAt(), last.getId());
+            nextCursor = cursorCodec.encodeCursor(last.getCreatedAt(), last.getId());
         }
 
         return new CommunityCommentCursorListResponse(comments, nextCursor);
     }
 
+    /**
+     * 스레드 목록: 최상위 댓글을 페이지 단위로 읽고, 그 아래 답글은 parent_id IN 조회로 한 번에 붙임
+     * 답글의 답글이 있으면 깊이마다 1번씩 더 조회합니다. (깊이 THREAD_MAX_DEPTH, 페이지당 답글 THREAD_MAX_REPLIES개까지)
+     * replyCount는 제한과 무관하게 원본에서 센 전체 답글 수이고, 제한에 걸려 빠진 답글이 있으면 hasMoreReplies가 true입니다.
+     * 작성자 정보는 페이지 전체(최상위 + 답글)에 대해 AuthorCardCache 1회로 채웁니다.
+     */
+    @Transactional(readOnly = true)
+    public CommunityCommentThreadListResponse listCommentThreads(Long postId, String cursor, int size) {
+        findActivePostOrThrow(postId);
+
+        int safeSize = Math.min(50, Math.max(1, size));
+        CursorCodec.Cursor decodedCursor = cursorCodec.decodeCursor(cursor);
+
+        List<CommunityComment> fetched = communityCommentRepository.findRootsForCursor(
+                postId,
+                decodedCursor == null ? null : decodedCursor.createdAt(),
+                decodedCursor == null ? 0L : decodedCursor.id(),
+                PageRequest.of(0, safeSize + 1)
+        );
+
+        boolean hasNext = fetched.size() > safeSize;
+        List<CommunityComment> roots = hasNext ? fetched.subList(0, safeSize) : fetched;
+
+        Map<Long, Long> rootIdByCommentId = new HashMap<>();
+        Map<Long, List<CommunityComment>> repliesByRootId = new HashMap<>();
+        for (CommunityComment root : roots) {
+            rootIdByCommentId.put(root.getId(), root.getId());
+            repliesByRootId.put(root.getId(), new ArrayList<>());
+        }
+
+        List<CommunityComment> replies = new ArrayList<>();
+        List<Long> parentIds = roots.stream().map(CommunityComment::getId).toList();
+        for (int depth = 0; depth < THREAD_MAX_DEPTH && !parentIds.isEmpty() && replies.size() < THREAD_MAX_REPLIES; depth++) {
+            List<CommunityComment> level = communityCommentRepository.findRepliesByParentIdIn(
+                    parentIds,
+                    PageRequest.of(0, THREAD_MAX_REPLIES - replies.size())
+            );
+            List<Long> nextParentIds = new ArrayList<>(level.size());
+            for (CommunityComment reply : level) {
+                Long rootId = rootIdByCommentId.get(reply.getParent().getId());
+                rootIdByCommentId.put(reply.getId(), rootId);
+                repliesByRootId.get(rootId).add(reply);
+                nextParentIds.add(reply.getId());
+            }
+            replies.addAll(level);
+            parentIds = nextParentIds;
+        }
+
+        Map<Long, Long> replyCountByRootId = new HashMap<>();
+        if (!roots.isEmpty()) {
+            communityCommentRepository.countThreadReplies(repliesByRootId.keySet())
+                    .forEach(row -> replyCountByRootId.put(row.getRootId(), row.getReplyCount()));
+        }
+
+        List<Long> authorIds = new ArrayList<>(roots.size() + replies.size());
+        roots.forEach(comment -> authorIds.add(comment.getAuthor().getId()));
+        replies.forEach(comment -> authorIds.add(comment.getAuthor().getId()));
+        Map<Long, AuthorCard> authorCards = authorCardCache.getAll(authorIds);
+
+        List<CommunityCommentThreadResponse> threads = new ArrayList<>(roots.size());
+        for (CommunityComment root : roots) {
+            List<CommunityComment> thread = repliesByRootId.get(root.getId());
+            // 깊이별로 모았으므로 작성 순으로 다시 정렬
+            thread.sort(THREAD_ORDER);
+            long replyCount = Math.max(thread.size(), replyCountByRootId.getOrDefault(root.getId(), 0L));
+            threads.add(new CommunityCommentThreadResponse(
+                    toCommentResponse(root, postId, authorCards),
+                    (int) replyCount,
+                    thread.stream().map(reply -> toCommentResponse(reply, postId, authorCards)).toList(),
+                    replyCount > thread.size()
+            ));
+        }
+
+        String nextCursor = null;
+        if (hasNext && !roots.isEmpty()) {
+            CommunityComment last = roots.get(roots.size() - 1);
+            nextCursor = cursorCodec.encodeCursor(last.getCreatedAt(), last.getId());
+        }
+
+        return new CommunityCommentThreadListResponse(threads, nextCursor);
+    }
+
+    private static CommunityCommentResponse toCommentResponse(
+            CommunityComment comment,
+            Long postId,
+            Map<Long, AuthorCard> authorCards
+    ) {
+        boolean isDeleted = comment.getStatus() == CommunityContentStatus.DELETED;
+        String content = isDeleted ? "삭제된 댓글입니다" : comment.getContent();
+        AuthorCard author = authorCards.get(comment.getAuthor().getId());
+        return new CommunityCommentResponse(
+                comment.getId(),
+                postId,
+                comment.getAuthor().getId(),
+                author == null ? null : author.displayName(),
+                author == null ? null : author.profileImageUrl(),
+                author == null ? null : author.totalDistanceKm(),
+                comment.getParent() == null ? null : comment.getParent().getId(),
+                content,
+                comment.getRecommendCount(),
+                comment.getCreatedAt(),
+                comment.getUpdatedAt()
+        );
+    }
+
     private void validatePositiveIdOrThrow(Long id, String fieldName) {
         if (id == null || id <= 0) {
             throw CommunityDomainException.invalidId(fieldName);
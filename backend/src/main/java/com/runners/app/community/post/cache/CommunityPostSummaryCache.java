@@ -0,0 +1,270 @@
+package com.runners.app.community.post.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.runners.app.community.post.dto.response.CommunityPostCursorListResponse;
+import com.runners.app.community.post.dto.response.CommunityPostSummaryResponse;
+import com.runners.app.community.post.entity.CommunityPostBoardType;
+import com.runners.app.community.post.event.CommunityPostChangedEvent;
+import com.runners.app.global.util.CursorCodec;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntFunction;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 게시판 첫 구간(head window) 목록 캐시
+ * L1: 프로세스 로컬 Caffeine (짧은 TTL), L2: Redis (DB 0번)
+ *
+ * 게시판별 최신 N개 요약을 한 덩어리로 캐시하고, 요청 커서가 이 구간 안에 있으면 잘라서 응답합니다.
+ * 커서가 구간을 벗어나면 null을 반환하여 DB 조회로 넘깁니다.
+ * 게시글 생성/수정/삭제, 댓글/추천 카운터 변경 시 커밋 후 무효화됩니다.
+ * 다른 인스턴스의 L1은 무효화가 전파되지 않으므로 L1 TTL을 짧게 유지합니다.
+ *
+ * 무효화는 키별 세대(generation)를 올리고, 채우기는 DB를 읽기 전에 본 세대가 그대로일 때만 저장합니다.
+ * (Redis는 Lua compare-and-set, L1은 프로세스 내 세대) 커밋 전에 읽은 목록이 무효화 뒤에 저장되어 남지 않습니다.
+ */
+@Slf4j
+@Component
+public class CommunityPostSummaryCache {
+
+    private static final String KEY_PREFIX = "community:post:list:head:";
+    private static final String ALL_BOARDS = "ALL";
+    private static final String GENERATION_SUFFIX = ":gen";
+
+    /**
+     * KEYS 목록 캐시 키와 세대 키가 번갈아 옴 (key1, gen1, key2, gen2, ...)
+     */
+    private static final DefaultRedisScript<Long> EVICT_SCRIPT = new DefaultRedisScript<>(
+            "for i = 1, #KEYS, 2 do "
+                    + "  redis.call('DEL', KEYS[i]) "
+                    + "  redis.call('INCR', KEYS[i + 1]) "
+                    + "end "
+                    + "return 1",
+            Long.class
+    );
+
+    /**
+     * KEYS[1] 목록 캐시 키, KEYS[2] 세대 키
+     * ARGV[1] 채우기 전에 읽은 세대, ARGV[2] 값, ARGV[3] TTL(ms)
+     */
+    private static final DefaultRedisScript<Long> SET_IF_CURRENT_SCRIPT = new DefaultRedisScript<>(
+            "if (redis.call('GET', KEYS[2]) or '0') ~= ARGV[1] then return 0 end "
+                    + "redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3]) "
+                    + "return 1",
+            Long.class
+    );
+
+    private final StringRedisTemplate redis;
+    private final ObjectMapper objectMapper;
+    private final CursorCodec cursorCodec;
+    private final boolean enabled;
+    private final int maxItems;
+    private final Duration redisTtl;
+    private final Cache<String, Head> localCache;
+    private final Map<String, AtomicLong> localGenerations = new ConcurrentHashMap<>();
+
+    public CommunityPostSummaryCache(
+            StringRedisTemplate redis,
+            ObjectMapper objectMapper,
+            CursorCodec cursorCodec,
+            @Value("${app.community.post-list-cache.enabled:true}") boolean enabled,
+            @Value("${app.community.post-list-cache.max-items:100}") int maxItems,
+            @Value("${app.community.post-list-cache.local-ttl-seconds:3}") long localTtlSeconds,
+            @Value("${app.community.post-list-cache.redis-ttl-seconds:60}") long redisTtlSeconds
+    ) {
+        this.redis = redis;
+        this.objectMapper = objectMapper;
+        this.cursorCodec = cursorCodec;
+        this.enabled = enabled;
+        this.maxItems = Math.max(1, maxItems);
+        this.redisTtl = Duration.ofSeconds(Math.max(1, redisTtlSeconds));
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(CommunityPostBoardType.values().length + 1L)
+                .expireAfterWrite(Duration.ofSeconds(Math.max(1, localTtlSeconds)))
+                .build();
+    }
+
+    /**
+     * 캐시된 head window 안에서 페이지를 잘라 반환.
+     * 첫 페이지(cursor == null) 요청에서 캐시가 비어 있으면 headLoader로 채웁니다.
+     *
+     * @param headLoader fetchSize를 받아 최신순 요약 목록을 반환 (DB 조회)
+     * @return 캐시로 응답할 수 없으면 null
+     */
+    public CommunityPostCursorListResponse readPage(
+            CommunityPostBoardType boardType,
+            CursorCodec.Cursor cursor,
+            int size,
+            IntFunction<List<CommunityPostSummaryResponse>> headLoader
+    ) {
+        if (!enabled || size > maxItems) return null;
+
+        String key = toKey(boardType);
+        Head head = findHead(key);
+        if (head == null) {
+            if (cursor != null) return null;
+            head = loadHead(key, headLoader);
+        }
+        return slice(head, cursor, size);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handlePostChanged(CommunityPostChangedEvent event) {
+        evict(event.boardType());
+    }
+
+    public void evict(CommunityPostBoardType boardType) {
+        if (!enabled) return;
+
+        List<String> keys = boardType == null
+                ? allKeys()
+                : List.of(toKey(boardType), toKey(null));
+        // 세대를 먼저 올린 뒤 지워야 그 사이 끝난 채우기가 다시 넣지 못함
+        keys.forEach(key -> localGeneration(key).incrementAndGet());
+        localCache.invalidateAll(keys);
+        List<String> scriptKeys = new ArrayList<>(keys.size() * 2);
+        for (String key : keys) {
+            scriptKeys.add(key);
+            scriptKeys.add(key + GENERATION_SUFFIX);
+        }
+        try {
+            redis.execute(EVICT_SCRIPT, scriptKeys);
+        } catch (Exception e) {
+            log.warn("Failed to evict post list cache from Redis: keys={}", keys, e);
+        }
+    }
+
+    private Head findHead(String key) {
+        Head local = localCache.getIfPresent(key);
+        if (local != null) return local;
+
+        long localGeneration = localGeneration(key).get();
+        try {
+            String json = redis.opsForValue().get(key);
+            if (json == null) return null;
+            Head remote = objectMapper.readValue(json, Head.class);
+            putLocalIfCurrent(key, remote, localGeneration);
+            return remote;
+        } catch (Exception e) {
+            log.warn("Failed to read post list cache from Redis: key={}", key, e);
+            return null;
+        }
+    }
+
+    private Head loadHead(String key, IntFunction<List<CommunityPostSummaryResponse>> headLoader) {
+        long localGeneration = localGeneration(key).get();
+        String generation = null;
+        try {
+            String current = redis.opsForValue().get(key + GENERATION_SUFFIX);
+            generation = current == null ? "0" : current;
+        } catch (Exception e) {
+            log.warn("Failed to read post list cache generation from Redis: key={}", key, e);
+        }
+
+        List<CommunityPostSummaryResponse> fetched = headLoader.apply(maxItems + 1);
+        boolean complete = fetched.size() <= maxItems;
+        Head head = new Head(
+                complete ? List.copyOf(fetched) : List.copyOf(fetched.subList(0, maxItems)),
+                complete
+        );
+
+        putLocalIfCurrent(key, head, localGeneration);
+        // 세대를 읽지 못했으면 무효화와 순서를 보장할 수 없으므로 Redis에는 쓰지 않음
+        if (generation != null) {
+            try {
+                redis.execute(
+                        SET_IF_CURRENT_SCRIPT,
+                        List.of(key, key + GENERATION_SUFFIX),
+                        generation,
+                        objectMapper.writeValueAsString(head),
+                        String.valueOf(redisTtl.toMillis())
+                );
+            } catch (Exception e) {
+                log.warn("Failed to write post list cache to Redis: key={}", key, e);
+            }
+        }
+        return head;
+    }
+
+    private void putLocalIfCurrent(String key, Head head, long expectedGeneration) {
+        localCache.asMap().compute(key, (ignored, current) ->
+                localGeneration(key).get() == expectedGeneration ? head : current);
+    }
+
+    private AtomicLong localGeneration(String key) {
+        return localGenerations.computeIfAbsent(key, ignored -> new AtomicLong());
+    }
+
+    private CommunityPostCursorListResponse slice(Head head, CursorCodec.Cursor cursor, int size) {
+        List<CommunityPostSummaryResponse> posts = head.posts();
+
+        int start = 0;
+        if (cursor != null) {
+            start = indexAfter(posts, cursor);
+            if (start < 0) return null;
+        }
+
+        int end = start + size;
+        boolean hasNext;
+        if (end < posts.size()) {
+            hasNext = true;
+        } else if (head.complete()) {
+            end = posts.size();
+            hasNext = false;
+        } else {
+            // 구간 끝에 걸치면 다음 페이지 존재 여부를 알 수 없으므로 DB로 넘김
+            return null;
+        }
+
+        List<CommunityPostSummaryResponse> pageItems = new ArrayList<>(posts.subList(start, end));
+        String nextCursor = null;
+        if (hasNext && !pageItems.isEmpty()) {
+            CommunityPostSummaryResponse last = pageItems.get(pageItems.size() - 1);
+            nextCursor = cursorCodec.encodeCursor(last.createdAt(), last.postId());
+        }
+        return new CommunityPostCursorListResponse(pageItems, nextCursor);
+    }
+
+    private int indexAfter(List<CommunityPostSummaryResponse> posts, CursorCodec.Cursor cursor) {
+        for (int i = 0; i < posts.size(); i++) {
+            CommunityPostSummaryResponse post = posts.get(i);
+            if (post.postId() == cursor.id() && Objects.equals(post.createdAt(), cursor.createdAt())) {
+                return i + 1;
+            }
+        }
+        return -1;
+    }
+
+    private List<String> allKeys() {
+        List<String> keys = new ArrayList<>(CommunityPostBoardType.values().length + 1);
+        keys.add(toKey(null));
+        for (CommunityPostBoardType boardType : CommunityPostBoardType.values()) {
+            keys.add(toKey(boardType));
+        }
+        return keys;
+    }
+
+    private String toKey(CommunityPostBoardType boardType) {
+        return KEY_PREFIX + (boardType == null ? ALL_BOARDS : boardType.name());
+    }
+
+    /**
+     * 게시판별 최신 요약 목록
+     * complete가 true면 게시판의 ACTIVE 게시글 전체가 posts에 들어 있음
+     */
+    public record Head(List<CommunityPostSummaryResponse> posts, boolean complete) {
+    }
+}
@@ -6,7 +6,9 @@ import com.runners.app.community.post.dto.response.CommunityPostDetailResponse;
 import com.runners.app.community.post.dto.response.CommunityPostCountResponse;
 import com.runners.app.community.post.dto.response.CommunityPostCursorListResponse;
 import com.runners.app.community.post.entity.CommunityPostBoardType;
+import com.runners.app.community.post.popular.CommunityPostFeedSort;
 import com.runners.app.community.post.service.CommunityPostService;
+import com.runners.app.community.search.index.CommunityPostSearchSort;
 import io.swagger.v3.oas.annotations.Operation;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
@@ -116,28 +118,33 @@ public class CommunityPostController {
         return communityPostService.getPost(viewerId, postId);
     }
 
-    @Operation(summary = "게시글 목록 조회", description = "최신순 커서 기반 목록 조회(nextCursor를 다음 요청의 cursor로 전달)")
+    @Operation(
+        summary = "게시글 목록 조회",
+        description = "커서 기반 목록 조회(sort=LATEST 최신순 | POPULAR 인기순, nextCursor를 다음 요청의 cursor로 전달)"
+    )
     @GetMapping
     public CommunityPostCursorListResponse listPosts(
             @RequestParam(required = false) CommunityPostBoardType boardType,
+            @RequestParam(defaultValue = "LATEST") CommunityPostFeedSort sort,
             @RequestParam(required = false) String cursor,
             @RequestParam(defaultValue = "20") int size
     ) {
-        return communityPostService.listPosts(boardType, cursor, size);
+        return communityPostService.listPosts(boardType, sort, cursor, size);
     }
 
     @Operation(
         summary = "게시글 검색",
-        description = "최신순 커서 기반 검색(제목/댓글 FULLTEXT, nextCursor를 다음 요청의 cursor로 전달)"
+        description = "커서 기반 검색(제목/본문/댓글, sort=RECENT 최신순 | RELEVANCE 관련도순, nextCursor를 다음 요청의 cursor로 전달)"
     )
     @GetMapping("/search")
     public CommunityPostCursorListResponse searchPosts(
             @RequestParam String q,
             @RequestParam(required = false) CommunityPostBoardType boardType,
+            @RequestParam(defaultValue = "RECENT") CommunityPostSearchSort sort,
             @RequestParam(required = false) String cursor,
             @RequestParam(defaultValue = "20") int size
     ) {
-        return communityPostService.searchPosts(q, boardType, cursor, size);
+        return communityPostService.searchPosts(q, boardType, sort, cursor, size);
     }
 
 }
@@ -0,0 +1,129 @@
+package com.runners.app.community.post.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * 게시글 목록용 읽기 모델 (ACTIVE 게시글만 1:1로 보관)
+ *
+ * 목록에 필요한 값(본문 미리보기, 첫 썸네일 키, 작성자 표시 정보, 카운터)을 미리 펼쳐 두어
+ * 목록 조회가 author 조인, @Lob 본문 읽기, 썸네일 추가 조회 없이 이 테이블 범위 스캔만으로 끝나도록 합니다.
+ * 쓰기 경로(CommunityPostSummaryProjector)에서 원본과 같은 트랜잭션으로 갱신됩니다.
+ */
+@Entity
+@Table(
+        name = "community_post_summaries",
+        indexes = {
+                @Index(name = "idx_community_post_summaries_created_at_post_id", columnList = "created_at,post_id"),
+                @Index(name = "idx_community_post_summaries_board_type_created_at_post_id", columnList = "board_type,created_at,post_id"),
+                @Index(name = "idx_community_post_summaries_author_id_created_at_post_id", columnList = "author_id,created_at,post_id")
+        }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class CommunityPostSummary implements Persistable<Long> {
+
+    public static final int CONTENT_PREVIEW_MAX_LENGTH = 200;
+
+    @Id
+    @Column(name = "post_id")
+    private Long postId;
+
+    @Column(name = "author_id", nullable = false)
+    private Long authorId;
+
+    @Column(name = "author_display_name", nullable = false, length = 100)
+    private String authorDisplayName;
+
+    // 기본 이미지 처리는 조회 시 UserProfileImageResolver가 담당하므로 사용자 지정 이미지만 보관
+    @Column(name = "author_custom_picture", length = 500)
+    private String authorCustomPicture;
+
+    @Column(name = "author_total_distance_km")
+    private Double authorTotalDistanceKm;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "board_type", nullable = false, length = 20)
+    private CommunityPostBoardType boardType;
+
+    @Column(nullable = false, length = 200)
+    private String title;
+
+    @Column(name = "content_preview", nullable = false, length = CONTENT_PREVIEW_MAX_LENGTH)
+    private String contentPreview;
+
+    @Column(name = "thumbnail_key", length = 512)
+    private String thumbnailKey;
+
+    @Column(name = "view_count", nullable = false)
+    private int viewCount;
+
+    @Column(name = "recommend_count", nullable = false)
+    private int recommendCount;
+
+    @Column(name = "comment_count", nullable = false)
+    private int commentCount;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    // ID를 직접 할당하므로 save 시 merge(SELECT 후 INSERT) 대신 바로 INSERT 하도록 신규 여부를 직접 관리
+    @Transient
+    @Builder.Default
+    @Getter(AccessLevel.NONE)
+    private boolean newEntity = true;
+
+    @Override
+    public Long getId() {
+        return postId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        newEntity = false;
+    }
+
+    /**
+     * 게시글 수정 시 본문/게시판/썸네일/작성자 정보 갱신 (카운터는 원자적 UPDATE로만 변경)
+     */
+    public void updateContent(
+            CommunityPostBoardType boardType,
+            String title,
+            String contentPreview,
+            String thumbnailKey,
+            String authorDisplayName,
+            String authorCustomPicture,
+            Double authorTotalDistanceKm
+    ) {
+        this.boardType = boardType;
+        this.title = title;
+        this.contentPreview = contentPreview;
+        this.thumbnailKey = thumbnailKey;
+        this.authorDisplayName = authorDisplayName;
+        this.authorCustomPicture = authorCustomPicture;
+        this.authorTotalDistanceKm = authorTotalDistanceKm;
+    }
+}
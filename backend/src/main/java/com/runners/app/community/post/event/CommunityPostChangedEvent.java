@@ -0,0 +1,13 @@
+package com.runners.app.community.post.event;
+
+import com.runners.app.community.post.entity.CommunityPostBoardType;
+
+/**
+ * 게시글 목록에 노출되는 값(본문/게시판/카운터 등)이 바뀌었음을 알리는 이벤트
+ * 트랜잭션 커밋 후 목록 캐시 무효화에 사용합니다.
+ */
+public record CommunityPostChangedEvent(
+        Long postId,
+        CommunityPostBoardType boardType
+) {
+}
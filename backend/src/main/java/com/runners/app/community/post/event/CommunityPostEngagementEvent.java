@@ -0,0 +1,23 @@
+package com.runners.app.community.post.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 반응(추천/댓글)이 늘거나 줄었음을 알리는 이벤트
+ * 트랜잭션 커밋 후 인기 피드 점수 갱신에 사용합니다. (조회수는 버퍼 flush 시 일괄 반영)
+ *
+ * @param occurredAt 반응이 처음 일어난 시각 (취소/삭제여도 원래 추천·댓글 시각, 점수 감쇠 기준)
+ */
+public record CommunityPostEngagementEvent(
+        Long postId,
+        Type type,
+        int delta,
+        LocalDateTime occurredAt
+) {
+
+    public enum Type {
+        VIEW,
+        RECOMMEND,
+        COMMENT
+    }
+}
@@ -0,0 +1,10 @@
+package com.runners.app.community.post.event;
+
+/**
+ * 검색 대상(게시글 제목/본문/게시판, 댓글 본문)이나 게시글 노출 여부가 바뀌었음을 알리는 이벤트
+ * 트랜잭션 커밋 후 검색 색인 갱신에 사용합니다.
+ */
+public record CommunityPostTextChangedEvent(
+        Long postId
+) {
+}
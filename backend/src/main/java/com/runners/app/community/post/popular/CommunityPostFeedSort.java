@@ -0,0 +1,10 @@
+package com.runners.app.community.post.popular;
+
+/**
+ * 게시글 목록 정렬
+ * LATEST: 최신순 (createdAt desc, id desc), POPULAR: 인기순 (시간 감쇠 반응 점수 desc)
+ */
+public enum CommunityPostFeedSort {
+    LATEST,
+    POPULAR
+}
@@ -0,0 +1,249 @@
+package com.runners.app.community.post.popular;
+
+import com.runners.app.community.post.event.CommunityPostEngagementEvent;
+import com.runners.app.community.post.repository.CommunityPostRepository;
+import com.runners.app.global.status.CommunityContentStatus;
+import com.runners.app.global.startup.StartupTask;
+import com.runners.app.global.util.CursorCodec;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 인기 피드 (Redis Sorted Set, DB 0번)
+ *
+ * 반응 1건의 점수 기여도는 weight * 2^((발생 시각 - 기준 시각) / 반감기)로, 오래된 반응일수록 상대적으로 작아집니다.
+ * 이미 쌓인 점수를 다시 계산하지 않도록 새 반응의 기여도를 키우는 방식이며,
+ * 추천 취소/댓글 삭제는 원래 반응 시각의 기여도를 빼서 더했던 만큼만 되돌립니다.
+ * 값이 커지지 않도록 log2 공간에 저장하고 Lua 스크립트로 log-sum-exp 합산합니다. (갱신 1회 O(log n))
+ * 상위 maxSize개만 유지하고, 삭제된 게시글은 목록 조회 시 걸러집니다.
+ */
+@Slf4j
+@Component
+public class CommunityPostPopularFeed implements StartupTask {
+
+    static final String KEY = "community:post:popular";
+    private static final long SCORE_EPOCH_SECONDS = LocalDateTime.of(2025, 1, 1, 0, 0).toEpochSecond(ZoneOffset.UTC);
+    private static final int READ_BATCH_SIZE = 100;
+
+    /**
+     * KEYS[1] 인기 피드 ZSET
+     * ARGV[1] 1(증가) 또는 -1(감소), 이후 (postId, log2 기여도) 쌍 반복
+     * 감소분이 누적 점수 이상이면 남은 기여도가 없으므로 member를 지웁니다.
+     */
+    private static final DefaultRedisScript<Long> ADD_SCRIPT = new DefaultRedisScript<>(
+            "local sign = tonumber(ARGV[1]) "
+                    + "local ln2 = math.log(2) "
+                    + "local applied = 0 "
+                    + "for i = 2, #ARGV, 2 do "
+                    + "  local add = tonumber(ARGV[i + 1]) "
+                    + "  local cur = redis.call('ZSCORE', KEYS[1], ARGV[i]) "
+                    + "  local score = nil "
+                    + "  if not cur then "
+                    + "    if sign > 0 then score = add end "
+                    + "  else "
+                    + "    cur = tonumber(cur) "
+                    + "    if sign > 0 then "
+                    + "      local hi = math.max(cur, add) "
+                    + "      score = hi + math.log(1 + 2 ^ (math.min(cur, add) - hi)) / ln2 "
+                    + "    elseif add < cur then "
+                    + "      score = cur + math.log(1 - 2 ^ (add - cur)) / ln2 "
+                    + "    else "
+                    + "      redis.call('ZREM', KEYS[1], ARGV[i]) "
+                    + "      applied = applied + 1 "
+                    + "    end "
+                    + "  end "
+                    + "  if score then "
+                    + "    redis.call('ZADD', KEYS[1], string.format('%.17g', score), ARGV[i]) "
+                    + "    applied = applied + 1 "
+                    + "  end "
+                    + "end "
+                    + "return applied",
+            Long.class
+    );
+
+    private final StringRedisTemplate redis;
+    private final CommunityPostRepository communityPostRepository;
+    private final double halfLifeSeconds;
+    private final double viewWeight;
+    private final double recommendWeight;
+    private final double commentWeight;
+    private final int maxSize;
+    private final int warmupDays;
+
+    public CommunityPostPopularFeed(
+            StringRedisTemplate redis,
+            CommunityPostRepository communityPostRepository,
+            @Value("${app.community.popular.half-life-hours:12}") double halfLifeHours,
+            @Value("${app.community.popular.view-weight:1}") double viewWeight,
+            @Value("${app.community.popular.recommend-weight:5}") double recommendWeight,
+            @Value("${app.community.popular.comment-weight:3}") double commentWeight,
+            @Value("${app.community.popular.max-size:10000}") int maxSize,
+            @Value("${app.community.popular.warmup-days:7}") int warmupDays
+    ) {
+        this.redis = redis;
+        this.communityPostRepository = communityPostRepository;
+        this.halfLifeSeconds = Math.max(1.0, halfLifeHours * 3600);
+        this.viewWeight = viewWeight;
+        this.recommendWeight = recommendWeight;
+        this.commentWeight = commentWeight;
+        this.maxSize = Math.max(1, maxSize);
+        this.warmupDays = Math.max(0, warmupDays);
+    }
+
+    /**
+     * 인기순 목록의 한 구간 (postId, 점수)
+     */
+    public record Entry(long postId, double score) {
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleEngagement(CommunityPostEngagementEvent event) {
+        try {
+            LocalDateTime occurredAt = event.occurredAt() == null ? LocalDateTime.now() : event.occurredAt();
+            record(event.type(), Map.of(event.postId(), (long) event.delta()), occurredAt);
+        } catch (Exception e) {
+            log.warn("Failed to update popular feed: postId={}, type={}", event.postId(), event.type(), e);
+        }
+    }
+
+    /**
+     * 조회수 버퍼 flush 분을 한 번에 반영
+     */
+    public void recordViews(Map<Long, Long> deltas) {
+        record(CommunityPostEngagementEvent.Type.VIEW, deltas, LocalDateTime.now());
+    }
+
+    /**
+     * 점수 내림차순으로 cursor 다음부터 최대 count개
+     * 같은 점수는 Redis 정렬(member 역사전순)을 따르며 커서의 postId로 이어서 읽습니다.
+     */
+    public List<Entry> read(CursorCodec.ScoreCursor cursor, int count) {
+        double max = cursor == null ? Double.POSITIVE_INFINITY : cursor.score();
+        String cursorMember = cursor == null ? null : String.valueOf(cursor.id());
+
+        List<Entry> entries = new ArrayList<>(count);
+        long offset = 0;
+        while (entries.size() < count) {
+            Set<ZSetOperations.TypedTuple<String>> tuples = redis.opsForZSet()
+                    .reverseRangeByScoreWithScores(KEY, Double.NEGATIVE_INFINITY, max, offset, READ_BATCH_SIZE);
+            if (tuples == null || tuples.isEmpty()) break;
+
+            for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+                String member = tuple.getValue();
+                double score = tuple.getScore() == null ? 0 : tuple.getScore();
+                if (cursorMember != null && score == max && member.compareTo(cursorMember) >= 0) {
+                    continue;
+                }
+                entries.add(new Entry(Long.parseLong(member), score));
+                if (entries.size() == count) break;
+            }
+            if (tuples.size() < READ_BATCH_SIZE) break;
+            offset += tuples.size();
+        }
+        return entries;
+    }
+
+    @Override
+    public void runOnStartup() {
+        warmUp();
+    }
+
+    /**
+     * 피드가 비어 있으면 최근 warmupDays일 게시글의 누적 카운터로 채움
+     * (누적 반응은 작성 시각에 일어난 것으로 근사, 이미 들어온 실시간 점수는 덮어쓰지 않음)
+     */
+    public void warmUp() {
+        try {
+            if (Boolean.TRUE.equals(redis.hasKey(KEY))) return;
+
+            List<CommunityPostRepository.EngagementSource> posts = communityPostRepository.findEngagementSourcesCreatedAfter(
+                    CommunityContentStatus.ACTIVE,
+                    LocalDateTime.now().minusDays(warmupDays),
+                    PageRequest.of(0, maxSize)
+            );
+
+            Set<ZSetOperations.TypedTuple<String>> tuples = new HashSet<>(posts.size());
+            for (CommunityPostRepository.EngagementSource post : posts) {
+                double weight = post.getViewCount() * viewWeight
+                        + post.getRecommendCount() * recommendWeight
+                        + post.getCommentCount() * commentWeight;
+                if (weight <= 0) continue;
+                tuples.add(ZSetOperations.TypedTuple.of(
+                        String.valueOf(post.getId()),
+                        toScore(weight, post.getCreatedAt().toEpochSecond(ZoneOffset.UTC))
+                ));
+            }
+            if (!tuples.isEmpty()) {
+                redis.opsForZSet().addIfAbsent(KEY, tuples);
+            }
+            log.info("Popular feed warmed up: posts={}", tuples.size());
+        } catch (Exception e) {
+            log.error("Failed to warm up popular feed", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.community.popular.trim-interval-ms:60000}")
+    public void trim() {
+        try {
+            redis.opsForZSet().removeRange(KEY, 0, -(maxSize + 1L));
+        } catch (Exception e) {
+            log.warn("Failed to trim popular feed", e);
+        }
+    }
+
+    private void record(CommunityPostEngagementEvent.Type type, Map<Long, Long> deltas, LocalDateTime occurredAt) {
+        double weight = weightOf(type);
+        if (weight <= 0 || deltas.isEmpty()) return;
+
+        long occurredSeconds = occurredAt.toEpochSecond(ZoneOffset.UTC);
+        List<String> increases = new ArrayList<>();
+        List<String> decreases = new ArrayList<>();
+        deltas.forEach((postId, delta) -> {
+            if (postId == null || delta == null || delta == 0) return;
+            List<String> target = delta > 0 ? increases : decreases;
+            target.add(String.valueOf(postId));
+            target.add(String.valueOf(toScore(Math.abs(delta) * weight, occurredSeconds)));
+        });
+
+        execute(1, increases);
+        execute(-1, decreases);
+    }
+
+    private void execute(int sign, List<String> memberScorePairs) {
+        if (memberScorePairs.isEmpty()) return;
+        List<String> args = new ArrayList<>(memberScorePairs.size() + 1);
+        args.add(String.valueOf(sign));
+        args.addAll(memberScorePairs);
+        redis.execute(ADD_SCRIPT, List.of(KEY), args.toArray());
+    }
+
+    private double weightOf(CommunityPostEngagementEvent.Type type) {
+        return switch (type) {
+            case VIEW -> viewWeight;
+            case RECOMMEND -> recommendWeight;
+            case COMMENT -> commentWeight;
+        };
+    }
+
+    /**
+     * log2(weight * 2^((epochSeconds - 기준 시각) / 반감기))
+     */
+    private double toScore(double weight, long epochSeconds) {
+        return Math.log(weight) / Math.log(2) + (epochSeconds - SCORE_EPOCH_SECONDS) / halfLifeSeconds;
+    }
+}
@@ -3,33 +3,37 @@ package com.runners.app.community.post.repository;
 import com.runners.app.global.status.CommunityContentStatus;
 import com.runners.app.community.post.entity.CommunityPost;
 import com.runners.app.community.post.entity.CommunityPostBoardType;
-import jakarta.persistence.LockModeType;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.EntityGraph;
-import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 public interface CommunityPostRepository extends JpaRepository<CommunityPost, Long> {
 
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
-    @Query("""
-            select p from CommunityPost p
-            where p.id = :postId
-            """)
-    Optional<CommunityPost> findByIdForUpdate(@Param("postId") Long postId);
-
     @EntityGraph(attributePaths = "author")
     Page<CommunityPost> findByStatus(CommunityContentStatus status, Pageable pageable);
 
-    @EntityGraph(attributePaths = "author")
+    /**
+     * 목록용 컬럼과 본문 앞부분(previewLength자)만 조회 (본문 LOB, 이미지 컬렉션, 엔티티 스냅샷 없음)
+     * 작성자 표시 정보는 users join 없이 AuthorCardCache로 채웁니다.
+     */
     @Query("""
-            select p from CommunityPost p
+            select p.id as id,
+                   p.author.id as authorId,
+                   p.boardType as boardType,
+                   p.title as title,
+                   substring(cast(p.content as String), 1, :previewLength) as contentHead,
+                   p.viewCount as viewCount,
+                   p.recommendCount as recommendCount,
+                   p.commentCount as commentCount,
+                   p.createdAt as createdAt
+            from CommunityPost p
             where p.status = :status
               and (:boardType is null or p.boardType = :boardType)
               and (
@@ -39,17 +43,26 @@ public interface CommunityPostRepository extends JpaRepository<CommunityPost, Lo
               )
             order by p.createdAt desc, p.id desc
             """)
-    List<CommunityPost> findForCursor(
+    List<SummaryRow> findForCursor(
             @Param("status") CommunityContentStatus status,
             @Param("boardType") CommunityPostBoardType boardType,
             @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
             @Param("cursorId") Long cursorId,
+            @Param("previewLength") int previewLength,
             Pageable pageable
     );
 
-    @EntityGraph(attributePaths = "author")
     @Query("""
-            select p from CommunityPost p
+            select p.id as id,
+                   p.author.id as authorId,
+                   p.boardType as boardType,
+                   p.title as title,
+                   substring(cast(p.content as String), 1, :previewLength) as contentHead,
+                   p.viewCount as viewCount,
+                   p.recommendCount as recommendCount,
+                   p.commentCount as commentCount,
+                   p.createdAt as createdAt
+            from CommunityPost p
             where p.status = :status
               and p.author.id = :authorId
               and (
@@ -59,11 +72,12 @@ public interface CommunityPostRepository extends JpaRepository<CommunityPost, Lo
               )
             order by p.createdAt desc, p.id desc
             """)
-    List<CommunityPost> findForCursorByAuthorId(
+    List<SummaryRow> findForCursorByAuthorId(
             @Param("status") CommunityContentStatus status,
             @Param("authorId") Long authorId,
             @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
             @Param("cursorId") Long cursorId,
+            @Param("previewLength") int previewLength,
             Pageable pageable
     );
 
@@ -124,4 +138,184 @@ public interface CommunityPostRepository extends JpaRepository<CommunityPost, Lo
             @Param("boardType") CommunityPostBoardType boardType,
             @Param("ids") List<Long> ids
     );
+
+    @Query("""
+            select p.id as id,
+                   p.author.id as authorId,
+                   p.boardType as boardType,
+                   p.title as title,
+                   substring(cast(p.content as String), 1, :previewLength) as contentHead,
+                   p.viewCount as viewCount,
+                   p.recommendCount as recommendCount,
+                   p.commentCount as commentCount,
+                   p.createdAt as createdAt
+            from CommunityPost p
+            where p.status = :status
+              and (:boardType is null or p.boardType = :boardType)
+              and p.id in :ids
+            """)
+    List<SummaryRow> findSummaryRowsByIdIn(
+            @Param("status") CommunityContentStatus status,
+            @Param("boardType") CommunityPostBoardType boardType,
+            @Param("ids") List<Long> ids,
+            @Param("previewLength") int previewLength
+    );
+
+    @Modifying
+    @Query("""
+            update CommunityPost p
+            set p.viewCount = p.viewCount + :delta
+            where p.id in :postIds
+            """)
+    int increaseViewCount(@Param("postIds") List<Long> postIds, @Param("delta") int delta);
+
+    @Modifying
+    @Query("""
+            update CommunityPost p
+            set p.recommendCount = p.recommendCount + 1
+            where p.id = :postId
+            """)
+    int increaseRecommendCount(@Param("postId") Long postId);
+
+    @Modifying
+    @Query("""
+            update CommunityPost p
+            set p.recommendCount = p.recommendCount - 1
+            where p.id = :postId
+              and p.recommendCount > 0
+            """)
+    int decreaseRecommendCount(@Param("postId") Long postId);
+
+    /**
+     * since 이후 게시글 자체나 댓글이 바뀐 게시글 ID (상태 무관, 검색 색인 따라잡기용)
+     */
+    @Query(
+            value = """
+            select changed.id
+            from (
+                select p.id as id from community_posts p where p.updated_at >= :since
+                union
+                select c.post_id as id from community_comments c where c.updated_at >= :since
+            ) changed
+            where changed.id > :afterId
+            order by changed.id asc
+            limit :limit
+            """,
+            nativeQuery = true
+    )
+    List<Long> findIdsChangedSince(
+            @Param("since") LocalDateTime since,
+            @Param("afterId") Long afterId,
+            @Param("limit") int limit
+    );
+
+    @Query("""
+            select p.recommendCount from CommunityPost p
+            where p.id = :postId
+            """)
+    int findRecommendCountById(@Param("postId") Long postId);
+
+    @Query("""
+            select p.id from CommunityPost p
+            where p.status = :status
+              and p.id > :afterId
+            order by p.id asc
+            """)
+    List<Long> findIdsByStatusAfterId(
+            @Param("status") CommunityContentStatus status,
+            @Param("afterId") Long afterId,
+            Pageable pageable
+    );
+
+    @Query("""
+            select p.id from CommunityPost p
+            where p.status = :status
+              and p.id > :afterId
+              and not exists (
+                select 1 from CommunityPostSummary s
+                where s.postId = p.id
+              )
+            order by p.id asc
+            """)
+    List<Long> findIdsWithoutSummaryAfterId(
+            @Param("status") CommunityContentStatus status,
+            @Param("afterId") Long afterId,
+            Pageable pageable
+    );
+
+    @Query("""
+            select p.id as id,
+                   p.boardType as boardType,
+                   p.title as title,
+                   p.content as content,
+                   p.createdAt as createdAt
+            from CommunityPost p
+            where p.id in :ids
+              and p.status = :status
+            """)
+    List<SearchSource> findSearchSourcesByIdIn(
+            @Param("ids") Collection<Long> ids,
+            @Param("status") CommunityContentStatus status
+    );
+
+    @Query("""
+            select p.id as id,
+                   p.viewCount as viewCount,
+                   p.recommendCount as recommendCount,
+                   p.commentCount as commentCount,
+                   p.createdAt as createdAt
+            from CommunityPost p
+            where p.status = :status
+              and p.createdAt >= :since
+            order by p.createdAt desc
+            """)
+    List<EngagementSource> findEngagementSourcesCreatedAfter(
+            @Param("status") CommunityContentStatus status,
+            @Param("since") LocalDateTime since,
+            Pageable pageable
+    );
+
+    interface EngagementSource {
+        Long getId();
+
+        int getViewCount();
+
+        int getRecommendCount();
+
+        int getCommentCount();
+
+        LocalDateTime getCreatedAt();
+    }
+
+    interface SummaryRow {
+        Long getId();
+
+        Long getAuthorId();
+
+        CommunityPostBoardType getBoardType();
+
+        String getTitle();
+
+        String getContentHead();
+
+        int getViewCount();
+
+        int getRecommendCount();
+
+        int getCommentCount();
+
+        LocalDateTime getCreatedAt();
+    }
+
+    interface SearchSource {
+        Long getId();
+
+        CommunityPostBoardType getBoardType();
+
+        String getTitle();
+
+        String getContent();
+
+        LocalDateTime getCreatedAt();
+    }
 }
@@ -0,0 +1,24 @@
+package com.runners.app.community.post.repository;
+
+import com.runners.app.community.post.entity.CommunityPostSummary;
+import java.util.List;
+
+/**
+ * 요약 행 채우기용 커스텀 리포지토리 (INSERT IGNORE ... SELECT)
+ *
+ * 게시글을 읽은 뒤 수정/삭제가 먼저 커밋되어도 어긋나지 않도록,
+ * 이미 있는 행은 건너뛰고 원본 게시글이 지금도 ACTIVE인 경우에만 insert 합니다.
+ * 카운터와 created_at은 넘긴 값 대신 insert 시점의 원본 값을 복사합니다.
+ */
+public interface CommunityPostSummaryBatchRepository {
+
+    /**
+     * @return 1이면 새로 insert, 0이면 이미 있거나 ACTIVE가 아님
+     */
+    int insertIgnoreIfActive(CommunityPostSummary summary);
+
+    /**
+     * 여러 건을 JDBC batch로 insert (건별 결과는 드라이버 설정에 따라 알 수 없으므로 반환하지 않음)
+     */
+    void insertIgnoreAllIfActive(List<CommunityPostSummary> summaries);
+}
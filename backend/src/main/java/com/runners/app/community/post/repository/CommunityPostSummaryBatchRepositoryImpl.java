@@ -0,0 +1,58 @@
+package com.runners.app.community.post.repository;
+
+import com.runners.app.community.post.entity.CommunityPostSummary;
+import com.runners.app.global.status.CommunityContentStatus;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.List;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+public class CommunityPostSummaryBatchRepositoryImpl implements CommunityPostSummaryBatchRepository {
+
+    private static final String INSERT_IGNORE_IF_ACTIVE = """
+            insert ignore into community_post_summaries (
+                post_id, author_id, author_display_name, author_custom_picture, author_total_distance_km,
+                board_type, title, content_preview, thumbnail_key,
+                view_count, recommend_count, comment_count, created_at
+            )
+            select p.id, ?, ?, ?, ?, ?, ?, ?, ?, p.view_count, p.recommend_count, p.comment_count, p.created_at
+            from community_posts p
+            where p.id = ?
+              and p.status = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public CommunityPostSummaryBatchRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public int insertIgnoreIfActive(CommunityPostSummary summary) {
+        return jdbcTemplate.update(INSERT_IGNORE_IF_ACTIVE, ps -> bind(ps, summary));
+    }
+
+    @Override
+    public void insertIgnoreAllIfActive(List<CommunityPostSummary> summaries) {
+        if (summaries.isEmpty()) return;
+        jdbcTemplate.batchUpdate(INSERT_IGNORE_IF_ACTIVE, summaries, summaries.size(), this::bind);
+    }
+
+    private void bind(PreparedStatement ps, CommunityPostSummary summary) throws SQLException {
+        ps.setLong(1, summary.getAuthorId());
+        ps.setString(2, summary.getAuthorDisplayName());
+        ps.setString(3, summary.getAuthorCustomPicture());
+        if (summary.getAuthorTotalDistanceKm() == null) {
+            ps.setNull(4, Types.DOUBLE);
+        } else {
+            ps.setDouble(4, summary.getAuthorTotalDistanceKm());
+        }
+        ps.setString(5, summary.getBoardType().name());
+        ps.setString(6, summary.getTitle());
+        ps.setString(7, summary.getContentPreview());
+        ps.setString(8, summary.getThumbnailKey());
+        ps.setLong(9, summary.getPostId());
+        ps.setString(10, CommunityContentStatus.ACTIVE.name());
+    }
+}
@@ -0,0 +1,189 @@
+package com.runners.app.community.post.repository;
+
+import com.runners.app.community.post.entity.CommunityPostBoardType;
+import com.runners.app.community.post.entity.CommunityPostSummary;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface CommunityPostSummaryRepository extends JpaRepository<CommunityPostSummary, Long>, CommunityPostSummaryBatchRepository {
+
+    @Query("""
+            select s from CommunityPostSummary s
+            where (:boardType is null or s.boardType = :boardType)
+              and (
+                :cursorCreatedAt is null
+                or s.createdAt < :cursorCreatedAt
+                or (s.createdAt = :cursorCreatedAt and s.postId < :cursorId)
+              )
+            order by s.createdAt desc, s.postId desc
+            """)
+    List<CommunityPostSummary> findForCursor(
+            @Param("boardType") CommunityPostBoardType boardType,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable
+    );
+
+    @Query("""
+            select s from CommunityPostSummary s
+            where s.authorId = :authorId
+              and (
+                :cursorCreatedAt is null
+                or s.createdAt < :cursorCreatedAt
+                or (s.createdAt = :cursorCreatedAt and s.postId < :cursorId)
+              )
+            order by s.createdAt desc, s.postId desc
+            """)
+    List<CommunityPostSummary> findForCursorByAuthorId(
+            @Param("authorId") Long authorId,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable
+    );
+
+    @Query("""
+            select s from CommunityPostSummary s
+            where s.postId in :postIds
+              and (:boardType is null or s.boardType = :boardType)
+            """)
+    List<CommunityPostSummary> findAllByPostIdIn(
+            @Param("postIds") Collection<Long> postIds,
+            @Param("boardType") CommunityPostBoardType boardType
+    );
+
+    @Modifying
+    @Query("""
+            delete from CommunityPostSummary s
+            where s.postId = :postId
+            """)
+    int deleteByPostId(@Param("postId") Long postId);
+
+    @Modifying
+    @Query("""
+            update CommunityPostSummary s
+            set s.viewCount = s.viewCount + :delta
+            where s.postId in :postIds
+            """)
+    int increaseViewCount(@Param("postIds") List<Long> postIds, @Param("delta") int delta);
+
+    @Modifying
+    @Query("""
+            update CommunityPostSummary s
+            set s.recommendCount = s.recommendCount + 1
+            where s.postId = :postId
+            """)
+    int increaseRecommendCount(@Param("postId") Long postId);
+
+    @Modifying
+    @Query("""
+            update CommunityPostSummary s
+            set s.recommendCount = s.recommendCount - 1
+            where s.postId = :postId
+              and s.recommendCount > 0
+            """)
+    int decreaseRecommendCount(@Param("postId") Long postId);
+
+    @Modifying
+    @Query("""
+            update CommunityPostSummary s
+            set s.commentCount = s.commentCount + 1
+            where s.postId = :postId
+            """)
+    int increaseCommentCount(@Param("postId") Long postId);
+
+    @Modifying
+    @Query("""
+            update CommunityPostSummary s
+            set s.commentCount = s.commentCount - 1
+            where s.postId = :postId
+              and s.commentCount > 0
+            """)
+    int decreaseCommentCount(@Param("postId") Long postId);
+
+    /**
+     * (afterId, lastId] 범위 요약 행의 카운터를 원본 값으로 맞춤 (채우기 중 놓친 카운터 갱신 보정)
+     */
+    @Modifying
+    @Query(
+            value = """
+            update community_post_summaries s
+            set view_count = (select p.view_count from community_posts p where p.id = s.post_id),
+                recommend_count = (select p.recommend_count from community_posts p where p.id = s.post_id),
+                comment_count = (select p.comment_count from community_posts p where p.id = s.post_id)
+            where s.post_id > :afterId
+              and s.post_id <= :lastId
+            """,
+            nativeQuery = true
+    )
+    int syncCountersInRange(@Param("afterId") Long afterId, @Param("lastId") Long lastId);
+
+    /**
+     * (afterId, lastId] 범위에서 원본 게시글이 ACTIVE가 아닌(채우기 후 삭제된) 요약 행 제거
+     */
+    @Modifying
+    @Query(
+            value = """
+            delete from community_post_summaries
+            where post_id > :afterId
+              and post_id <= :lastId
+              and not exists (
+                select 1 from community_posts p
+                where p.id = community_post_summaries.post_id
+                  and p.status = :activeStatus
+              )
+            """,
+            nativeQuery = true
+    )
+    int deleteInactiveInRange(
+            @Param("afterId") Long afterId,
+            @Param("lastId") Long lastId,
+            @Param("activeStatus") String activeStatus
+    );
+
+    /**
+     * 게시글 수정 반영 (엔티티를 읽지 않고 현재 행에 바로 UPDATE, 채우기가 동시에 넣은 행을 덮어쓸 때 사용)
+     */
+    @Modifying
+    @Query("""
+            update CommunityPostSummary s
+            set s.boardType = :boardType,
+                s.title = :title,
+                s.contentPreview = :contentPreview,
+                s.thumbnailKey = :thumbnailKey,
+                s.authorDisplayName = :displayName,
+                s.authorCustomPicture = :customPicture,
+                s.authorTotalDistanceKm = :totalDistanceKm
+            where s.postId = :postId
+            """)
+    int overwriteContent(
+            @Param("postId") Long postId,
+            @Param("boardType") CommunityPostBoardType boardType,
+            @Param("title") String title,
+            @Param("contentPreview") String contentPreview,
+            @Param("thumbnailKey") String thumbnailKey,
+            @Param("displayName") String displayName,
+            @Param("customPicture") String customPicture,
+            @Param("totalDistanceKm") Double totalDistanceKm
+    );
+
+    @Modifying
+    @Query("""
+            update CommunityPostSummary s
+            set s.authorDisplayName = :displayName,
+                s.authorCustomPicture = :customPicture,
+                s.authorTotalDistanceKm = :totalDistanceKm
+            where s.authorId = :authorId
+            """)
+    int updateAuthor(
+            @Param("authorId") Long authorId,
+            @Param("displayName") String displayName,
+            @Param("customPicture") String customPicture,
+            @Param("totalDistanceKm") Double totalDistanceKm
+    );
+}
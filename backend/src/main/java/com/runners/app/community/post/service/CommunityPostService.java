@@ -1,5 +1,6 @@
 package com.runners.app.community.post.service;
 
+import com.runners.app.community.activity.service.UserActivityStatsService;
 import com.runners.app.global.status.CommunityContentStatus;
 import com.runners.app.community.post.entity.CommunityPost;
 import com.runners.app.community.post.entity.CommunityPostBoardType;
@@ -11,18 +12,30 @@ import com.runners.app.community.post.dto.response.CommunityPostCursorListRespon
 import com.runners.app.community.post.dto.response.CommunityPostResponse;
 import com.runners.app.community.post.dto.response.CommunityPostDetailResponse;
 import com.runners.app.community.post.dto.response.CommunityPostSummaryResponse;
+import com.runners.app.community.post.cache.CommunityPostSummaryCache;
+import com.runners.app.community.post.event.CommunityPostChangedEvent;
+import com.runners.app.community.post.event.CommunityPostTextChangedEvent;
 import com.runners.app.community.comment.entity.CommunityComment;
 import com.runners.app.community.comment.repository.CommunityCommentRepository;
 import com.runners.app.community.post.repository.CommunityPostImageRepository;
 import com.runners.app.community.post.repository.CommunityPostRepository;
+import com.runners.app.community.post.repository.CommunityPostSummaryRepository;
+import com.runners.app.community.post.popular.CommunityPostFeedSort;
+import com.runners.app.community.post.popular.CommunityPostPopularFeed;
+import com.runners.app.community.post.entity.CommunityPostSummary;
 import com.runners.app.community.upload.service.CommunityUploadService;
+import com.runners.app.community.view.CommunityPostViewCountBuffer;
 import com.runners.app.community.view.CommunityPostViewTracker;
+import com.runners.app.community.search.index.CommunityPostSearchIndex;
+import com.runners.app.community.search.index.CommunityPostSearchSort;
 import com.runners.app.community.exception.CommunityDomainException;
-import com.runners.app.global.util.CursorUtils;
+import com.runners.app.global.util.CursorCodec;
+import com.runners.app.user.cache.AuthorCard;
+import com.runners.app.user.cache.AuthorCardCache;
 import com.runners.app.user.repository.UserRepository;
 import com.runners.app.user.service.UserProfileImageResolver;
+import io.micrometer.core.annotation.Timed;
 import java.time.LocalDateTime;
-import java.util.Comparator;
 import java.util.List;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -30,37 +43,74 @@ import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
+@Timed(value = "community.post.service", histogram = true)
 public class CommunityPostService {
 
+    private static final int CONTENT_PREVIEW_LENGTH = 120;
+    // 공백 정리 후에도 미리보기 길이를 채우도록 본문 앞부분은 넉넉히 조회
+    private static final int CONTENT_HEAD_LENGTH = CONTENT_PREVIEW_LENGTH * 2;
+    private static final int POPULAR_MAX_READ_ROUNDS = 3;
+
     private final CommunityPostRepository communityPostRepository;
     private final CommunityCommentRepository communityCommentRepository;
     private final CommunityPostViewTracker communityPostViewTracker;
+    private final CommunityPostViewCountBuffer communityPostViewCountBuffer;
     private final UserRepository userRepository;
     private final CommunityUploadService communityUploadService;
     private final CommunityPostImageRepository communityPostImageRepository;
     private final UserProfileImageResolver userProfileImageResolver;
+    private final CommunityPostSummaryCache communityPostSummaryCache;
+    private final CommunityPostSearchIndex communityPostSearchIndex;
+    private final CommunityPostSummaryRepository communityPostSummaryRepository;
+    private final CommunityPostSummaryProjector communityPostSummaryProjector;
+    private final CommunityPostPopularFeed communityPostPopularFeed;
+    private final AuthorCardCache authorCardCache;
+    private final UserActivityStatsService userActivityStatsService;
+    private final CursorCodec cursorCodec;
+    private final ApplicationEventPublisher eventPublisher;
 
     public CommunityPostService(
             CommunityPostRepository communityPostRepository,
             CommunityCommentRepository communityCommentRepository,
             CommunityPostViewTracker communityPostViewTracker,
+            CommunityPostViewCountBuffer communityPostViewCountBuffer,
             UserRepository userRepository,
             CommunityUploadService communityUploadService,
             CommunityPostImageRepository communityPostImageRepository,
-            UserProfileImageResolver userProfileImageResolver
+            UserProfileImageResolver userProfileImageResolver,
+            CommunityPostSummaryCache communityPostSummaryCache,
+            CommunityPostSearchIndex communityPostSearchIndex,
+            CommunityPostSummaryRepository communityPostSummaryRepository,
+            CommunityPostSummaryProjector communityPostSummaryProjector,
+            CommunityPostPopularFeed communityPostPopularFeed,
+            AuthorCardCache authorCardCache,
+            UserActivityStatsService userActivityStatsService,
+            CursorCodec cursorCodec,
+            ApplicationEventPublisher eventPublisher
     ) {
         this.communityPostRepository = communityPostRepository;
         this.communityCommentRepository = communityCommentRepository;
         this.communityPostViewTracker = communityPostViewTracker;
+        this.communityPostViewCountBuffer = communityPostViewCountBuffer;
         this.userRepository = userRepository;
         this.communityUploadService = communityUploadService;
         this.communityPostImageRepository = communityPostImageRepository;
         this.userProfileImageResolver = userProfileImageResolver;
+        this.communityPostSummaryCache = communityPostSummaryCache;
+        this.communityPostSearchIndex = communityPostSearchIndex;
+        this.communityPostSummaryRepository = communityPostSummaryRepository;
+        this.communityPostSummaryProjector = communityPostSummaryProjector;
+        this.communityPostPopularFeed = communityPostPopularFeed;
+        this.authorCardCache = authorCardCache;
+        this.userActivityStatsService = userActivityStatsService;
+        this.cursorCodec = cursorCodec;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -77,6 +127,10 @@ public class CommunityPostService {
 
         applyImageKeys(post, request.imageKeys());
         CommunityPost saved = communityPostRepository.save(post);
+        communityPostSummaryProjector.create(saved);
+        userActivityStatsService.postCreated(author.getId());
+        eventPublisher.publishEvent(new CommunityPostChangedEvent(saved.getId(), saved.getBoardType()));
+        eventPublisher.publishEvent(new CommunityPostTextChangedEvent(saved.getId()));
 
         return new CommunityPostResponse(
                 saved.getId(),
@@ -107,11 +161,18 @@ public class CommunityPostService {
             throw CommunityDomainException.noPermission("No permission to update this post");
         }
 
+        CommunityPostBoardType previousBoardType = post.getBoardType();
         post.updateContent(request.title(), request.content());
         post.changeBoardType(request.boardType());
         if (request.imageKeys() != null) {
             applyImageKeys(post, request.imageKeys());
         }
+        communityPostSummaryProjector.update(post);
+        eventPublisher.publishEvent(new CommunityPostChangedEvent(post.getId(), previousBoardType));
+        if (post.getBoardType() != previousBoardType) {
+            eventPublisher.publishEvent(new CommunityPostChangedEvent(post.getId(), post.getBoardType()));
+        }
+        eventPublisher.publishEvent(new CommunityPostTextChangedEvent(post.getId()));
 
         return new CommunityPostResponse(
             post.getId(),
@@ -148,9 +209,13 @@ public class CommunityPostService {
         if (post.getImages() != null) {
             post.getImages().forEach(CommunityPostImage::markDeleted);
         }
+        communityPostSummaryProjector.delete(post.getId());
+        userActivityStatsService.postDeleted(userId, post.getRecommendCount());
+        eventPublisher.publishEvent(new CommunityPostChangedEvent(post.getId(), post.getBoardType()));
+        eventPublisher.publishEvent(new CommunityPostTextChangedEvent(post.getId()));
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public CommunityPostDetailResponse getPost(Long viewerId, Long postId) {
         CommunityPost post = communityPostRepository.findById(postId)
                 .orElseThrow(CommunityDomainException::postNotFound);
@@ -163,11 +228,10 @@ public class CommunityPostService {
             userRepository.findById(viewerId)
                     .orElseThrow(CommunityDomainException::userNotFound);
 
-            boolean isFirstViewToday = communityPostViewTracker.markViewedTodayIfFirst(postId, viewerId);
-            if (isFirstViewToday) {
-                post.increaseViewCount();
-            }
+            // 첫 조회면 Redis 조회수 버퍼까지 함께 증가, CommunityPostViewCountFlushWorker가 일괄 반영 (행 잠금 회피)
+            communityPostViewTracker.markViewedTodayIfFirst(postId, viewerId);
         }
+        int viewCount = post.getViewCount() + (int) communityPostViewCountBuffer.getPendingCount(postId);
 
         var author = post.getAuthor();
         return new CommunityPostDetailResponse(
@@ -181,7 +245,7 @@ public class CommunityPostService {
                 post.getContent(),
                 toImageKeys(post),
                 toImageUrls(post),
-                post.getViewCount(),
+                viewCount,
                 post.getRecommendCount(),
                 post.getCommentCount(),
                 post.getCreatedAt(),
@@ -190,97 +254,87 @@ public class CommunityPostService {
     }
 
     @Transactional(readOnly = true)
-    public CommunityPostCursorListResponse listPosts(CommunityPostBoardType boardType, String cursor, int size) {
+    public CommunityPostCursorListResponse listPosts(
+            CommunityPostBoardType boardType,
+            CommunityPostFeedSort sort,
+            String cursor,
+            int size
+    ) {
         int safeSize = Math.min(50, Math.max(1, size));
+        if (sort == CommunityPostFeedSort.POPULAR) {
+            return listPopularPosts(boardType, cursor, safeSize);
+        }
 
-        CursorUtils.Cursor decodedCursor = CursorUtils.decodeCursor(cursor);
-        int fetchSize = safeSize + 1;
+        CursorCodec.Cursor decodedCursor = cursorCodec.decodeCursor(cursor);
 
-        List<CommunityPost> fetched = communityPostRepository.findForCursor(
-                CommunityContentStatus.ACTIVE,
+        CommunityPostCursorListResponse cached = communityPostSummaryCache.readPage(
                 boardType,
-                decodedCursor == null ? null : decodedCursor.createdAt(),
-                decodedCursor == null ? Long.MAX_VALUE : decodedCursor.id(),
-                PageRequest.of(0, fetchSize)
+                decodedCursor,
+                safeSize,
+                headSize -> findSummariesForCursor(boardType, null, headSize)
         );
+        if (cached != null) {
+            return cached;
+        }
 
-        boolean hasNext = fetched.size() > safeSize;
-        List<CommunityPost> pageItems = hasNext ? fetched.subList(0, safeSize) : fetched;
-
-        Map<Long, String> thumbnailUrlByPostId = buildThumbnailUrlByPostId(pageItems);
-
-        var posts = pageItems.stream()
-                .map(post -> new CommunityPostSummaryResponse(
-                        post.getId(),
-                        post.getAuthor().getId(),
-                        post.getAuthor().getDisplayName(),
-                        userProfileImageResolver.resolve(post.getAuthor()),
-                        post.getAuthor().getTotalDistanceKm(),
-                        post.getBoardType(),
-                        post.getTitle(),
-                        toContentPreview(post.getContent()),
-                        thumbnailUrlByPostId.get(post.getId()),
-                        post.getViewCount(),
-                        post.getRecommendCount(),
-                        post.getCommentCount(),
-                        post.getCreatedAt()
-                ))
-                .collect(Collectors.toList());
+        return toCursorPage(findSummariesForCursor(boardType, decodedCursor, safeSize + 1), safeSize);
+    }
 
-        String nextCursor = null;
-        if (hasNext && !pageItems.isEmpty()) {
-            CommunityPost last = pageItems.get(pageItems.size() - 1);
-            nextCursor = CursorUtils.encodeCursor(last.getCreatedAt(), last.getId());
+    /**
+     * 인기순 목록: Redis 인기 피드에서 순서를 읽고 요약은 한 번에 조회
+     * 게시판 필터/삭제된 게시글로 빠지는 만큼 몇 구간 더 읽고, 그래도 모자라면 마지막으로 읽은 위치를 커서로 반환
+     */
+    private CommunityPostCursorListResponse listPopularPosts(CommunityPostBoardType boardType, String cursor, int safeSize) {
+        CursorCodec.ScoreCursor position = cursorCodec.decodeScoreCursor(cursor);
+        int fetchSize = boardType == null ? safeSize + 1 : (safeSize + 1) * CommunityPostBoardType.values().length;
+
+        List<CommunityPostSummaryResponse> items = new ArrayList<>(safeSize + 1);
+        List<CommunityPostPopularFeed.Entry> itemEntries = new ArrayList<>(safeSize + 1);
+        boolean exhausted = false;
+        for (int round = 0; round < POPULAR_MAX_READ_ROUNDS && items.size() <= safeSize; round++) {
+            List<CommunityPostPopularFeed.Entry> entries = communityPostPopularFeed.read(position, fetchSize);
+            if (entries.size() < fetchSize) {
+                exhausted = true;
+            }
+            if (entries.isEmpty()) break;
+
+            List<Long> postIds = entries.stream().map(CommunityPostPopularFeed.Entry::postId).collect(Collectors.toList());
+            Map<Long, CommunityPostSummaryResponse> summaryByPostId = new HashMap<>();
+            for (CommunityPostSummaryResponse summary : findSummariesByPostIds(postIds, boardType)) {
+                summaryByPostId.put(summary.postId(), summary);
+            }
+
+            for (CommunityPostPopularFeed.Entry entry : entries) {
+                position = new CursorCodec.ScoreCursor(entry.score(), entry.postId());
+                CommunityPostSummaryResponse summary = summaryByPostId.get(entry.postId());
+                if (summary == null) continue;
+                items.add(summary);
+                itemEntries.add(entry);
+                if (items.size() > safeSize) break;
+            }
+            if (exhausted) break;
         }
 
-        return new CommunityPostCursorListResponse(posts, nextCursor);
+        if (items.size() > safeSize) {
+            CommunityPostPopularFeed.Entry last = itemEntries.get(safeSize - 1);
+            return new CommunityPostCursorListResponse(
+                    items.subList(0, safeSize),
+                    cursorCodec.encodeScoreCursor(last.score(), last.postId())
+            );
+        }
+        String nextCursor = exhausted || position == null
+                ? null
+                : cursorCodec.encodeScoreCursor(position.score(), position.id());
+        return new CommunityPostCursorListResponse(items, nextCursor);
     }
 
     @Transactional(readOnly = true)
     public CommunityPostCursorListResponse listPostsByAuthor(Long userId, String cursor, int size) {
         int safeSize = Math.min(50, Math.max(1, size));
 
-        CursorUtils.Cursor decodedCursor = CursorUtils.decodeCursor(cursor);
-        int fetchSize = safeSize + 1;
-
-        List<CommunityPost> fetched = communityPostRepository.findForCursorByAuthorId(
-                CommunityContentStatus.ACTIVE,
-                userId,
-                decodedCursor == null ? null : decodedCursor.createdAt(),
-                decodedCursor == null ? Long.MAX_VALUE : decodedCursor.id(),
-                PageRequest.of(0, fetchSize)
-        );
+        CursorCodec.Cursor decodedCursor = cursorCodec.decodeCursor(cursor);
 
-        boolean hasNext = fetched.size() > safeSize;
-        List<CommunityPost> pageItems = hasNext ? fetched.subList(0, safeSize) : fetched;
-
-        Map<Long, String> thumbnailUrlByPostId = buildThumbnailUrlByPostId(pageItems);
-
-        var posts = pageItems.stream()
-                .map(post -> new CommunityPostSummaryResponse(
-                        post.getId(),
-                        post.getAuthor().getId(),
-                        post.getAuthor().getDisplayName(),
-                        userProfileImageResolver.resolve(post.getAuthor()),
-                        post.getAuthor().getTotalDistanceKm(),
-                        post.getBoardType(),
-                        post.getTitle(),
-                        toContentPreview(post.getContent()),
-                        thumbnailUrlByPostId.get(post.getId()),
-                        post.getViewCount(),
-                        post.getRecommendCount(),
-                        post.getCommentCount(),
-                        post.getCreatedAt()
-                ))
-                .collect(Collectors.toList());
-
-        String nextCursor = null;
-        if (hasNext && !pageItems.isEmpty()) {
-            CommunityPost last = pageItems.get(pageItems.size() - 1);
-            nextCursor = CursorUtils.encodeCursor(last.getCreatedAt(), last.getId());
-        }
-
-        return new CommunityPostCursorListResponse(posts, nextCursor);
+        return toCursorPage(findSummariesForCursorByAuthor(userId, decodedCursor, safeSize + 1), safeSize);
     }
 
     @Transactional(readOnly = true)
@@ -288,7 +342,7 @@ public class CommunityPostService {
         int safeSize = Math.min(50, Math.max(1, size));
         int fetchCommentsSize = Math.min(150, safeSize * 3) + 1;
 
-        CursorUtils.Cursor decodedCursor = CursorUtils.decodeCursor(cursor);
+        CursorCodec.Cursor decodedCursor = cursorCodec.decodeCursor(cursor);
         List<CommunityComment> fetched = communityCommentRepository.findByAuthorIdForCursor(
                 userId,
                 CommunityContentStatus.ACTIVE,
@@ -318,77 +372,79 @@ public class CommunityPostService {
         boolean hasNext = orderedPostIds.size() >= safeSize || fetched.size() >= fetchCommentsSize;
         String nextCursor = null;
         if (hasNext && cursorCommentForNext != null) {
-            nextCursor = CursorUtils.encodeCursor(cursorCommentForNext.getCreatedAt(), cursorCommentForNext.getId());
+            nextCursor = cursorCodec.encodeCursor(cursorCommentForNext.getCreatedAt(), cursorCommentForNext.getId());
         }
 
-        List<CommunityPost> postsById = communityPostRepository.findAllByIdInWithAuthor(
-                CommunityContentStatus.ACTIVE,
-                null,
-                orderedPostIds
-        );
-        Map<Long, Integer> orderByIndex = new HashMap<>(orderedPostIds.size());
-        for (int i = 0; i < orderedPostIds.size(); i++) {
-            orderByIndex.put(orderedPostIds.get(i), i);
-        }
-        List<CommunityPost> orderedPosts = new ArrayList<>(postsById);
-        orderedPosts.sort(Comparator.comparingInt(p -> orderByIndex.getOrDefault(p.getId(), Integer.MAX_VALUE)));
-
-        Map<Long, String> thumbnailUrlByPostId = buildThumbnailUrlByPostId(orderedPosts);
-        var posts = orderedPosts.stream()
-                .map(post -> new CommunityPostSummaryResponse(
-                        post.getId(),
-                        post.getAuthor().getId(),
-                        post.getAuthor().getDisplayName(),
-                        userProfileImageResolver.resolve(post.getAuthor()),
-                        post.getAuthor().getTotalDistanceKm(),
-                        post.getBoardType(),
-                        post.getTitle(),
-                        toContentPreview(post.getContent()),
-                        thumbnailUrlByPostId.get(post.getId()),
-                        post.getViewCount(),
-                        post.getRecommendCount(),
-                        post.getCommentCount(),
-                        post.getCreatedAt()
-                ))
-                .collect(Collectors.toList());
+        var posts = findSummariesByPostIds(orderedPostIds, null);
 
         return new CommunityPostCursorListResponse(posts, nextCursor);
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * user_activity_stats 카운터 조회 (없으면 첫 조회 때 채우므로 readOnly가 아님)
+     */
     public CommunityPostCountResponse countPostsByAuthor(Long userId) {
-        long count = communityPostRepository.countByAuthorIdAndStatus(userId, CommunityContentStatus.ACTIVE);
-        return new CommunityPostCountResponse(count);
+        return new CommunityPostCountResponse(userActivityStatsService.get(userId).postCount());
     }
 
-    @Transactional(readOnly = true)
     public CommunityPostCountResponse countPostsCommentedByUser(Long userId) {
-        long count = communityCommentRepository.countDistinctPostIdsByAuthorIdAndStatus(userId, CommunityContentStatus.ACTIVE);
-        return new CommunityPostCountResponse(count);
+        return new CommunityPostCountResponse(userActivityStatsService.get(userId).commentedPostCount());
     }
 
+    /**
+     * 게시글 검색
+     * 검색 색인(CommunityPostSearchIndex)이 준비되어 있으면 색인으로 ID를 찾고, 아니면 MySQL FULLTEXT로 찾습니다.
+     * RELEVANCE는 (점수, id) 커서로 이어서 조회하며, DB 검색은 최신순만 지원하므로
+     * 색인 없이 시작한 RELEVANCE 검색은 최신순 커서를 발급하고 이후 페이지도 최신순으로 이어 갑니다.
+     * 색인을 쓸 수 없을 때 받은 점수 커서는 이어서 조회할 수 없으므로 거부합니다.
+     */
     @Transactional(readOnly = true)
-    public CommunityPostCursorListResponse searchPosts(String query, CommunityPostBoardType boardType, String cursor, int size) {
+    public CommunityPostCursorListResponse searchPosts(
+            String query,
+            CommunityPostBoardType boardType,
+            CommunityPostSearchSort sort,
+            String cursor,
+            int size
+    ) {
         if (query == null || query.isBlank()) {
             throw CommunityDomainException.queryRequired();
         }
 
         int safeSize = Math.min(50, Math.max(1, size));
         String trimmedQuery = query.trim();
-        String booleanQuery = toBooleanModePrefixQuery(trimmedQuery);
-
-        CursorUtils.Cursor decodedCursor = CursorUtils.decodeCursor(cursor);
         int fetchSize = safeSize + 1;
 
-        List<Long> fetchedIds = communityPostRepository.searchPostIdsForCursor(
-                CommunityContentStatus.ACTIVE.name(),
-                CommunityContentStatus.ACTIVE.name(),
-                boardType == null ? null : boardType.name(),
-                booleanQuery,
-                decodedCursor == null ? null : decodedCursor.createdAt(),
-                decodedCursor == null ? Long.MAX_VALUE : decodedCursor.id(),
-                fetchSize
-        );
+        CursorCodec.ScoreCursor scoreCursor = null;
+        CursorCodec.Cursor decodedCursor = null;
+        boolean relevance = sort == CommunityPostSearchSort.RELEVANCE;
+        if (relevance && cursorCodec.isScoreCursor(cursor)) {
+            scoreCursor = cursorCodec.decodeScoreCursor(cursor);
+        } else {
+            decodedCursor = cursorCodec.decodeCursor(cursor);
+            if (decodedCursor != null) relevance = false;
+        }
+
+        List<CommunityPostSearchIndex.Hit> hits = relevance
+                ? communityPostSearchIndex.searchRelevant(trimmedQuery, boardType, scoreCursor, fetchSize)
+                : communityPostSearchIndex.searchRecent(trimmedQuery, boardType, decodedCursor, fetchSize);
+        List<Long> fetchedIds;
+        if (hits != null) {
+            fetchedIds = hits.stream().map(CommunityPostSearchIndex.Hit::postId).toList();
+        } else {
+            if (scoreCursor != null) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            relevance = false;
+            fetchedIds = communityPostRepository.searchPostIdsForCursor(
+                    CommunityContentStatus.ACTIVE.name(),
+                    CommunityContentStatus.ACTIVE.name(),
+                    boardType == null ? null : boardType.name(),
+                    toBooleanModePrefixQuery(trimmedQuery),
+                    decodedCursor == null ? null : decodedCursor.createdAt(),
+                    decodedCursor == null ? Long.MAX_VALUE : decodedCursor.id(),
+                    fetchSize
+            );
+        }
 
         boolean hasNext = fetchedIds.size() > safeSize;
         List<Long> pageIds = hasNext ? fetchedIds.subList(0, safeSize) : fetchedIds;
@@ -396,52 +452,22 @@ public class CommunityPostService {
             return new CommunityPostCursorListResponse(List.of(), null);
         }
 
-        List<CommunityPost> fetchedPosts = communityPostRepository.findAllByIdInWithAuthor(
-                CommunityContentStatus.ACTIVE,
-                boardType,
-                pageIds
-        );
-        Map<Long, CommunityPost> postById = fetchedPosts.stream()
-                .collect(Collectors.toMap(CommunityPost::getId, post -> post));
-
-        List<CommunityPost> orderedPosts = new ArrayList<>(pageIds.size());
-        for (Long id : pageIds) {
-            CommunityPost post = postById.get(id);
-            if (post != null) {
-                orderedPosts.add(post);
-            }
-        }
-
-        Map<Long, String> thumbnailUrlByPostId = buildThumbnailUrlByPostId(orderedPosts);
-
-        var posts = orderedPosts.stream()
-                .map(post -> new CommunityPostSummaryResponse(
-                        post.getId(),
-                        post.getAuthor().getId(),
-                        post.getAuthor().getDisplayName(),
-                        userProfileImageResolver.resolve(post.getAuthor()),
-                        post.getAuthor().getTotalDistanceKm(),
-                        post.getBoardType(),
-                        post.getTitle(),
-                        toContentPreview(post.getContent()),
-                        thumbnailUrlByPostId.get(post.getId()),
-                        post.getViewCount(),
-                        post.getRecommendCount(),
-                        post.getCommentCount(),
-                        post.getCreatedAt()
-                ))
-                .collect(Collectors.toList());
+        List<CommunityPostSummaryResponse> posts = findSummariesByPostIds(pageIds, boardType);
 
         String nextCursor = null;
-        if (hasNext && !orderedPosts.isEmpty()) {
-            CommunityPost last = orderedPosts.get(orderedPosts.size() - 1);
-            nextCursor = CursorUtils.encodeCursor(last.getCreatedAt(), last.getId());
+        if (hasNext && relevance) {
+            CommunityPostSearchIndex.Hit last = hits.get(safeSize - 1);
+            nextCursor = cursorCodec.encodeScoreCursor(last.score(), last.postId());
+        } else if (hasNext && !posts.isEmpty()) {
+            CommunityPostSummaryResponse last = posts.get(posts.size() - 1);
+            nextCursor = cursorCodec.encodeCursor(last.createdAt(), last.postId());
         }
 
         return new CommunityPostCursorListResponse(posts, nextCursor);
     }
 
-    private String toBooleanModePrefixQuery(String rawQuery) {
+    // 벤치마크(src/jmh)에서 직접 호출하기 위해 package-private
+    static String toBooleanModePrefixQuery(String rawQuery) {
         String trimmed = rawQuery == null ? "" : rawQuery.trim();
         if (trimmed.isEmpty()) return trimmed;
 
@@ -469,19 +495,166 @@ public class CommunityPostService {
         return sb.toString();
     }
 
-    private String toContentPreview(String content) {
+    static String toContentPreview(String content) {
         if (content == null) return "";
         String singleLine = content.replaceAll("\\s+", " ").trim();
-        int limit = 120;
-        if (singleLine.length() <= limit) return singleLine;
-        return singleLine.substring(0, limit).trim() + "…";
+        if (singleLine.length() <= CONTENT_PREVIEW_LENGTH) return singleLine;
+        return singleLine.substring(0, CONTENT_PREVIEW_LENGTH).trim() + "…";
+    }
+
+    /**
+     * 최신순 요약 목록 (읽기 모델이 준비되기 전에는 원본 테이블에서 조회)
+     */
+    private List<CommunityPostSummaryResponse> findSummariesForCursor(
+            CommunityPostBoardType boardType,
+            CursorCodec.Cursor cursor,
+            int limit
+    ) {
+        LocalDateTime cursorCreatedAt = cursor == null ? null : cursor.createdAt();
+        long cursorId = cursor == null ? Long.MAX_VALUE : cursor.id();
+        if (communityPostSummaryProjector.isReady()) {
+            return toSummaryResponsesFromReadModel(communityPostSummaryRepository.findForCursor(
+                    boardType,
+                    cursorCreatedAt,
+                    cursorId,
+                    PageRequest.of(0, limit)
+            ));
+        }
+        return toSummaryResponses(communityPostRepository.findForCursor(
+                CommunityContentStatus.ACTIVE,
+                boardType,
+                cursorCreatedAt,
+                cursorId,
+                CONTENT_HEAD_LENGTH,
+                PageRequest.of(0, limit)
+        ));
+    }
+
+    private List<CommunityPostSummaryResponse> findSummariesForCursorByAuthor(
+            Long authorId,
+            CursorCodec.Cursor cursor,
+            int limit
+    ) {
+        LocalDateTime cursorCreatedAt = cursor == null ? null : cursor.createdAt();
+        long cursorId = cursor == null ? Long.MAX_VALUE : cursor.id();
+        if (communityPostSummaryProjector.isReady()) {
+            return toSummaryResponsesFromReadModel(communityPostSummaryRepository.findForCursorByAuthorId(
+                    authorId,
+                    cursorCreatedAt,
+                    cursorId,
+                    PageRequest.of(0, limit)
+            ));
+        }
+        return toSummaryResponses(communityPostRepository.findForCursorByAuthorId(
+                CommunityContentStatus.ACTIVE,
+                authorId,
+                cursorCreatedAt,
+                cursorId,
+                CONTENT_HEAD_LENGTH,
+                PageRequest.of(0, limit)
+        ));
+    }
+
+    /**
+     * postIds 순서대로 요약 목록 (ACTIVE가 아니거나 게시판이 다른 게시글은 제외)
+     */
+    private List<CommunityPostSummaryResponse> findSummariesByPostIds(
+            List<Long> postIds,
+            CommunityPostBoardType boardType
+    ) {
+        List<CommunityPostSummaryResponse> summaries = communityPostSummaryProjector.isReady()
+                ? toSummaryResponsesFromReadModel(communityPostSummaryRepository.findAllByPostIdIn(postIds, boardType))
+                : toSummaryResponses(communityPostRepository.findSummaryRowsByIdIn(
+                        CommunityContentStatus.ACTIVE,
+                        boardType,
+                        postIds,
+                        CONTENT_HEAD_LENGTH
+                ));
+
+        Map<Long, CommunityPostSummaryResponse> summaryByPostId = new HashMap<>(summaries.size());
+        for (CommunityPostSummaryResponse summary : summaries) {
+            summaryByPostId.put(summary.postId(), summary);
+        }
+
+        List<CommunityPostSummaryResponse> ordered = new ArrayList<>(postIds.size());
+        for (Long postId : postIds) {
+            CommunityPostSummaryResponse summary = summaryByPostId.get(postId);
+            if (summary != null) {
+                ordered.add(summary);
+            }
+        }
+        return ordered;
+    }
+
+    private CommunityPostCursorListResponse toCursorPage(List<CommunityPostSummaryResponse> fetched, int size) {
+        boolean hasNext = fetched.size() > size;
+        List<CommunityPostSummaryResponse> pageItems = hasNext ? fetched.subList(0, size) : fetched;
+
+        String nextCursor = null;
+        if (hasNext && !pageItems.isEmpty()) {
+            CommunityPostSummaryResponse last = pageItems.get(pageItems.size() - 1);
+            nextCursor = cursorCodec.encodeCursor(last.createdAt(), last.postId());
+        }
+
+        return new CommunityPostCursorListResponse(pageItems, nextCursor);
+    }
+
+    private List<CommunityPostSummaryResponse> toSummaryResponsesFromReadModel(List<CommunityPostSummary> summaries) {
+        return summaries.stream()
+                .map(summary -> new CommunityPostSummaryResponse(
+                        summary.getPostId(),
+                        summary.getAuthorId(),
+                        summary.getAuthorDisplayName(),
+                        userProfileImageResolver.resolveCustomPicture(summary.getAuthorCustomPicture()),
+                        summary.getAuthorTotalDistanceKm(),
+                        summary.getBoardType(),
+                        summary.getTitle(),
+                        summary.getContentPreview(),
+                        summary.getThumbnailKey() == null
+                                ? null
+                                : communityUploadService.toPublicFileUrl(summary.getThumbnailKey()),
+                        summary.getViewCount(),
+                        summary.getRecommendCount(),
+                        summary.getCommentCount(),
+                        summary.getCreatedAt()
+                ))
+                .collect(Collectors.toList());
+    }
+
+    private List<CommunityPostSummaryResponse> toSummaryResponses(List<CommunityPostRepository.SummaryRow> rows) {
+        Map<Long, String> thumbnailUrlByPostId = buildThumbnailUrlByPostId(
+                rows.stream().map(CommunityPostRepository.SummaryRow::getId).collect(Collectors.toList())
+        );
+        Map<Long, AuthorCard> authorCards = authorCardCache.getAll(
+                rows.stream().map(CommunityPostRepository.SummaryRow::getAuthorId).collect(Collectors.toList())
+        );
+
+        return rows.stream()
+                .map(row -> {
+                    AuthorCard author = authorCards.get(row.getAuthorId());
+                    return new CommunityPostSummaryResponse(
+                            row.getId(),
+                            row.getAuthorId(),
+                            author == null ? null : author.displayName(),
+                            author == null ? null : author.profileImageUrl(),
+                            author == null ? null : author.totalDistanceKm(),
+                            row.getBoardType(),
+                            row.getTitle(),
+                            toContentPreview(row.getContentHead()),
+                            thumbnailUrlByPostId.get(row.getId()),
+                            row.getViewCount(),
+                            row.getRecommendCount(),
+                            row.getCommentCount(),
+                            row.getCreatedAt()
+                    );
+                })
+                .collect(Collectors.toList());
     }
 
-    private Map<Long, String> buildThumbnailUrlByPostId(List<CommunityPost> posts) {
+    private Map<Long, String> buildThumbnailUrlByPostId(List<Long> postIds) {
         Map<Long, String> thumbnailUrlByPostId = new HashMap<>();
-        if (posts == null || posts.isEmpty()) return thumbnailUrlByPostId;
+        if (postIds == null || postIds.isEmpty()) return thumbnailUrlByPostId;
 
-        List<Long> postIds = posts.stream().map(CommunityPost::getId).collect(Collectors.toList());
         List<CommunityPostImage> images =
                 communityPostImageRepository.findByPostIdsAndStatus(postIds, CommunityPostImageStatus.ACTIVE);
 
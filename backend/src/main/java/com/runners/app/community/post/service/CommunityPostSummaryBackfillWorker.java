@@ -0,0 +1,102 @@
+package com.runners.app.community.post.service;
+
+import com.runners.app.global.startup.StartupTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 시작 시 요약 행이 없는 ACTIVE 게시글을 community_post_summaries에 채운 뒤 읽기 모델을 ready로 전환
+ * (테이블 도입 이전 게시글, JDBC로 직접 적재한 게시글 등)
+ *
+ * 실패한 배치는 잠시 뒤 MAX_ATTEMPTS번까지 다시 시도하고, 그래도 실패하면 그 배치부터 retry-interval-ms마다 이어서 채웁니다.
+ */
+@Slf4j
+@Component
+public class CommunityPostSummaryBackfillWorker implements StartupTask {
+
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long RETRY_BACKOFF_MS = 1_000L;
+
+    private final CommunityPostSummaryProjector projector;
+    private final int batchSize;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    // 실패 시 다음 시도가 이어서 채울 위치 (null이면 실패한 채우기 없음)
+    private volatile Long resumeAfterId;
+
+    public CommunityPostSummaryBackfillWorker(
+            CommunityPostSummaryProjector projector,
+            @Value("${app.community.post-summary.backfill-batch-size:500}") int batchSize
+    ) {
+        this.projector = projector;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    @Override
+    public void runOnStartup() {
+        backfill();
+    }
+
+    @Scheduled(fixedDelayString = "${app.community.post-summary.backfill-retry-interval-ms:60000}")
+    public void retryFailedBackfill() {
+        Long afterId = resumeAfterId;
+        if (afterId == null) return;
+        backfillFrom(afterId);
+    }
+
+    /**
+     * 누락된 요약 행을 모두 채우고 ready 전환
+     */
+    public void backfill() {
+        backfillFrom(0L);
+    }
+
+    private void backfillFrom(Long startAfterId) {
+        if (!running.compareAndSet(false, true)) return;
+
+        long startedAt = System.currentTimeMillis();
+        int batches = 0;
+        Long afterId = startAfterId;
+        try {
+            while (true) {
+                Long lastId = backfillBatchWithRetry(afterId);
+                if (lastId == null) break;
+                batches++;
+                afterId = lastId;
+            }
+            resumeAfterId = null;
+            projector.markReady();
+            log.info("Community post summaries backfilled: batches={}, lastPostId={}, elapsedMs={}",
+                    batches, afterId, System.currentTimeMillis() - startedAt);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            resumeAfterId = afterId;
+        } catch (Exception e) {
+            // ready로 전환하지 않으므로 목록은 계속 원본 테이블에서 조회되고, 다음 재시도가 이 배치부터 이어서 채움
+            resumeAfterId = afterId;
+            log.error("Failed to backfill community post summaries, will resume: lastPostId={}", afterId, e);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private Long backfillBatchWithRetry(Long afterId) throws InterruptedException {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                Long lastId = projector.backfillBatchAfter(afterId, batchSize);
+                if (lastId != null) {
+                    projector.syncBackfilledRange(afterId, lastId);
+                }
+                return lastId;
+            } catch (RuntimeException e) {
+                if (attempt >= MAX_ATTEMPTS) throw e;
+                log.warn("Community post summary backfill batch failed, retrying: afterId={}, attempt={}",
+                        afterId, attempt, e);
+                Thread.sleep(RETRY_BACKOFF_MS * attempt);
+            }
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package com.runners.app.community.post.service;
+
+import com.runners.app.community.post.entity.CommunityPost;
+import com.runners.app.community.post.entity.CommunityPostImage;
+import com.runners.app.community.post.entity.CommunityPostImageStatus;
+import com.runners.app.community.post.entity.CommunityPostSummary;
+import com.runners.app.community.post.repository.CommunityPostImageRepository;
+import com.runners.app.community.post.repository.CommunityPostRepository;
+import com.runners.app.community.post.repository.CommunityPostSummaryRepository;
+import com.runners.app.global.status.CommunityContentStatus;
+import com.runners.app.user.entity.User;
+import com.runners.app.user.event.UserProfileChangedEvent;
+import com.runners.app.user.repository.UserRepository;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * community_post_summaries 읽기 모델 갱신
+ *
+ * 게시글/댓글/추천/조회수/작성자 정보가 바뀌는 쓰기 경로에서 호출되어 원본과 같은 트랜잭션으로 반영합니다.
+ * 카운터는 원본과 같이 원자적 UPDATE로만 바꿉니다.
+ * 읽기 모델이 비어 있는 게시글은 시작 시 CommunityPostSummaryBackfillWorker가 채우며,
+ * 채우기가 끝나기 전(ready=false)에는 목록이 원본 테이블에서 조회됩니다.
+ */
+@Component
+public class CommunityPostSummaryProjector {
+
+    private final CommunityPostSummaryRepository summaryRepository;
+    private final CommunityPostRepository communityPostRepository;
+    private final CommunityPostImageRepository communityPostImageRepository;
+    private final UserRepository userRepository;
+
+    private volatile boolean ready;
+
+    public CommunityPostSummaryProjector(
+            CommunityPostSummaryRepository summaryRepository,
+            CommunityPostRepository communityPostRepository,
+            CommunityPostImageRepository communityPostImageRepository,
+            UserRepository userRepository
+    ) {
+        this.summaryRepository = summaryRepository;
+        this.communityPostRepository = communityPostRepository;
+        this.communityPostImageRepository = communityPostImageRepository;
+        this.userRepository = userRepository;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void markReady() {
+        ready = true;
+    }
+
+    /**
+     * 게시글 작성 시 요약 행 생성
+     */
+    public void create(CommunityPost post) {
+        summaryRepository.save(toSummary(post, firstActiveImageKey(post.getImages())));
+    }
+
+    /**
+     * 게시글 수정 시 요약 행 갱신
+     * 아직 채워지지 않은 게시글이면 채우기와 동시에 넣을 수 있으므로 중복 무시 insert 하고,
+     * 채우기가 먼저 넣었으면(수정 전 내용) 그 행을 다시 덮어씁니다.
+     */
+    public void update(CommunityPost post) {
+        String thumbnailKey = firstActiveImageKey(post.getImages());
+        Optional<CommunityPostSummary> existing = summaryRepository.findById(post.getId());
+        if (existing.isPresent()) {
+            existing.get().updateContent(
+                    post.getBoardType(),
+                    post.getTitle(),
+                    CommunityPostService.toContentPreview(post.getContent()),
+                    thumbnailKey,
+                    post.getAuthor().getDisplayName(),
+                    post.getAuthor().getCustomPicture(),
+                    post.getAuthor().getTotalDistanceKm()
+            );
+            return;
+        }
+
+        CommunityPostSummary summary = toSummary(post, thumbnailKey);
+        if (summaryRepository.insertIgnoreIfActive(summary) > 0) return;
+        summaryRepository.overwriteContent(
+                summary.getPostId(),
+                summary.getBoardType(),
+                summary.getTitle(),
+                summary.getContentPreview(),
+                summary.getThumbnailKey(),
+                summary.getAuthorDisplayName(),
+                summary.getAuthorCustomPicture(),
+                summary.getAuthorTotalDistanceKm()
+        );
+    }
+
+    public void delete(Long postId) {
+        summaryRepository.deleteByPostId(postId);
+    }
+
+    public void increaseViewCount(List<Long> postIds, int delta) {
+        summaryRepository.increaseViewCount(postIds, delta);
+    }
+
+    public void increaseRecommendCount(Long postId) {
+        summaryRepository.increaseRecommendCount(postId);
+    }
+
+    public void decreaseRecommendCount(Long postId) {
+        summaryRepository.decreaseRecommendCount(postId);
+    }
+
+    public void increaseCommentCount(Long postId) {
+        summaryRepository.increaseCommentCount(postId);
+    }
+
+    public void decreaseCommentCount(Long postId) {
+        summaryRepository.decreaseCommentCount(postId);
+    }
+
+    @EventListener
+    public void handleUserProfileChanged(UserProfileChangedEvent event) {
+        userRepository.findById(event.userId()).ifPresent(user -> summaryRepository.updateAuthor(
+                user.getId(),
+                user.getDisplayName(),
+                user.getCustomPicture(),
+                user.getTotalDistanceKm()
+        ));
+    }
+
+    /**
+     * afterId 다음의 요약 행이 없는 ACTIVE 게시글 batchSize건을 채움
+     *
+     * @return 마지막으로 처리한 게시글 ID, 더 없으면 null
+     */
+    @Transactional
+    public Long backfillBatchAfter(Long afterId, int batchSize) {
+        List<Long> postIds = communityPostRepository.findIdsWithoutSummaryAfterId(
+                CommunityContentStatus.ACTIVE,
+                afterId,
+                PageRequest.of(0, batchSize)
+        );
+        if (postIds.isEmpty()) return null;
+
+        Map<Long, String> thumbnailKeyByPostId = new HashMap<>();
+        for (CommunityPostImage image : communityPostImageRepository.findByPostIdsAndStatus(
+                postIds,
+                CommunityPostImageStatus.ACTIVE
+        )) {
+            thumbnailKeyByPostId.putIfAbsent(image.getPost().getId(), image.getS3Key());
+        }
+
+        List<CommunityPostSummary> summaries = new ArrayList<>(postIds.size());
+        for (CommunityPost post : communityPostRepository.findAllByIdInWithAuthor(
+                CommunityContentStatus.ACTIVE,
+                null,
+                postIds
+        )) {
+            summaries.add(toSummary(post, thumbnailKeyByPostId.get(post.getId())));
+        }
+        // 읽은 뒤 수정(행 생성)/삭제가 먼저 커밋될 수 있으므로 이미 있는 행은 건너뛰고 지금도 ACTIVE인 게시글만 insert
+        summaryRepository.insertIgnoreAllIfActive(summaries);
+        return postIds.get(postIds.size() - 1);
+    }
+
+    /**
+     * 채운 범위를 원본과 다시 맞춤
+     * 채우기가 게시글을 읽은 뒤 커밋되기 전에 커밋된 조회수/추천/댓글 증감은 요약 행이 없어 0건 갱신되고,
+     * 같은 사이에 삭제된 게시글은 행이 남을 수 있으므로, 채우기 트랜잭션 커밋 후 호출해 그 차이를 맞춥니다.
+     * (이후 증감/삭제는 만들어진 행에 그대로 반영됨)
+     */
+    @Transactional
+    public void syncBackfilledRange(Long afterId, Long lastId) {
+        summaryRepository.deleteInactiveInRange(afterId, lastId, CommunityContentStatus.ACTIVE.name());
+        summaryRepository.syncCountersInRange(afterId, lastId);
+    }
+
+    private CommunityPostSummary toSummary(CommunityPost post, String thumbnailKey) {
+        User author = post.getAuthor();
+        return CommunityPostSummary.builder()
+                .postId(post.getId())
+                .authorId(author.getId())
+                .authorDisplayName(author.getDisplayName())
+                .authorCustomPicture(author.getCustomPicture())
+                .authorTotalDistanceKm(author.getTotalDistanceKm())
+                .boardType(post.getBoardType())
+                .title(post.getTitle())
+                .contentPreview(CommunityPostService.toContentPreview(post.getContent()))
+                .thumbnailKey(thumbnailKey)
+                .viewCount(post.getViewCount())
+                .recommendCount(post.getRecommendCount())
+                .commentCount(post.getCommentCount())
+                .createdAt(post.getCreatedAt())
+                .build();
+    }
+
+    private String firstActiveImageKey(List<CommunityPostImage> images) {
+        if (images == null || images.isEmpty()) return null;
+        return images.stream()
+                .filter(CommunityPostImage::isActive)
+                .min(Comparator.comparingInt(CommunityPostImage::getSortOrder))
+                .map(CommunityPostImage::getS3Key)
+                .orElse(null);
+    }
+}
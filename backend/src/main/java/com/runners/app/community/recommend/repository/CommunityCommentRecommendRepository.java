@@ -2,8 +2,37 @@ package com.runners.app.community.recommend.repository;
 
 import com.runners.app.community.recommend.entity.CommunityCommentRecommend;
 import com.runners.app.community.recommend.entity.CommunityCommentRecommendId;
+import java.time.LocalDateTime;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface CommunityCommentRecommendRepository extends JpaRepository<CommunityCommentRecommend, CommunityCommentRecommendId> {
-}
 
+    /**
+     * PK(comment_id, user_id) 중복이면 무시
+     * @return 1이면 새로 추천, 0이면 이미 추천한 상태
+     */
+    @Modifying
+    @Query(
+            value = """
+            insert ignore into community_comment_recommends (comment_id, user_id, created_at)
+            values (:commentId, :userId, :createdAt)
+            """,
+            nativeQuery = true
+    )
+    int insertIgnore(
+            @Param("commentId") Long commentId,
+            @Param("userId") Long userId,
+            @Param("createdAt") LocalDateTime createdAt
+    );
+
+    @Modifying
+    @Query("""
+            delete from CommunityCommentRecommend r
+            where r.id.commentId = :commentId
+              and r.id.userId = :userId
+            """)
+    int deleteByCommentIdAndUserId(@Param("commentId") Long commentId, @Param("userId") Long userId);
+}
@@ -2,8 +2,46 @@ package com.runners.app.community.recommend.repository;
 
 import com.runners.app.community.recommend.entity.CommunityPostRecommend;
 import com.runners.app.community.recommend.entity.CommunityPostRecommendId;
+import java.time.LocalDateTime;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface CommunityPostRecommendRepository extends JpaRepository<CommunityPostRecommend, CommunityPostRecommendId> {
-}
 
+    /**
+     * PK(post_id, user_id) 중복이면 무시
+     * @return 1이면 새로 추천, 0이면 이미 추천한 상태
+     */
+    @Modifying
+    @Query(
+            value = """
+            insert ignore into community_post_recommends (post_id, user_id, created_at)
+            values (:postId, :userId, :createdAt)
+            """,
+            nativeQuery = true
+    )
+    int insertIgnore(
+            @Param("postId") Long postId,
+            @Param("userId") Long userId,
+            @Param("createdAt") LocalDateTime createdAt
+    );
+
+    @Query("""
+            select r.createdAt
+            from CommunityPostRecommend r
+            where r.id.postId = :postId
+              and r.id.userId = :userId
+            """)
+    Optional<LocalDateTime> findCreatedAtByPostIdAndUserId(@Param("postId") Long postId, @Param("userId") Long userId);
+
+    @Modifying
+    @Query("""
+            delete from CommunityPostRecommend r
+            where r.id.postId = :postId
+              and r.id.userId = :userId
+            """)
+    int deleteByPostIdAndUserId(@Param("postId") Long postId, @Param("userId") Long userId);
+}
@@ -1,8 +1,8 @@
 package com.runners.app.community.recommend.service;
 
+import com.runners.app.community.activity.event.RecommendReceivedEvent;
 import com.runners.app.community.comment.entity.CommunityComment;
 import com.runners.app.community.comment.repository.CommunityCommentRepository;
-import com.runners.app.community.recommend.entity.CommunityCommentRecommend;
 import com.runners.app.community.recommend.entity.CommunityCommentRecommendId;
 import com.runners.app.community.recommend.event.CommentRecommendedEvent;
 import com.runners.app.community.recommend.dto.response.CommunityCommentRecommendResponse;
@@ -11,6 +11,7 @@ import com.runners.app.global.status.CommunityContentStatus;
 import com.runners.app.community.exception.CommunityDomainException;
 import com.runners.app.user.entity.User;
 import com.runners.app.user.repository.UserRepository;
+import java.time.LocalDateTime;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -43,50 +44,43 @@ public class CommunityCommentRecommendService {
         return new CommunityCommentRecommendResponse(postId, comment.getId(), recommended, comment.getRecommendCount());
     }
 
+    /**
+     * 행 잠금 없이 PK 중복 무시 insert + 원자적 카운터 증가로 멱등 처리
+     */
     @Transactional
     public CommunityCommentRecommendResponse recommend(Long userId, Long postId, Long commentId) {
-        CommunityComment comment = findActiveCommentForUpdateForPostOrThrow(postId, commentId);
-        User user = findUserOrThrow(userId);
-
-        CommunityCommentRecommendId id = new CommunityCommentRecommendId(comment.getId(), user.getId());
-        boolean alreadyRecommended = communityCommentRecommendRepository.existsById(id);
-        if (alreadyRecommended) {
-            return new CommunityCommentRecommendResponse(postId, comment.getId(), true, comment.getRecommendCount());
+        CommunityComment comment = findActiveCommentForPostOrThrow(postId, commentId);
+        validateUserExistsOrThrow(userId);
+
+        boolean inserted = communityCommentRecommendRepository.insertIgnore(comment.getId(), userId, LocalDateTime.now()) > 0;
+        if (inserted) {
+            communityCommentRepository.increaseRecommendCount(comment.getId());
+            eventPublisher.publishEvent(new RecommendReceivedEvent(comment.getAuthor().getId(), 1));
+            eventPublisher.publishEvent(new CommentRecommendedEvent(
+                    comment.getId(),
+                    postId,
+                    comment.getAuthor().getId(),
+                    userId
+            ));
         }
 
-        communityCommentRecommendRepository.save(
-                CommunityCommentRecommend.builder()
-                        .id(id)
-                        .comment(comment)
-                        .user(user)
-                        .build()
-        );
-        comment.increaseRecommendCount();
-        eventPublisher.publishEvent(new CommentRecommendedEvent(
-                comment.getId(),
-                postId,
-                comment.getAuthor().getId(),
-                user.getId()
-        ));
-
-        return new CommunityCommentRecommendResponse(postId, comment.getId(), true, comment.getRecommendCount());
+        int recommendCount = communityCommentRepository.findRecommendCountById(comment.getId());
+        return new CommunityCommentRecommendResponse(postId, comment.getId(), true, recommendCount);
     }
 
     @Transactional
     public CommunityCommentRecommendResponse unrecommend(Long userId, Long postId, Long commentId) {
-        CommunityComment comment = findActiveCommentForUpdateForPostOrThrow(postId, commentId);
-        User user = findUserOrThrow(userId);
+        CommunityComment comment = findActiveCommentForPostOrThrow(postId, commentId);
+        validateUserExistsOrThrow(userId);
 
-        CommunityCommentRecommendId id = new CommunityCommentRecommendId(comment.getId(), user.getId());
-        boolean alreadyRecommended = communityCommentRecommendRepository.existsById(id);
-        if (!alreadyRecommended) {
-            return new CommunityCommentRecommendResponse(postId, comment.getId(), false, comment.getRecommendCount());
+        boolean deleted = communityCommentRecommendRepository.deleteByCommentIdAndUserId(comment.getId(), userId) > 0;
+        if (deleted) {
+            communityCommentRepository.decreaseRecommendCount(comment.getId());
+            eventPublisher.publishEvent(new RecommendReceivedEvent(comment.getAuthor().getId(), -1));
         }
 
-        communityCommentRecommendRepository.deleteById(id);
-        comment.decreaseRecommendCount();
-
-        return new CommunityCommentRecommendResponse(postId, comment.getId(), false, comment.getRecommendCount());
+        int recommendCount = communityCommentRepository.findRecommendCountById(comment.getId());
+        return new CommunityCommentRecommendResponse(postId, comment.getId(), false, recommendCount);
     }
 
     private void validatePositiveIdOrThrow(Long id, String fieldName) {
@@ -106,20 +100,16 @@ public class CommunityCommentRecommendService {
         return comment;
     }
 
-    private CommunityComment findActiveCommentForUpdateForPostOrThrow(Long postId, Long commentId) {
-        validatePositiveIdOrThrow(postId, "postId");
-        validatePositiveIdOrThrow(commentId, "commentId");
-        CommunityComment comment = communityCommentRepository.findByIdForUpdate(commentId)
-                .orElseThrow(CommunityDomainException::commentNotFound);
-        if (comment.getStatus() == CommunityContentStatus.DELETED || !comment.getPost().getId().equals(postId)) {
-            throw CommunityDomainException.commentNotFound();
-        }
-        return comment;
-    }
-
     private User findUserOrThrow(Long userId) {
         validatePositiveIdOrThrow(userId, "userId");
         return userRepository.findById(userId)
                 .orElseThrow(CommunityDomainException::userNotFound);
     }
+
+    private void validateUserExistsOrThrow(Long userId) {
+        validatePositiveIdOrThrow(userId, "userId");
+        if (!userRepository.existsById(userId)) {
+            throw CommunityDomainException.userNotFound();
+        }
+    }
 }
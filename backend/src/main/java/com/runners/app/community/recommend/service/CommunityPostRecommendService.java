@@ -1,8 +1,11 @@
 package com.runners.app.community.recommend.service;
 
+import com.runners.app.community.activity.event.RecommendReceivedEvent;
 import com.runners.app.community.post.entity.CommunityPost;
+import com.runners.app.community.post.event.CommunityPostChangedEvent;
+import com.runners.app.community.post.event.CommunityPostEngagementEvent;
 import com.runners.app.community.post.repository.CommunityPostRepository;
-import com.runners.app.community.recommend.entity.CommunityPostRecommend;
+import com.runners.app.community.post.service.CommunityPostSummaryProjector;
 import com.runners.app.community.recommend.entity.CommunityPostRecommendId;
 import com.runners.app.community.recommend.event.PostRecommendedEvent;
 import com.runners.app.community.recommend.dto.response.CommunityPostRecommendResponse;
@@ -11,6 +14,7 @@ import com.runners.app.global.status.CommunityContentStatus;
 import com.runners.app.community.exception.CommunityDomainException;
 import com.runners.app.user.entity.User;
 import com.runners.app.user.repository.UserRepository;
+import java.time.LocalDateTime;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -21,17 +25,20 @@ public class CommunityPostRecommendService {
     private final CommunityPostRepository communityPostRepository;
     private final CommunityPostRecommendRepository communityPostRecommendRepository;
     private final UserRepository userRepository;
+    private final CommunityPostSummaryProjector communityPostSummaryProjector;
     private final ApplicationEventPublisher eventPublisher;
 
     public CommunityPostRecommendService(
             CommunityPostRepository communityPostRepository,
             CommunityPostRecommendRepository communityPostRecommendRepository,
             UserRepository userRepository,
+            CommunityPostSummaryProjector communityPostSummaryProjector,
             ApplicationEventPublisher eventPublisher
     ) {
         this.communityPostRepository = communityPostRepository;
         this.communityPostRecommendRepository = communityPostRecommendRepository;
         this.userRepository = userRepository;
+        this.communityPostSummaryProjector = communityPostSummaryProjector;
         this.eventPublisher = eventPublisher;
     }
 
@@ -43,49 +50,66 @@ public class CommunityPostRecommendService {
         return new CommunityPostRecommendResponse(post.getId(), recommended, post.getRecommendCount());
     }
 
+    /**
+     * 행 잠금 없이 PK 중복 무시 insert + 원자적 카운터 증가로 멱등 처리
+     */
     @Transactional
     public CommunityPostRecommendResponse recommend(Long userId, Long postId) {
-        CommunityPost post = findActivePostForUpdateOrThrow(postId);
-        User user = findUserOrThrow(userId);
-
-        CommunityPostRecommendId id = new CommunityPostRecommendId(post.getId(), user.getId());
-        boolean alreadyRecommended = communityPostRecommendRepository.existsById(id);
-        if (alreadyRecommended) {
-            return new CommunityPostRecommendResponse(post.getId(), true, post.getRecommendCount());
+        CommunityPost post = findActivePostOrThrow(postId);
+        validateUserExistsOrThrow(userId);
+
+        LocalDateTime now = LocalDateTime.now();
+        boolean inserted = communityPostRecommendRepository.insertIgnore(post.getId(), userId, now) > 0;
+        if (inserted) {
+            communityPostRepository.increaseRecommendCount(post.getId());
+            communityPostSummaryProjector.increaseRecommendCount(post.getId());
+            eventPublisher.publishEvent(new RecommendReceivedEvent(post.getAuthor().getId(), 1));
+            eventPublisher.publishEvent(new PostRecommendedEvent(
+                    post.getId(),
+                    post.getAuthor().getId(),
+                    userId
+            ));
+            eventPublisher.publishEvent(new CommunityPostChangedEvent(post.getId(), post.getBoardType()));
+            eventPublisher.publishEvent(new CommunityPostEngagementEvent(
+                    post.getId(),
+                    CommunityPostEngagementEvent.Type.RECOMMEND,
+                    1,
+                    now
+            ));
         }
 
-        communityPostRecommendRepository.save(
-                CommunityPostRecommend.builder()
-                        .id(id)
-                        .post(post)
-                        .user(user)
-                        .build()
-        );
-        post.increaseRecommendCount();
-        eventPublisher.publishEvent(new PostRecommendedEvent(
-                post.getId(),
-                post.getAuthor().getId(),
-                user.getId()
-        ));
-
-        return new CommunityPostRecommendResponse(post.getId(), true, post.getRecommendCount());
+        int recommendCount = communityPostRepository.findRecommendCountById(post.getId());
+        return new CommunityPostRecommendResponse(post.getId(), true, recommendCount);
     }
 
+    /**
+     * 인기 피드 점수는 추천한 시각 기준으로 빼야 하므로 삭제 전에 추천 시각을 읽음
+     */
     @Transactional
     public CommunityPostRecommendResponse unrecommend(Long userId, Long postId) {
-        CommunityPost post = findActivePostForUpdateOrThrow(postId);
-        User user = findUserOrThrow(userId);
-
-        CommunityPostRecommendId id = new CommunityPostRecommendId(post.getId(), user.getId());
-        boolean alreadyRecommended = communityPostRecommendRepository.existsById(id);
-        if (!alreadyRecommended) {
-            return new CommunityPostRecommendResponse(post.getId(), false, post.getRecommendCount());
+        CommunityPost post = findActivePostOrThrow(postId);
+        validateUserExistsOrThrow(userId);
+
+        LocalDateTime recommendedAt = communityPostRecommendRepository
+                .findCreatedAtByPostIdAndUserId(post.getId(), userId)
+                .orElse(null);
+        boolean deleted = recommendedAt != null
+                && communityPostRecommendRepository.deleteByPostIdAndUserId(post.getId(), userId) > 0;
+        if (deleted) {
+            communityPostRepository.decreaseRecommendCount(post.getId());
+            communityPostSummaryProjector.decreaseRecommendCount(post.getId());
+            eventPublisher.publishEvent(new RecommendReceivedEvent(post.getAuthor().getId(), -1));
+            eventPublisher.publishEvent(new CommunityPostChangedEvent(post.getId(), post.getBoardType()));
+            eventPublisher.publishEvent(new CommunityPostEngagementEvent(
+                    post.getId(),
+                    CommunityPostEngagementEvent.Type.RECOMMEND,
+                    -1,
+                    recommendedAt
+            ));
         }
 
-        communityPostRecommendRepository.deleteById(id);
-        post.decreaseRecommendCount();
-
-        return new CommunityPostRecommendResponse(post.getId(), false, post.getRecommendCount());
+        int recommendCount = communityPostRepository.findRecommendCountById(post.getId());
+        return new CommunityPostRecommendResponse(post.getId(), false, recommendCount);
     }
 
     private void validatePositiveIdOrThrow(Long id, String fieldName) {
@@ -104,19 +128,16 @@ public class CommunityPostRecommendService {
         return post;
     }
 
-    private CommunityPost findActivePostForUpdateOrThrow(Long postId) {
-        validatePositiveIdOrThrow(postId, "postId");
-        CommunityPost post = communityPostRepository.findByIdForUpdate(postId)
-                .orElseThrow(CommunityDomainException::postNotFound);
-        if (post.getStatus() == CommunityContentStatus.DELETED) {
-            throw CommunityDomainException.postNotFound();
-        }
-        return post;
-    }
-
     private User findUserOrThrow(Long userId) {
         validatePositiveIdOrThrow(userId, "userId");
         return userRepository.findById(userId)
                 .orElseThrow(CommunityDomainException::userNotFound);
     }
+
+    private void validateUserExistsOrThrow(Long userId) {
+        validatePositiveIdOrThrow(userId, "userId");
+        if (!userRepository.existsById(userId)) {
+            throw CommunityDomainException.userNotFound();
+        }
+    }
 }
@@ -0,0 +1,50 @@
+package com.runners.app.community.search.index;
+
+import java.util.Map;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.LowerCaseFilter;
+import org.apache.lucene.analysis.Tokenizer;
+import org.apache.lucene.analysis.ko.KoreanAnalyzer;
+import org.apache.lucene.analysis.miscellaneous.PerFieldAnalyzerWrapper;
+import org.apache.lucene.analysis.ngram.NGramTokenizer;
+
+/**
+ * 검색 색인 분석기
+ * - 기본 필드: Nori 형태소 분석 (관련도 점수용)
+ * - *_ngram 필드: 소문자 bigram (띄어쓰기/조사와 무관한 부분 일치용)
+ */
+final class CommunityPostSearchAnalyzers {
+
+    static final int GRAM_SIZE = 2;
+
+    private CommunityPostSearchAnalyzers() {
+    }
+
+    static Analyzer korean() {
+        return new KoreanAnalyzer();
+    }
+
+    static Analyzer bigram() {
+        return new Analyzer() {
+            @Override
+            protected TokenStreamComponents createComponents(String fieldName) {
+                Tokenizer tokenizer = new NGramTokenizer(GRAM_SIZE, GRAM_SIZE);
+                return new TokenStreamComponents(tokenizer, new LowerCaseFilter(tokenizer));
+            }
+
+            // 댓글처럼 값이 여러 개인 필드에서 값 경계를 넘는 구문 일치 방지
+            @Override
+            public int getPositionIncrementGap(String fieldName) {
+                return 100;
+            }
+        };
+    }
+
+    static Analyzer perField(Analyzer korean, Analyzer bigram) {
+        return new PerFieldAnalyzerWrapper(korean, Map.of(
+                CommunityPostSearchIndex.FIELD_TITLE_NGRAM, bigram,
+                CommunityPostSearchIndex.FIELD_CONTENT_NGRAM, bigram,
+                CommunityPostSearchIndex.FIELD_COMMENTS_NGRAM, bigram
+        ));
+    }
+}
@@ -0,0 +1,18 @@
+package com.runners.app.community.search.index;
+
+import com.runners.app.community.post.entity.CommunityPostBoardType;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 게시글 1건의 검색 문서 (제목/본문 + ACTIVE 댓글 본문)
+ */
+public record CommunityPostSearchDocument(
+        Long postId,
+        CommunityPostBoardType boardType,
+        String title,
+        String content,
+        List<String> comments,
+        LocalDateTime createdAt
+) {
+}
@@ -0,0 +1,438 @@
+package com.runners.app.community.search.index;
+
+import com.runners.app.community.post.entity.CommunityPostBoardType;
+import com.runners.app.global.util.CursorCodec;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.PhraseQuery;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopFieldDocs;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시글/댓글 검색용 내장 Lucene 색인
+ *
+ * 게시글 1건 = 문서 1건 (제목/본문 + ACTIVE 댓글 본문), ACTIVE 게시글만 색인합니다.
+ * 검색어는 공백 단위 토큰마다 bigram 구문 일치(부분 문자열)를 요구하고(AND),
+ * Nori 형태소 일치는 점수 가중치로만 사용합니다. (제목 > 본문 > 댓글)
+ *
+ * 색인은 기본적으로 app.community.search.index-dir 아래 파일로 유지되고, Lucene 커밋에 "어느 시각까지의 DB 변경이
+ * 반영되었는지"(syncedAt)를 함께 기록합니다. 시작 시 그 이후 바뀐 게시글만 다시 색인하고(CommunityPostSearchIndexWorker),
+ * 기록이 없거나 색인 형식이 바뀌었으면 전체 재구축합니다.
+ * 색인 디렉터리는 인스턴스마다 따로 두어야 하며(쓰기 잠금), DB를 새로 만들었다면 디렉터리도 지워야 합니다.
+ *
+ * app.community.search.in-memory=true면 힙(ByteBuffersDirectory)에 색인하고 시작할 때마다 전체 재구축합니다. (테스트/부하 테스트용)
+ * 이때 색인 전체(형태소 필드 + bigram 필드 3쌍)가 힙에 올라가므로 본문 총량의 몇 배 크기의 힙이 추가로 필요합니다.
+ *
+ * 재구축이 끝나기 전(ready=false)이나 색인 조회 실패 시 search는 null을 반환하여 DB 검색으로 넘깁니다.
+ */
+@Slf4j
+@Component
+public class CommunityPostSearchIndex {
+
+    static final String FIELD_ID = "id";
+    static final String FIELD_ID_SORT = "id_sort";
+    static final String FIELD_CREATED_AT = "created_at";
+    static final String FIELD_BOARD_TYPE = "board_type";
+    static final String FIELD_TITLE = "title";
+    static final String FIELD_TITLE_NGRAM = "title_ngram";
+    static final String FIELD_CONTENT = "content";
+    static final String FIELD_CONTENT_NGRAM = "content_ngram";
+    static final String FIELD_COMMENTS = "comments";
+    static final String FIELD_COMMENTS_NGRAM = "comments_ngram";
+
+    // 필드 구성/분석기가 바뀌면 올려서 기존 색인을 전체 재구축
+    private static final String SCHEMA_VERSION = "1";
+    private static final String COMMIT_SCHEMA_VERSION = "schema_version";
+    private static final String COMMIT_SYNCED_AT = "synced_at";
+
+    private static final int MAX_QUERY_TOKENS = 10;
+    private static final long MICROS_PER_SECOND = 1_000_000L;
+
+    private static final Sort RECENT_SORT = new Sort(
+            new SortField(FIELD_CREATED_AT, SortField.Type.LONG, true),
+            new SortField(FIELD_ID_SORT, SortField.Type.LONG, true)
+    );
+    private static final Sort RELEVANCE_SORT = new Sort(
+            SortField.FIELD_SCORE,
+            new SortField(FIELD_ID_SORT, SortField.Type.LONG, true)
+    );
+
+    private static final List<WeightedField> WEIGHTED_FIELDS = List.of(
+            new WeightedField(FIELD_TITLE, FIELD_TITLE_NGRAM, 3f),
+            new WeightedField(FIELD_CONTENT, FIELD_CONTENT_NGRAM, 1f),
+            new WeightedField(FIELD_COMMENTS, FIELD_COMMENTS_NGRAM, 0.5f)
+    );
+
+    private final boolean enabled;
+    private final Analyzer koreanAnalyzer;
+    private final Analyzer bigramAnalyzer;
+    private final Directory directory;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+
+    private volatile boolean ready;
+
+    public CommunityPostSearchIndex(
+            @Value("${app.community.search.enabled:true}") boolean enabled,
+            @Value("${app.community.search.in-memory:false}") boolean inMemory,
+            @Value("${app.community.search.index-dir:data/community-search-index}") String indexDir
+    ) {
+        this.enabled = enabled;
+        this.koreanAnalyzer = CommunityPostSearchAnalyzers.korean();
+        this.bigramAnalyzer = CommunityPostSearchAnalyzers.bigram();
+        if (!enabled) {
+            this.directory = null;
+            this.writer = null;
+            this.searcherManager = null;
+            return;
+        }
+
+        try {
+            this.directory = inMemory
+                    ? new ByteBuffersDirectory()
+                    : FSDirectory.open(Files.createDirectories(Path.of(indexDir)));
+            IndexWriterConfig config = new IndexWriterConfig(
+                    CommunityPostSearchAnalyzers.perField(koreanAnalyzer, bigramAnalyzer)
+            ).setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND);
+            this.writer = new IndexWriter(directory, config);
+            this.searcherManager = new SearcherManager(writer, null);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open community search index", e);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    public void markReady() {
+        ready = true;
+    }
+
+    /**
+     * 마지막 Lucene 커밋 기준으로 DB 변경이 반영된 시각 (기록이 없거나 색인 형식이 다르면 null)
+     */
+    public LocalDateTime syncedAt() {
+        if (!enabled) return null;
+
+        Map<String, String> commitData = new HashMap<>();
+        Iterable<Map.Entry<String, String>> liveCommitData = writer.getLiveCommitData();
+        if (liveCommitData != null) {
+            liveCommitData.forEach(entry -> commitData.put(entry.getKey(), entry.getValue()));
+        }
+        String syncedAt = commitData.get(COMMIT_SYNCED_AT);
+        if (!SCHEMA_VERSION.equals(commitData.get(COMMIT_SCHEMA_VERSION)) || syncedAt == null) {
+            return null;
+        }
+        return LocalDateTime.parse(syncedAt);
+    }
+
+    /**
+     * 지금까지 반영한 변경을 디스크에 커밋
+     *
+     * @param syncedAt 이 시각 이전에 커밋된 DB 변경은 모두 색인에 반영됨
+     */
+    public synchronized void commit(LocalDateTime syncedAt) {
+        try {
+            writer.setLiveCommitData(Map.of(
+                    COMMIT_SCHEMA_VERSION, SCHEMA_VERSION,
+                    COMMIT_SYNCED_AT, syncedAt.toString()
+            ).entrySet());
+            writer.commit();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to commit community search index", e);
+        }
+    }
+
+    /**
+     * 전체 재구축 전에 기존 문서를 모두 제거 (커밋 전까지는 이전 색인이 디스크에 남음)
+     */
+    public void clear() {
+        try {
+            writer.deleteAll();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to clear community search index", e);
+        }
+    }
+
+    public void upsert(List<CommunityPostSearchDocument> documents) {
+        try {
+            for (CommunityPostSearchDocument document : documents) {
+                writer.updateDocument(idTerm(document.postId()), toLuceneDocument(document));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to update community search index", e);
+        }
+    }
+
+    public void delete(Collection<Long> postIds) {
+        if (postIds.isEmpty()) return;
+        try {
+            writer.deleteDocuments(postIds.stream().map(this::idTerm).toArray(Term[]::new));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to delete from community search index", e);
+        }
+    }
+
+    /**
+     * 반영한 변경을 검색에 노출 (NRT reopen)
+     */
+    public void refresh() {
+        try {
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to refresh community search index", e);
+        }
+    }
+
+    /**
+     * 검색 결과 1건 (RELEVANCE 정렬일 때만 score가 의미 있음)
+     */
+    public record Hit(long postId, float score) {
+    }
+
+    /**
+     * 최신순: (createdAt, id) 커서 다음 구간
+     *
+     * @return 색인을 사용할 수 없으면 null
+     */
+    public List<Hit> searchRecent(
+            String rawQuery,
+            CommunityPostBoardType boardType,
+            CursorCodec.Cursor cursor,
+            int limit
+    ) {
+        Object[] after = cursor == null ? null : new Object[]{toEpochMicros(cursor.createdAt()), cursor.id()};
+        return search(rawQuery, boardType, RECENT_SORT, false, after, limit);
+    }
+
+    /**
+     * 관련도순: (점수, id) 커서 다음 구간
+     * 커서에 이전 페이지 마지막 점수를 그대로 담으므로, 그 사이 커서 게시글이 수정되거나 빠져도 이어서 조회됩니다.
+     *
+     * @return 색인을 사용할 수 없으면 null
+     */
+    public List<Hit> searchRelevant(
+            String rawQuery,
+            CommunityPostBoardType boardType,
+            CursorCodec.ScoreCursor cursor,
+            int limit
+    ) {
+        Object[] after = cursor == null ? null : new Object[]{(float) cursor.score(), cursor.id()};
+        return search(rawQuery, boardType, RELEVANCE_SORT, true, after, limit);
+    }
+
+    private List<Hit> search(
+            String rawQuery,
+            CommunityPostBoardType boardType,
+            Sort sort,
+            boolean relevance,
+            Object[] afterFields,
+            int limit
+    ) {
+        if (!isReady()) return null;
+
+        Query query = buildQuery(rawQuery, boardType);
+        if (query == null) return List.of();
+
+        IndexSearcher searcher = null;
+        try {
+            searcher = searcherManager.acquire();
+
+            FieldDoc after = null;
+            if (afterFields != null) {
+                // 정렬 값이 같을 때 doc 번호가 after.doc보다 큰 문서가 이어지므로, 마지막 doc 번호로 두어 커서 문서 자신을 제외
+                int lastDoc = searcher.getIndexReader().maxDoc() - 1;
+                float score = relevance ? (Float) afterFields[0] : Float.NaN;
+                after = new FieldDoc(lastDoc, score, afterFields);
+            }
+
+            TopFieldDocs topDocs = searcher.searchAfter(after, query, limit, sort, relevance);
+            List<Hit> hits = new ArrayList<>(topDocs.scoreDocs.length);
+            for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+                hits.add(new Hit((Long) ((FieldDoc) scoreDoc).fields[1], scoreDoc.score));
+            }
+            return hits;
+        } catch (IOException | RuntimeException e) {
+            log.warn("Community search index query failed, falling back to database: q={}", rawQuery, e);
+            return null;
+        } finally {
+            if (searcher != null) {
+                try {
+                    searcherManager.release(searcher);
+                } catch (IOException e) {
+                    log.debug("Failed to release community search index searcher", e);
+                }
+            }
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        if (!enabled) return;
+        try {
+            searcherManager.close();
+            writer.close();
+            directory.close();
+        } catch (IOException e) {
+            log.warn("Failed to close community search index", e);
+        }
+    }
+
+    Query buildQuery(String rawQuery, CommunityPostBoardType boardType) {
+        if (rawQuery == null) return null;
+
+        BooleanQuery.Builder root = new BooleanQuery.Builder();
+        int tokenCount = 0;
+        for (String rawToken : rawQuery.trim().toLowerCase(Locale.ROOT).split("\\s+")) {
+            String token = stripOperators(rawToken);
+            if (token.isEmpty()) continue;
+            if (++tokenCount > MAX_QUERY_TOKENS) break;
+            root.add(tokenQuery(token), BooleanClause.Occur.MUST);
+        }
+        if (tokenCount == 0) return null;
+
+        if (boardType != null) {
+            root.add(new TermQuery(new Term(FIELD_BOARD_TYPE, boardType.name())), BooleanClause.Occur.FILTER);
+        }
+        return root.build();
+    }
+
+    /**
+     * 토큰 1개: 어느 필드든 부분 문자열 일치 (1글자면 형태소 접두 일치) + 형태소 일치 가중치
+     */
+    private Query tokenQuery(String token) {
+        BooleanQuery.Builder builder = new BooleanQuery.Builder();
+        boolean singleChar = token.codePointCount(0, token.length()) < CommunityPostSearchAnalyzers.GRAM_SIZE;
+
+        for (WeightedField field : WEIGHTED_FIELDS) {
+            Query match = singleChar
+                    ? new PrefixQuery(new Term(field.name(), token))
+                    : bigramPhrase(field.ngramName(), token);
+            builder.add(new BoostQuery(match, field.boost()), BooleanClause.Occur.SHOULD);
+        }
+        for (String term : analyze(koreanAnalyzer, FIELD_TITLE, token)) {
+            for (WeightedField field : WEIGHTED_FIELDS) {
+                builder.add(
+                        new BoostQuery(new TermQuery(new Term(field.name(), term)), field.boost()),
+                        BooleanClause.Occur.SHOULD
+                );
+            }
+        }
+        return builder.build();
+    }
+
+    private Query bigramPhrase(String field, String token) {
+        PhraseQuery.Builder builder = new PhraseQuery.Builder();
+        int position = 0;
+        for (String gram : analyze(bigramAnalyzer, field, token)) {
+            builder.add(new Term(field, gram), position++);
+        }
+        return builder.build();
+    }
+
+    private Document toLuceneDocument(CommunityPostSearchDocument source) {
+        Document document = new Document();
+        document.add(new StringField(FIELD_ID, String.valueOf(source.postId()), Field.Store.NO));
+        document.add(new NumericDocValuesField(FIELD_ID_SORT, source.postId()));
+        document.add(new NumericDocValuesField(FIELD_CREATED_AT, toEpochMicros(source.createdAt())));
+        document.add(new StringField(FIELD_BOARD_TYPE, source.boardType().name(), Field.Store.NO));
+        addText(document, FIELD_TITLE, FIELD_TITLE_NGRAM, source.title());
+        addText(document, FIELD_CONTENT, FIELD_CONTENT_NGRAM, source.content());
+        for (String comment : source.comments()) {
+            addText(document, FIELD_COMMENTS, FIELD_COMMENTS_NGRAM, comment);
+        }
+        return document;
+    }
+
+    private void addText(Document document, String field, String ngramField, String value) {
+        if (value == null || value.isBlank()) return;
+        document.add(new TextField(field, value, Field.Store.NO));
+        document.add(new TextField(ngramField, value, Field.Store.NO));
+    }
+
+    private List<String> analyze(Analyzer analyzer, String field, String text) {
+        List<String> terms = new ArrayList<>();
+        try (TokenStream stream = analyzer.tokenStream(field, text)) {
+            CharTermAttribute termAttribute = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken()) {
+                terms.add(termAttribute.toString());
+            }
+            stream.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return terms;
+    }
+
+    private Term idTerm(Long postId) {
+        return new Term(FIELD_ID, String.valueOf(postId));
+    }
+
+    /**
+     * MySQL boolean mode 연산자(+, -, *, " 등)는 의미 없이 제거
+     */
+    private static String stripOperators(String token) {
+        int start = 0;
+        int end = token.length();
+        while (start < end && isOperator(token.charAt(start))) start++;
+        while (end > start && isOperator(token.charAt(end - 1))) end--;
+        return token.substring(start, end);
+    }
+
+    private static boolean isOperator(char c) {
+        return c == '+' || c == '-' || c == '*' || c == '"' || c == '~'
+                || c == '<' || c == '>' || c == '(' || c == ')' || c == '@';
+    }
+
+    private static long toEpochMicros(LocalDateTime value) {
+        return value.toEpochSecond(ZoneOffset.UTC) * MICROS_PER_SECOND + value.getNano() / 1_000;
+    }
+
+    private record WeightedField(String name, String ngramName, float boost) {
+    }
+}
@@ -0,0 +1,10 @@
+package com.runners.app.community.search.index;
+
+/**
+ * 게시글 검색 정렬
+ * RECENT: 최신순 (createdAt desc, id desc), RELEVANCE: 관련도순 (score desc, id desc)
+ */
+public enum CommunityPostSearchSort {
+    RECENT,
+    RELEVANCE
+}
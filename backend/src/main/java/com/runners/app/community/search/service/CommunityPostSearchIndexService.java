@@ -0,0 +1,120 @@
+package com.runners.app.community.search.service;
+
+import com.runners.app.community.comment.repository.CommunityCommentRepository;
+import com.runners.app.community.post.repository.CommunityPostRepository;
+import com.runners.app.community.search.index.CommunityPostSearchDocument;
+import com.runners.app.community.search.index.CommunityPostSearchIndex;
+import com.runners.app.global.status.CommunityContentStatus;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * DB의 게시글/댓글을 검색 문서로 만들어 CommunityPostSearchIndex에 반영
+ */
+@Service
+public class CommunityPostSearchIndexService {
+
+    private final CommunityPostRepository communityPostRepository;
+    private final CommunityCommentRepository communityCommentRepository;
+    private final CommunityPostSearchIndex communityPostSearchIndex;
+
+    public CommunityPostSearchIndexService(
+            CommunityPostRepository communityPostRepository,
+            CommunityCommentRepository communityCommentRepository,
+            CommunityPostSearchIndex communityPostSearchIndex
+    ) {
+        this.communityPostRepository = communityPostRepository;
+        this.communityCommentRepository = communityCommentRepository;
+        this.communityPostSearchIndex = communityPostSearchIndex;
+    }
+
+    /**
+     * 변경된 게시글을 다시 색인 (ACTIVE가 아니거나 없어진 게시글은 색인에서 제거)
+     */
+    @Transactional(readOnly = true)
+    public void reindex(Collection<Long> postIds) {
+        if (postIds.isEmpty()) return;
+
+        replace(postIds);
+        communityPostSearchIndex.refresh();
+    }
+
+    /**
+     * 시작 시 따라잡기용: since 이후 바뀐 게시글 중 afterId 다음 batchSize건을 다시 색인
+     *
+     * @return 마지막으로 처리한 게시글 ID, 더 없으면 null
+     */
+    @Transactional(readOnly = true)
+    public Long reindexChangedAfter(LocalDateTime since, Long afterId, int batchSize) {
+        List<Long> postIds = communityPostRepository.findIdsChangedSince(since, afterId, batchSize);
+        if (postIds.isEmpty()) return null;
+
+        replace(postIds);
+        return postIds.get(postIds.size() - 1);
+    }
+
+    /**
+     * 전체 재구축용: afterId 다음 ACTIVE 게시글 batchSize건을 색인
+     *
+     * @return 마지막으로 색인한 게시글 ID, 더 없으면 null
+     */
+    @Transactional(readOnly = true)
+    public Long indexBatchAfter(Long afterId, int batchSize) {
+        List<Long> postIds = communityPostRepository.findIdsByStatusAfterId(
+                CommunityContentStatus.ACTIVE,
+                afterId,
+                PageRequest.of(0, batchSize)
+        );
+        if (postIds.isEmpty()) return null;
+
+        communityPostSearchIndex.upsert(loadDocuments(postIds));
+        return postIds.get(postIds.size() - 1);
+    }
+
+    private void replace(Collection<Long> postIds) {
+        List<CommunityPostSearchDocument> documents = loadDocuments(postIds);
+        Set<Long> removed = new HashSet<>(postIds);
+        documents.forEach(document -> removed.remove(document.postId()));
+
+        communityPostSearchIndex.upsert(documents);
+        communityPostSearchIndex.delete(removed);
+    }
+
+    private List<CommunityPostSearchDocument> loadDocuments(Collection<Long> postIds) {
+        List<CommunityPostRepository.SearchSource> posts = communityPostRepository.findSearchSourcesByIdIn(
+                postIds,
+                CommunityContentStatus.ACTIVE
+        );
+        if (posts.isEmpty()) return List.of();
+
+        Map<Long, List<String>> commentsByPostId = new HashMap<>();
+        for (CommunityCommentRepository.PostCommentContent comment : communityCommentRepository.findContentsByPostIdIn(
+                postIds,
+                CommunityContentStatus.ACTIVE
+        )) {
+            commentsByPostId.computeIfAbsent(comment.getPostId(), id -> new ArrayList<>()).add(comment.getContent());
+        }
+
+        List<CommunityPostSearchDocument> documents = new ArrayList<>(posts.size());
+        for (CommunityPostRepository.SearchSource post : posts) {
+            documents.add(new CommunityPostSearchDocument(
+                    post.getId(),
+                    post.getBoardType(),
+                    post.getTitle(),
+                    post.getContent(),
+                    commentsByPostId.getOrDefault(post.getId(), List.of()),
+                    post.getCreatedAt()
+            ));
+        }
+        return documents;
+    }
+}
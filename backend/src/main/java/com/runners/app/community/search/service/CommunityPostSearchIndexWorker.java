@@ -0,0 +1,173 @@
+package com.runners.app.community.search.service;
+
+import com.runners.app.community.post.event.CommunityPostTextChangedEvent;
+import com.runners.app.community.search.index.CommunityPostSearchIndex;
+import com.runners.app.global.startup.StartupTask;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 검색 색인 유지 워커
+ * - 시작 시 색인에 기록된 syncedAt 이후 바뀐 게시글만 다시 색인 (기록이 없으면 전체 재구축) 후 ready로 전환
+ * - 커밋된 게시글/댓글 변경은 게시글 ID로 모아 두었다가 기본 1초마다 다시 색인
+ * - 반영을 마친 시각을 기본 1분마다 색인 커밋에 기록
+ *
+ * 대기 목록은 프로세스 메모리에만 있으므로 재시작 시 유실되지만, 마지막 커밋 이후 변경을 따라잡으며 복구됩니다.
+ * 이벤트는 DB 커밋 직후에 오므로 시계 차이와 함께 CATCH_UP_MARGIN만큼 앞에서부터 따라잡습니다.
+ */
+@Slf4j
+@Component
+public class CommunityPostSearchIndexWorker implements StartupTask {
+
+    private static final Duration CATCH_UP_MARGIN = Duration.ofMinutes(5);
+
+    private final CommunityPostSearchIndex communityPostSearchIndex;
+    private final CommunityPostSearchIndexService indexService;
+    private final int batchSize;
+    private final Set<Long> pendingPostIds = ConcurrentHashMap.newKeySet();
+
+    // 이 시각 이전에 커밋된 변경은 모두 색인에 반영됨 (ready 전에는 null)
+    private volatile LocalDateTime syncedAt;
+    private volatile LocalDateTime committedSyncedAt;
+
+    public CommunityPostSearchIndexWorker(
+            CommunityPostSearchIndex communityPostSearchIndex,
+            CommunityPostSearchIndexService indexService,
+            @Value("${app.community.search.batch-size:500}") int batchSize
+    ) {
+        this.communityPostSearchIndex = communityPostSearchIndex;
+        this.indexService = indexService;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    @Override
+    public void runOnStartup() {
+        if (!communityPostSearchIndex.isEnabled()) return;
+        catchUp();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleTextChanged(CommunityPostTextChangedEvent event) {
+        if (!communityPostSearchIndex.isEnabled() || event.postId() == null) return;
+        pendingPostIds.add(event.postId());
+    }
+
+    @Scheduled(fixedDelayString = "${app.community.search.index-interval-ms:1000}")
+    public void flushPendingPosts() {
+        // 재구축 중에는 쌓아 두기만 하고, 재구축이 끝난 뒤 한 번에 반영
+        if (!communityPostSearchIndex.isReady()) return;
+
+        LocalDateTime startedAt = LocalDateTime.now();
+        List<Long> batch = drain();
+        while (!batch.isEmpty()) {
+            try {
+                indexService.reindex(batch);
+                log.debug("Reindexed community posts: count={}", batch.size());
+            } catch (Exception e) {
+                log.error("Failed to reindex community posts, keeping them pending: count={}", batch.size(), e);
+                pendingPostIds.addAll(batch);
+                return;
+            }
+            batch = drain();
+        }
+        syncedAt = startedAt;
+    }
+
+    @Scheduled(fixedDelayString = "${app.community.search.commit-interval-ms:60000}")
+    public void commit() {
+        LocalDateTime current = syncedAt;
+        if (current == null || current.equals(committedSyncedAt)) return;
+
+        try {
+            communityPostSearchIndex.commit(current);
+            committedSyncedAt = current;
+        } catch (Exception e) {
+            log.warn("Failed to commit community search index", e);
+        }
+    }
+
+    /**
+     * 마지막 커밋 이후 바뀐 게시글만 다시 색인하고 ready 전환 (커밋 기록이 없으면 비우고 전체 재구축)
+     */
+    public void catchUp() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        LocalDateTime since = communityPostSearchIndex.syncedAt();
+        if (since == null) {
+            communityPostSearchIndex.clear();
+            rebuild();
+            return;
+        }
+
+        int batches = 0;
+        Long afterId = 0L;
+        try {
+            LocalDateTime from = since.minus(CATCH_UP_MARGIN);
+            while (true) {
+                Long lastId = indexService.reindexChangedAfter(from, afterId, batchSize);
+                if (lastId == null) break;
+                batches++;
+                afterId = lastId;
+            }
+            markSynced(startedAt);
+            log.info("Community search index caught up: since={}, batches={}, elapsedMs={}",
+                    since, batches, Duration.between(startedAt, LocalDateTime.now()).toMillis());
+        } catch (Exception e) {
+            // ready로 전환하지 않으므로 검색은 계속 DB로 처리됨
+            log.error("Failed to catch up community search index: lastPostId={}", afterId, e);
+        }
+    }
+
+    /**
+     * ACTIVE 게시글 전체 색인 후 ready 전환
+     */
+    public void rebuild() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        int batches = 0;
+        Long afterId = 0L;
+        try {
+            while (true) {
+                Long lastId = indexService.indexBatchAfter(afterId, batchSize);
+                if (lastId == null) break;
+                batches++;
+                afterId = lastId;
+            }
+            markSynced(startedAt);
+            log.info("Community search index rebuilt: batches={}, lastPostId={}, elapsedMs={}",
+                    batches, afterId, Duration.between(startedAt, LocalDateTime.now()).toMillis());
+        } catch (Exception e) {
+            // ready로 전환하지 않으므로 검색은 계속 DB로 처리됨
+            log.error("Failed to rebuild community search index: lastPostId={}", afterId, e);
+        }
+    }
+
+    private void markSynced(LocalDateTime startedAt) {
+        communityPostSearchIndex.refresh();
+        communityPostSearchIndex.commit(startedAt);
+        committedSyncedAt = startedAt;
+        if (syncedAt == null || syncedAt.isBefore(startedAt)) {
+            syncedAt = startedAt;
+        }
+        communityPostSearchIndex.markReady();
+    }
+
+    private List<Long> drain() {
+        List<Long> batch = new ArrayList<>(Math.min(batchSize, pendingPostIds.size()));
+        Iterator<Long> iterator = pendingPostIds.iterator();
+        while (iterator.hasNext() && batch.size() < batchSize) {
+            batch.add(iterator.next());
+            iterator.remove();
+        }
+        return batch;
+    }
+}
@@ -10,15 +10,13 @@ import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.UUID;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
-import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
@@ -29,6 +27,13 @@ import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignReques
 @Service
 public class CommunityUploadService {
 
+    // 서명은 CPU 작업이므로 이 개수 이상일 때만 병렬 처리
+    private static final int PARALLEL_PRESIGN_THRESHOLD = 2;
+
+    // S3Config의 @Lazy 싱글톤 (S3 설정이 없는 환경에서도 기동되도록 사용 시점에 조회)
+    private final ObjectProvider<S3Presigner> s3PresignerProvider;
+    private final ObjectProvider<S3Client> s3ClientProvider;
+
     @Value("${app.s3.region:}")
     private String region;
 
@@ -50,6 +55,14 @@ public class CommunityUploadService {
     @Value("${app.s3.max-upload-bytes:10485760}")
     private long maxUploadBytes;
 
+    public CommunityUploadService(
+            ObjectProvider<S3Presigner> s3PresignerProvider,
+            ObjectProvider<S3Client> s3ClientProvider
+    ) {
+        this.s3PresignerProvider = s3PresignerProvider;
+        this.s3ClientProvider = s3ClientProvider;
+    }
+
     public PresignCommunityImageUploadResponse presignCommunityPostImageUploads(
             Long userId,
             PresignCommunityImageUploadRequest request
@@ -81,8 +94,8 @@ public class CommunityUploadService {
         }
 
         String normalizedKey = normalizeKey(trimmedKey);
-        try (S3Client client = newS3Client()) {
-            client.deleteObject(DeleteObjectRequest.builder()
+        try {
+            s3ClientProvider.getObject().deleteObject(DeleteObjectRequest.builder()
                     .bucket(bucket)
                     .key(normalizedKey)
                     .build());
@@ -106,40 +119,54 @@ public class CommunityUploadService {
             throw UploadDomainException.tooManyFiles();
         }
 
+        for (PresignCommunityImageUploadFileRequest file : request.files()) {
+            validateFile(file);
+        }
+
         LocalDateTime expiresAt = LocalDateTime.now().plusMinutes(presignExpirationMinutes);
-        List<PresignedCommunityUploadItem> items = new ArrayList<>(request.files().size());
-
-        try (S3Presigner presigner = newPresigner()) {
-            for (PresignCommunityImageUploadFileRequest file : request.files()) {
-                validateFile(file);
-
-                String objectKey = buildObjectKey(keyPrefix, userId, file.fileName(), file.contentType());
-                PutObjectRequest putObjectRequest = PutObjectRequest.builder()
-                        .bucket(bucket)
-                        .key(objectKey)
-                        .contentType(file.contentType())
-                        .contentLength(file.contentLength())
-                        .build();
-
-                PutObjectPresignRequest presignRequest = PutObjectPresignRequest.builder()
-                        .signatureDuration(Duration.ofMinutes(presignExpirationMinutes))
-                        .putObjectRequest(putObjectRequest)
-                        .build();
-
-                PresignedPutObjectRequest presigned = presigner.presignPutObject(presignRequest);
-
-                items.add(new PresignedCommunityUploadItem(
-                        objectKey,
-                        presigned.url().toString(),
-                        toPublicFileUrl(objectKey),
-                        file.contentType()
-                ));
-            }
+        S3Presigner presigner = s3PresignerProvider.getObject();
+
+        // parallel 스트림도 toList()는 요청 순서를 유지
+        var files = request.files().stream();
+        if (request.files().size() >= PARALLEL_PRESIGN_THRESHOLD) {
+            files = files.parallel();
         }
+        List<PresignedCommunityUploadItem> items = files
+                .map(file -> presign(presigner, keyPrefix, userId, file))
+                .toList();
 
         return new PresignCommunityImageUploadResponse(items, expiresAt);
     }
 
+    private PresignedCommunityUploadItem presign(
+            S3Presigner presigner,
+            String keyPrefix,
+            Long userId,
+            PresignCommunityImageUploadFileRequest file
+    ) {
+        String objectKey = buildObjectKey(keyPrefix, userId, file.fileName(), file.contentType());
+        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                .bucket(bucket)
+                .key(objectKey)
+                .contentType(file.contentType())
+                .contentLength(file.contentLength())
+                .build();
+
+        PutObjectPresignRequest presignRequest = PutObjectPresignRequest.builder()
+                .signatureDuration(Duration.ofMinutes(presignExpirationMinutes))
+                .putObjectRequest(putObjectRequest)
+                .build();
+
+        PresignedPutObjectRequest presigned = presigner.presignPutObject(presignRequest);
+
+        return new PresignedCommunityUploadItem(
+                objectKey,
+                presigned.url().toString(),
+                toPublicFileUrl(objectKey),
+                file.contentType()
+        );
+    }
+
     public String toPublicFileUrl(String key) {
         String normalizedKey = normalizeKey(key);
         String safeKey = urlEncodePath(normalizedKey);
@@ -197,20 +224,6 @@ public class CommunityUploadService {
         }
     }
 
-    private S3Presigner newPresigner() {
-        return S3Presigner.builder()
-                .region(Region.of(region))
-                .credentialsProvider(DefaultCredentialsProvider.create())
-                .build();
-    }
-
-    private S3Client newS3Client() {
-        return S3Client.builder()
-                .region(Region.of(region))
-                .credentialsProvider(DefaultCredentialsProvider.create())
-                .build();
-    }
-
     private String buildObjectKey(String keyPrefix, Long userId, String fileName, String contentType) {
         String normalizedPrefix = normalizePrefix(keyPrefix);
         String ext = resolveExtension(fileName, contentType);
@@ -0,0 +1,71 @@
+package com.runners.app.community.view;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Service;
+
+/**
+ * 게시글 조회수 write-behind 버퍼
+ * 조회수 증가분을 Redis Hash(postId -> delta)에 누적하고,
+ * CommunityPostViewCountFlushWorker가 주기적으로 DB에 일괄 반영합니다.
+ */
+@Service
+public class CommunityPostViewCountBuffer {
+
+    // CommunityPostViewTracker의 조회 기록 스크립트에서도 함께 증가시킴
+    static final String PENDING_KEY = "community:post:view-count:pending";
+
+    // HGETALL + DEL을 원자적으로 수행하여 여러 인스턴스가 동시에 flush해도 중복 반영되지 않도록 함
+    @SuppressWarnings("rawtypes")
+    private static final DefaultRedisScript<List> DRAIN_SCRIPT = new DefaultRedisScript<>(
+            "local entries = redis.call('HGETALL', KEYS[1]) "
+                    + "redis.call('DEL', KEYS[1]) "
+                    + "return entries",
+            List.class
+    );
+
+    private final StringRedisTemplate redis;
+
+    public CommunityPostViewCountBuffer(StringRedisTemplate redis) {
+        this.redis = redis;
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 조회수 증가분
+     */
+    public long getPendingCount(Long postId) {
+        Object value = redis.opsForHash().get(PENDING_KEY, String.valueOf(postId));
+        if (value == null) return 0L;
+        return Long.parseLong(value.toString());
+    }
+
+    /**
+     * 누적된 증가분을 꺼내고 버퍼를 비움
+     */
+    @SuppressWarnings("unchecked")
+    public Map<Long, Long> drain() {
+        List<Object> entries = redis.execute(DRAIN_SCRIPT, List.of(PENDING_KEY));
+        if (entries == null || entries.isEmpty()) return Collections.emptyMap();
+
+        Map<Long, Long> deltas = new HashMap<>(entries.size() / 2);
+        for (int i = 0; i + 1 < entries.size(); i += 2) {
+            deltas.put(
+                    Long.parseLong(entries.get(i).toString()),
+                    Long.parseLong(entries.get(i + 1).toString())
+            );
+        }
+        return deltas;
+    }
+
+    /**
+     * DB 반영에 실패한 증가분을 버퍼에 되돌림
+     */
+    public void restore(Map<Long, Long> deltas) {
+        deltas.forEach((postId, delta) ->
+                redis.opsForHash().increment(PENDING_KEY, String.valueOf(postId), delta));
+    }
+}
@@ -0,0 +1,51 @@
+package com.runners.app.community.view;
+
+import com.runners.app.community.post.repository.CommunityPostRepository;
+import com.runners.app.community.post.service.CommunityPostSummaryProjector;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 버퍼에 쌓인 조회수 증가분을 community_posts.view_count (및 목록 읽기 모델)에 반영
+ * 같은 증가분을 가진 게시글끼리 묶어 IN 절 UPDATE로 처리합니다.
+ */
+@Service
+public class CommunityPostViewCountFlushService {
+
+    private static final int UPDATE_CHUNK_SIZE = 500;
+
+    private final CommunityPostRepository communityPostRepository;
+    private final CommunityPostSummaryProjector communityPostSummaryProjector;
+
+    public CommunityPostViewCountFlushService(
+            CommunityPostRepository communityPostRepository,
+            CommunityPostSummaryProjector communityPostSummaryProjector
+    ) {
+        this.communityPostRepository = communityPostRepository;
+        this.communityPostSummaryProjector = communityPostSummaryProjector;
+    }
+
+    @Transactional
+    public void applyDeltas(Map<Long, Long> deltas) {
+        Map<Long, List<Long>> postIdsByDelta = new TreeMap<>();
+        deltas.forEach((postId, delta) -> {
+            if (delta != null && delta > 0) {
+                postIdsByDelta.computeIfAbsent(delta, d -> new ArrayList<>()).add(postId);
+            }
+        });
+
+        for (Map.Entry<Long, List<Long>> entry : postIdsByDelta.entrySet()) {
+            List<Long> postIds = entry.getValue();
+            int delta = Math.toIntExact(entry.getKey());
+            for (int from = 0; from < postIds.size(); from += UPDATE_CHUNK_SIZE) {
+                int to = Math.min(postIds.size(), from + UPDATE_CHUNK_SIZE);
+                communityPostRepository.increaseViewCount(postIds.subList(from, to), delta);
+                communityPostSummaryProjector.increaseViewCount(postIds.subList(from, to), delta);
+            }
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.runners.app.community.view;
+
+import com.runners.app.community.post.popular.CommunityPostPopularFeed;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis에 누적된 조회수 증가분을 주기적으로 DB와 인기 피드에 반영하는 워커
+ * 기본 5초마다 실행
+ */
+@Slf4j
+@Component
+public class CommunityPostViewCountFlushWorker {
+
+    private final CommunityPostViewCountBuffer viewCountBuffer;
+    private final CommunityPostViewCountFlushService flushService;
+    private final CommunityPostPopularFeed popularFeed;
+
+    public CommunityPostViewCountFlushWorker(
+            CommunityPostViewCountBuffer viewCountBuffer,
+            CommunityPostViewCountFlushService flushService,
+            CommunityPostPopularFeed popularFeed
+    ) {
+        this.viewCountBuffer = viewCountBuffer;
+        this.flushService = flushService;
+        this.popularFeed = popularFeed;
+    }
+
+    @Scheduled(fixedDelayString = "${app.community.view-count-flush-interval-ms:5000}")
+    public void flushPendingViewCounts() {
+        Map<Long, Long> deltas;
+        try {
+            deltas = viewCountBuffer.drain();
+        } catch (Exception e) {
+            log.error("Failed to drain pending view counts", e);
+            return;
+        }
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        try {
+            flushService.applyDeltas(deltas);
+            log.debug("Flushed pending view counts: posts={}", deltas.size());
+        } catch (Exception e) {
+            log.error("Failed to flush pending view counts, restoring buffer: posts={}", deltas.size(), e);
+            try {
+                viewCountBuffer.restore(deltas);
+            } catch (Exception restoreError) {
+                log.error("Failed to restore pending view counts: {}", deltas, restoreError);
+            }
+            return;
+        }
+
+        try {
+            popularFeed.recordViews(deltas);
+        } catch (Exception e) {
+            // 인기 점수는 근사치이므로 버퍼로 되돌리지 않음 (DB 반영분 중복 방지)
+            log.warn("Failed to apply view counts to popular feed: posts={}", deltas.size(), e);
+        }
+    }
+}
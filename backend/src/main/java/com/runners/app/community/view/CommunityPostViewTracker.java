@@ -1,20 +1,41 @@
 package com.runners.app.community.view;
 
+import io.micrometer.core.annotation.Timed;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Collections;
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.stereotype.Service;
 
 @Service
+@Timed(value = "community.post.view.tracker", histogram = true)
 public class CommunityPostViewTracker {
 
-    private static final String KEY_PREFIX = "community:post:view:";
+    // 게시글-일자별 비트맵 (offset = userId)
+    private static final String POST_TODAY_BITMAP_PREFIX = "community:post:viewers:";
     private static final String USER_TODAY_SET_PREFIX = "community:user:viewed:today:";
 
+    /**
+     * KEYS[1] 게시글-일자 비트맵, KEYS[2] 유저-일자 Set, KEYS[3] 조회수 버퍼 Hash
+     * ARGV[1] userId, ARGV[2] TTL(초), ARGV[3] postId
+     * 첫 조회면 유저 Set 기록 + 조회수 버퍼 증가까지 한 번에 처리하고 1을 반환
+     */
+    private static final DefaultRedisScript<Long> MARK_VIEWED_SCRIPT = new DefaultRedisScript<>(
+            "local prev = redis.call('SETBIT', KEYS[1], ARGV[1], 1) "
+                    + "if prev == 1 then return 0 end "
+                    + "if redis.call('TTL', KEYS[1]) < 0 then redis.call('EXPIRE', KEYS[1], ARGV[2]) end "
+                    + "redis.call('SADD', KEYS[2], ARGV[3]) "
+                    + "redis.call('EXPIRE', KEYS[2], ARGV[2]) "
+                    + "redis.call('HINCRBY', KEYS[3], ARGV[3], 1) "
+                    + "return 1",
+            Long.class
+    );
+
     private final StringRedisTemplate redis;
 
     public CommunityPostViewTracker(StringRedisTemplate redis) {
@@ -22,12 +43,13 @@ public class CommunityPostViewTracker {
     }
 
     /**
+     * 유저-일 단위 첫 조회 여부를 기록하고, 첫 조회면 조회수 버퍼(CommunityPostViewCountBuffer)도 증가시킴.
+     * Redis 왕복 1회로 처리됩니다.
+     *
      * @return true if this is the first view for (post,user) today.
      */
     public boolean markViewedTodayIfFirst(Long postId, Long userId) {
         LocalDate today = LocalDate.now();
-        String key = KEY_PREFIX + postId + ":" + userId + ":" + today;
-        String userTodaySetKey = USER_TODAY_SET_PREFIX + userId + ":" + today;
 
         LocalDateTime now = LocalDateTime.now();
         Duration ttlUntilTomorrow = Duration.between(now, today.plusDays(1).atStartOfDay());
@@ -35,27 +57,36 @@ public class CommunityPostViewTracker {
             ttlUntilTomorrow = Duration.ofDays(1);
         }
 
-        Boolean inserted = redis.opsForValue().setIfAbsent(key, "1", ttlUntilTomorrow);
-        boolean first = Boolean.TRUE.equals(inserted);
-        if (first) {
-            redis.opsForSet().add(userTodaySetKey, String.valueOf(postId));
-            redis.expire(userTodaySetKey, ttlUntilTomorrow);
-        }
-        return first;
+        Long first = redis.execute(
+                MARK_VIEWED_SCRIPT,
+                List.of(
+                        postTodayBitmapKey(postId, today),
+                        userTodaySetKey(userId, today),
+                        CommunityPostViewCountBuffer.PENDING_KEY
+                ),
+                String.valueOf(userId),
+                String.valueOf(Math.max(1L, ttlUntilTomorrow.toSeconds())),
+                String.valueOf(postId)
+        );
+        return first != null && first == 1L;
     }
 
     public boolean hasViewedToday(Long postId, Long userId) {
-        LocalDate today = LocalDate.now();
-        String userTodaySetKey = USER_TODAY_SET_PREFIX + userId + ":" + today;
-        Boolean member = redis.opsForSet().isMember(userTodaySetKey, String.valueOf(postId));
-        return Boolean.TRUE.equals(member);
+        Boolean viewed = redis.opsForValue().getBit(postTodayBitmapKey(postId, LocalDate.now()), userId);
+        return Boolean.TRUE.equals(viewed);
     }
 
     public Set<Long> getViewedPostIdsToday(Long userId) {
-        LocalDate today = LocalDate.now();
-        String userTodaySetKey = USER_TODAY_SET_PREFIX + userId + ":" + today;
-        Set<String> members = redis.opsForSet().members(userTodaySetKey);
+        Set<String> members = redis.opsForSet().members(userTodaySetKey(userId, LocalDate.now()));
         if (members == null || members.isEmpty()) return Collections.emptySet();
         return members.stream().map(Long::parseLong).collect(Collectors.toSet());
     }
+
+    private String postTodayBitmapKey(Long postId, LocalDate today) {
+        return POST_TODAY_BITMAP_PREFIX + postId + ":" + today;
+    }
+
+    private String userTodaySetKey(Long userId, LocalDate today) {
+        return USER_TODAY_SET_PREFIX + userId + ":" + today;
+    }
 }
@@ -0,0 +1,23 @@
+package com.runners.app.global.config;
+
+import com.runners.app.global.util.CursorCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 페이지네이션 커서 설정
+ * app.cursor.signing-secret이 있으면 HMAC 서명 커서를 발급하고 서명 없는/위조된 커서는 거부합니다.
+ * 이전 문자열 커서는 클라이언트 전환이 끝나면 app.cursor.accept-legacy=false로 막습니다.
+ */
+@Configuration
+public class CursorConfig {
+
+    @Bean
+    public CursorCodec cursorCodec(
+            @Value("${app.cursor.signing-secret:}") String signingSecret,
+            @Value("${app.cursor.accept-legacy:true}") boolean acceptLegacy
+    ) {
+        return new CursorCodec(signingSecret, acceptLegacy);
+    }
+}
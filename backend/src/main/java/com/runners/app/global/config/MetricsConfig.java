@@ -0,0 +1,22 @@
+package com.runners.app.global.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+
+/**
+ * Micrometer 설정
+ * 클래스/메서드에 붙은 @Timed를 타이머로 기록하고, Prometheus 형식(/actuator/prometheus)으로 노출합니다.
+ * Spring Data 리포지토리 호출(spring.data.repository.invocations)과 HTTP 요청은 자동 계측됩니다.
+ */
+@Configuration
+@PropertySource("classpath:metrics.properties")
+public class MetricsConfig {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+}
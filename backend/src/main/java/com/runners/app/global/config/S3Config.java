@@ -0,0 +1,105 @@
+package com.runners.app.global.config;
+
+import java.net.URI;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.http.apache.ApacheHttpClient;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+/**
+ * S3 클라이언트/프리사이너 (애플리케이션 전체에서 1개씩 재사용, 종료 시 close)
+ *
+ * app.s3.region이 없는 환경에서도 기동되도록 처음 사용할 때 생성합니다. (@Lazy)
+ * app.s3.endpoint를 지정하면 MinIO 등 S3 호환 로컬 서버로 요청합니다.
+ */
+@Configuration
+public class S3Config {
+
+    @Value("${app.s3.region:}")
+    private String region;
+
+    @Value("${app.s3.endpoint:}")
+    private String endpoint;
+
+    @Value("${app.s3.path-style-access:false}")
+    private boolean pathStyleAccess;
+
+    // 비어 있으면 DefaultCredentialsProvider (환경 변수, 인스턴스 프로파일 등)
+    @Value("${app.s3.access-key:}")
+    private String accessKey;
+
+    @Value("${app.s3.secret-key:}")
+    private String secretKey;
+
+    @Value("${app.s3.max-connections:50}")
+    private int maxConnections;
+
+    @Value("${app.s3.connection-timeout-ms:2000}")
+    private long connectionTimeoutMs;
+
+    @Value("${app.s3.connection-acquisition-timeout-ms:2000}")
+    private long connectionAcquisitionTimeoutMs;
+
+    @Value("${app.s3.socket-timeout-ms:5000}")
+    private long socketTimeoutMs;
+
+    @Bean
+    @Lazy
+    public AwsCredentialsProvider s3CredentialsProvider() {
+        if (accessKey != null && !accessKey.isBlank()) {
+            return StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKey, secretKey));
+        }
+        return DefaultCredentialsProvider.create();
+    }
+
+    @Bean
+    @Lazy
+    public S3Client s3Client(AwsCredentialsProvider s3CredentialsProvider) {
+        var builder = S3Client.builder()
+                .region(Region.of(region))
+                .credentialsProvider(s3CredentialsProvider)
+                .serviceConfiguration(serviceConfiguration())
+                .httpClientBuilder(ApacheHttpClient.builder()
+                        .maxConnections(Math.max(1, maxConnections))
+                        .connectionTimeout(Duration.ofMillis(connectionTimeoutMs))
+                        .connectionAcquisitionTimeout(Duration.ofMillis(connectionAcquisitionTimeoutMs))
+                        .socketTimeout(Duration.ofMillis(socketTimeoutMs)));
+        if (hasEndpoint()) {
+            builder.endpointOverride(URI.create(endpoint.trim()));
+        }
+        return builder.build();
+    }
+
+    @Bean
+    @Lazy
+    public S3Presigner s3Presigner(AwsCredentialsProvider s3CredentialsProvider) {
+        var builder = S3Presigner.builder()
+                .region(Region.of(region))
+                .credentialsProvider(s3CredentialsProvider)
+                .serviceConfiguration(serviceConfiguration());
+        if (hasEndpoint()) {
+            builder.endpointOverride(URI.create(endpoint.trim()));
+        }
+        return builder.build();
+    }
+
+    private S3Configuration serviceConfiguration() {
+        return S3Configuration.builder()
+                .pathStyleAccessEnabled(pathStyleAccess)
+                .build();
+    }
+
+    private boolean hasEndpoint() {
+        return endpoint != null && !endpoint.isBlank();
+    }
+}
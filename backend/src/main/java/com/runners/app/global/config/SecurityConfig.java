@@ -38,6 +38,8 @@ public class SecurityConfig {
                     "/error",
                     "/error/**",
                     "/health",
+                    "/actuator/health",
+                    "/actuator/prometheus",
                     "/swagger-ui/**",
                     "/v3/api-docs/**"
                     ).permitAll()
@@ -46,7 +48,8 @@ public class SecurityConfig {
                     "/community/posts",
                     "/community/posts/search",
                     "/community/posts/*",
-                    "/community/posts/*/comments"
+                    "/community/posts/*/comments",
+                    "/community/posts/*/comments/threads"
                 ).permitAll()
                 .anyRequest().authenticated()
             )
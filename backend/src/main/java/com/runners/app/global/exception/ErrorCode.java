@@ -22,6 +22,22 @@ public enum ErrorCode {
     RUN_COUNT_REQUIRED,
     RUN_COUNT_OUT_OF_RANGE,
 
+    // Run records
+    RUN_RECORDS_REQUIRED,
+    RUN_RECORDS_TOO_MANY,
+    RUN_RECORD_EXTERNAL_ID_REQUIRED,
+    RUN_RECORD_EXTERNAL_ID_TOO_LONG,
+    RUN_RECORD_STARTED_AT_REQUIRED,
+    RUN_RECORD_ENDED_AT_REQUIRED,
+    RUN_RECORD_TIME_RANGE_INVALID,
+    RUN_RECORD_DISTANCE_REQUIRED,
+    RUN_RECORD_DISTANCE_OUT_OF_RANGE,
+    RUN_RECORD_DURATION_REQUIRED,
+    RUN_RECORD_DURATION_OUT_OF_RANGE,
+    RUN_RECORD_PACE_OUT_OF_RANGE,
+    RUN_RECORD_CALORIES_OUT_OF_RANGE,
+    RUN_RECORD_HEART_RATE_OUT_OF_RANGE,
+
     // Community
     TITLE_REQUIRED,
     TITLE_TOO_LONG,
@@ -0,0 +1,10 @@
+package com.runners.app.global.startup;
+
+/**
+ * 애플리케이션이 요청을 받기 시작한 뒤 백그라운드에서 한 번 실행할 작업 (읽기 모델 채우기, 캐시 워밍업 등)
+ * StartupTaskRunner가 구현 빈을 모아 공용 스레드 풀에서 실행합니다.
+ */
+public interface StartupTask {
+
+    void runOnStartup();
+}
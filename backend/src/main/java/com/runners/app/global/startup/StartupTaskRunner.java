@@ -0,0 +1,59 @@
+package com.runners.app.global.startup;
+
+import jakarta.annotation.PreDestroy;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+/**
+ * 시작 작업(StartupTask) 실행기
+ * ApplicationReadyEvent 후 모든 StartupTask를 데몬 스레드 풀(기본 4개)에 넣어 기동과 요청 처리를 막지 않습니다.
+ * 풀은 빈으로 노출하지 않습니다. (Executor 빈이 생기면 Spring Boot 기본 applicationTaskExecutor가 빠짐)
+ */
+@Slf4j
+@Component
+public class StartupTaskRunner {
+
+    private final List<StartupTask> tasks;
+    private final ThreadPoolTaskExecutor executor;
+
+    public StartupTaskRunner(
+            List<StartupTask> tasks,
+            @Value("${app.startup.task-concurrency:4}") int concurrency
+    ) {
+        this.tasks = tasks;
+        this.executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(Math.max(1, concurrency));
+        executor.setMaxPoolSize(Math.max(1, concurrency));
+        executor.setAllowCoreThreadTimeOut(true);
+        executor.setDaemon(true);
+        executor.setThreadNamePrefix("startup-task-");
+        executor.initialize();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        for (StartupTask task : tasks) {
+            String name = ClassUtils.getUserClass(task).getSimpleName();
+            executor.execute(() -> {
+                long startedAt = System.currentTimeMillis();
+                try {
+                    task.runOnStartup();
+                    log.info("Startup task finished: task={}, elapsedMs={}", name, System.currentTimeMillis() - startedAt);
+                } catch (Exception e) {
+                    log.error("Startup task failed: task={}", name, e);
+                }
+            });
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,263 @@
+package com.runners.app.global.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * 커서 기반 페이지네이션용 인코딩/디코딩 (CursorConfig에서 빈으로 등록)
+ *
+ * 형식: URL-safe Base64(version(1) | createdAt epoch-micros(8) | id(8) [| HMAC-SHA256 앞 8바이트])
+ * - version 1: 서명 없음 (17바이트, 23자)
+ * - version 2: HMAC 서명 (25바이트, 34자), 서명 키가 설정된 경우에만 발급/허용
+ * - version 3/4: 점수 커서 (createdAt 대신 double 점수의 비트열, 인기순 목록용), 서명 여부는 1/2와 동일
+ *
+ * createdAt은 zone 없이 UTC 기준 epoch-micros로 변환만 하므로 DB의 datetime(6) 값이 그대로 왕복됩니다.
+ * 이전 형식(Base64(createdAt|id))은 전환 기간 동안 디코딩만 지원합니다.
+ */
+public final class CursorCodec {
+
+    private static final byte VERSION_PLAIN = 1;
+    private static final byte VERSION_SIGNED = 2;
+    private static final byte VERSION_SCORE_PLAIN = 3;
+    private static final byte VERSION_SCORE_SIGNED = 4;
+    private static final int PAYLOAD_LENGTH = 1 + Long.BYTES * 2;
+    private static final int SIGNATURE_LENGTH = 8;
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final long MICROS_PER_SECOND = 1_000_000L;
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final Signer signer;
+    private final boolean acceptLegacy;
+
+    /**
+     * @param signingSecret 비어 있으면 서명 없는 커서를 발급합니다.
+     * @param acceptLegacyCursors 이전 문자열 커서 디코딩 허용 여부
+     */
+    public CursorCodec(String signingSecret, boolean acceptLegacyCursors) {
+        this.signer = signingSecret == null || signingSecret.isBlank()
+                ? null
+                : new Signer(signingSecret.getBytes(StandardCharsets.UTF_8));
+        this.acceptLegacy = acceptLegacyCursors;
+    }
+
+    /**
+     * createdAt, id를 담는 불변 객체
+     */
+    public record Cursor(LocalDateTime createdAt, long id) {
+    }
+
+    /**
+     * 점수(내림차순), id를 담는 불변 객체
+     */
+    public record ScoreCursor(double score, long id) {
+    }
+
+    /**
+     * 커서 문자열을 파싱하여 Cursor로 반환.
+     * null/blank/"null"이면 null 반환.
+     *
+     * @throws IllegalArgumentException 잘못된 커서 형식 또는 서명 불일치
+     */
+    public Cursor decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank() || "null".equalsIgnoreCase(cursor)) {
+            return null;
+        }
+
+        try {
+            byte[] bytes = DECODER.decode(cursor);
+            if (bytes.length > 0 && (bytes[0] == VERSION_PLAIN || bytes[0] == VERSION_SIGNED)) {
+                long[] values = decodeBinary(bytes, VERSION_PLAIN);
+                return new Cursor(fromEpochMicros(values[0]), values[1]);
+            }
+            if (!acceptLegacy) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return decodeLegacy(bytes);
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+
+    /**
+     * createdAt, id를 커서 문자열로 인코딩
+     */
+    public String encodeCursor(LocalDateTime createdAt, Long id) {
+        return encodeBinary(VERSION_PLAIN, toEpochMicros(createdAt), id);
+    }
+
+    /**
+     * 점수 커서 파싱. null/blank/"null"이면 null 반환.
+     *
+     * @throws IllegalArgumentException 잘못된 커서 형식 또는 서명 불일치
+     */
+    public ScoreCursor decodeScoreCursor(String cursor) {
+        if (cursor == null || cursor.isBlank() || "null".equalsIgnoreCase(cursor)) {
+            return null;
+        }
+
+        try {
+            byte[] bytes = DECODER.decode(cursor);
+            if (bytes.length == 0 || (bytes[0] != VERSION_SCORE_PLAIN && bytes[0] != VERSION_SCORE_SIGNED)) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            long[] values = decodeBinary(bytes, VERSION_SCORE_PLAIN);
+            double score = Double.longBitsToDouble(values[0]);
+            if (!Double.isFinite(score)) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return new ScoreCursor(score, values[1]);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+
+    /**
+     * 점수 커서 형식(version 3/4)인지 여부만 확인 (서명 검증은 decodeScoreCursor에서)
+     */
+    public boolean isScoreCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) return false;
+        try {
+            byte[] bytes = DECODER.decode(cursor);
+            return bytes.length > 0 && (bytes[0] == VERSION_SCORE_PLAIN || bytes[0] == VERSION_SCORE_SIGNED);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 점수, id를 커서 문자열로 인코딩
+     */
+    public String encodeScoreCursor(double score, long id) {
+        return encodeBinary(VERSION_SCORE_PLAIN, Double.doubleToLongBits(score), id);
+    }
+
+    /**
+     * plainVersion + 1이 같은 형식의 서명 버전
+     */
+    private String encodeBinary(byte plainVersion, long value, long id) {
+        byte[] bytes = new byte[signer == null ? PAYLOAD_LENGTH : PAYLOAD_LENGTH + SIGNATURE_LENGTH];
+        bytes[0] = signer == null ? plainVersion : (byte) (plainVersion + 1);
+        putLong(bytes, 1, value);
+        putLong(bytes, 1 + Long.BYTES, id);
+        if (signer != null) {
+            signer.sign(bytes);
+        }
+        return ENCODER.encodeToString(bytes);
+    }
+
+    /**
+     * @return {value, id}
+     */
+    private long[] decodeBinary(byte[] bytes, byte plainVersion) {
+        if (bytes[0] == plainVersion) {
+            // 서명 키가 있으면 서명 없는 커서는 위조 여부를 알 수 없으므로 거부
+            if (bytes.length != PAYLOAD_LENGTH || signer != null) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+        } else if (bytes.length != PAYLOAD_LENGTH + SIGNATURE_LENGTH
+                || signer == null
+                || !signer.verify(bytes)) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+
+        long id = getLong(bytes, 1 + Long.BYTES);
+        if (id <= 0) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        return new long[] {getLong(bytes, 1), id};
+    }
+
+    /**
+     * 이전 형식: Base64(createdAt|id)
+     */
+    private static Cursor decodeLegacy(byte[] bytes) {
+        String decoded = new String(bytes, StandardCharsets.UTF_8);
+        int separator = decoded.indexOf('|');
+        if (separator <= 0) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        LocalDateTime createdAt = LocalDateTime.parse(decoded.substring(0, separator));
+        long id = Long.parseLong(decoded, separator + 1, decoded.length(), 10);
+        if (id <= 0) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        return new Cursor(createdAt, id);
+    }
+
+    private static long toEpochMicros(LocalDateTime createdAt) {
+        return createdAt.toEpochSecond(ZoneOffset.UTC) * MICROS_PER_SECOND + createdAt.getNano() / 1_000;
+    }
+
+    private static LocalDateTime fromEpochMicros(long micros) {
+        long seconds = Math.floorDiv(micros, MICROS_PER_SECOND);
+        int nanos = (int) Math.floorMod(micros, MICROS_PER_SECOND) * 1_000;
+        return LocalDateTime.ofEpochSecond(seconds, nanos, ZoneOffset.UTC);
+    }
+
+    private static void putLong(byte[] bytes, int offset, long value) {
+        for (int i = Long.BYTES - 1; i >= 0; i--) {
+            bytes[offset + i] = (byte) value;
+            value >>>= 8;
+        }
+    }
+
+    private static long getLong(byte[] bytes, int offset) {
+        long value = 0;
+        for (int i = 0; i < Long.BYTES; i++) {
+            value = (value << 8) | (bytes[offset + i] & 0xFFL);
+        }
+        return value;
+    }
+
+    /**
+     * payload(앞 17바이트)에 대한 HMAC-SHA256 앞 8바이트
+     * Mac은 스레드 안전하지 않으므로 스레드별로 재사용합니다.
+     */
+    private static final class Signer {
+
+        private final ThreadLocal<Mac> macs;
+
+        private Signer(byte[] secret) {
+            SecretKeySpec key = new SecretKeySpec(secret, HMAC_ALGORITHM);
+            this.macs = ThreadLocal.withInitial(() -> {
+                try {
+                    Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+                    mac.init(key);
+                    return mac;
+                } catch (GeneralSecurityException e) {
+                    throw new IllegalStateException("Failed to initialize cursor signer", e);
+                }
+            });
+            // 잘못된 키는 요청 시점이 아니라 빈 생성 시점에 실패하도록 미리 초기화
+            macs.get();
+        }
+
+        private void sign(byte[] bytes) {
+            byte[] digest = digest(bytes);
+            System.arraycopy(digest, 0, bytes, PAYLOAD_LENGTH, SIGNATURE_LENGTH);
+        }
+
+        private boolean verify(byte[] bytes) {
+            byte[] digest = digest(bytes);
+            int diff = 0;
+            for (int i = 0; i < SIGNATURE_LENGTH; i++) {
+                diff |= digest[i] ^ bytes[PAYLOAD_LENGTH + i];
+            }
+            return diff == 0;
+        }
+
+        private byte[] digest(byte[] bytes) {
+            Mac mac = macs.get();
+            mac.update(bytes, 0, PAYLOAD_LENGTH);
+            return mac.doFinal();
+        }
+    }
+}
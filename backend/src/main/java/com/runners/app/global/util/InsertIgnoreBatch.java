@@ -0,0 +1,142 @@
+package com.runners.app.global.util;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 여러 행을 multi-row INSERT IGNORE 한 문장으로 적재하고, 이번에 새로 들어간 행을 다시 읽어 구분하는 헬퍼
+ *
+ * - rewriteBatchedStatements 설정과 무관하게 MAX_ROWS_PER_STATEMENT행마다 1문장만 보냅니다.
+ * - 행 단위 결과(update count)는 드라이버 설정에 따라 SUCCESS_NO_INFO가 되어 중복 여부를 알 수 없으므로 쓰지 않습니다.
+ *   대신 이번 적재의 created_at과 적재 직전 최대 id를 함께 조건으로 되읽어, 이미 있던 중복 행은 섞이지 않습니다.
+ * 대상 테이블은 auto increment id와 created_at(datetime(6)) 컬럼, 중복 판단용 유니크 키 컬럼이 있어야 합니다.
+ */
+public final class InsertIgnoreBatch<T> {
+
+    private static final int MAX_ROWS_PER_STATEMENT = 500;
+
+    /**
+     * 한 행의 값을 columns 순서대로 채움 (created_at 제외)
+     */
+    @FunctionalInterface
+    public interface ValueBinder<T> {
+
+        /**
+         * @param index 이 행의 첫 번째 파라미터 위치 (1부터)
+         */
+        void bind(PreparedStatement ps, int index, T row) throws SQLException;
+    }
+
+    private final String table;
+    private final int columnCount;
+    private final String insertPrefix;
+    private final String rowPlaceholders;
+    private final String keyColumn;
+    private final String scopeColumn;
+    private final Function<T, String> keyOf;
+    private final ValueBinder<T> binder;
+
+    /**
+     * @param columns created_at을 제외한 insert 컬럼
+     * @param keyColumn 되읽을 때 행을 구분할 컬럼 (scopeColumn과 함께 유니크)
+     * @param scopeColumn 한 번의 적재에서 값이 모두 같은 컬럼 (없으면 null)
+     */
+    public InsertIgnoreBatch(
+            String table,
+            List<String> columns,
+            String keyColumn,
+            String scopeColumn,
+            Function<T, String> keyOf,
+            ValueBinder<T> binder
+    ) {
+        this.table = table;
+        this.columnCount = columns.size();
+        this.insertPrefix = "insert ignore into " + table + " (" + String.join(", ", columns) + ", created_at) values ";
+        this.rowPlaceholders = "(" + "?, ".repeat(columns.size()) + "?)";
+        this.keyColumn = keyColumn;
+        this.scopeColumn = scopeColumn;
+        this.keyOf = keyOf;
+        this.binder = binder;
+    }
+
+    /**
+     * @param scopeValue scopeColumn 값 (scopeColumn이 없으면 무시)
+     * @return 입력 순서대로 이번에 실제 insert 되었는지 (이미 있던 키면 false)
+     */
+    public List<Boolean> insert(JdbcTemplate jdbcTemplate, List<T> rows, Object scopeValue) {
+        if (rows == null || rows.isEmpty()) return List.of();
+
+        Timestamp batchAt = Timestamp.valueOf(LocalDateTime.now().truncatedTo(ChronoUnit.MICROS));
+        Long maxIdBefore = jdbcTemplate.queryForObject("select coalesce(max(id), 0) from " + table, Long.class);
+
+        int affected = 0;
+        for (int from = 0; from < rows.size(); from += MAX_ROWS_PER_STATEMENT) {
+            List<T> chunk = rows.subList(from, Math.min(rows.size(), from + MAX_ROWS_PER_STATEMENT));
+            affected += jdbcTemplate.update(insertSql(chunk.size()), ps -> {
+                int index = 1;
+                for (T row : chunk) {
+                    binder.bind(ps, index, row);
+                    index += columnCount;
+                    ps.setTimestamp(index++, batchAt);
+                }
+            });
+        }
+        if (affected == 0) return Collections.nCopies(rows.size(), Boolean.FALSE);
+
+        Set<String> insertedKeys = readBackKeys(jdbcTemplate, rows, batchAt, maxIdBefore, scopeValue);
+        List<Boolean> inserted = new ArrayList<>(rows.size());
+        for (T row : rows) {
+            // 같은 키가 입력에 두 번 있으면 처음 것만 insert 된 것으로 봄
+            inserted.add(insertedKeys.remove(keyOf.apply(row)));
+        }
+        return inserted;
+    }
+
+    private Set<String> readBackKeys(
+            JdbcTemplate jdbcTemplate,
+            List<T> rows,
+            Timestamp batchAt,
+            Long maxIdBefore,
+            Object scopeValue
+    ) {
+        Set<String> keys = new HashSet<>(rows.size());
+        for (int from = 0; from < rows.size(); from += MAX_ROWS_PER_STATEMENT) {
+            List<T> chunk = rows.subList(from, Math.min(rows.size(), from + MAX_ROWS_PER_STATEMENT));
+            List<Object> args = new ArrayList<>(chunk.size() + 3);
+            args.add(maxIdBefore);
+            args.add(batchAt);
+            if (scopeColumn != null) args.add(scopeValue);
+            chunk.forEach(row -> args.add(keyOf.apply(row)));
+
+            keys.addAll(jdbcTemplate.queryForList(readBackSql(chunk.size()), String.class, args.toArray()));
+        }
+        return keys;
+    }
+
+    private String insertSql(int rowCount) {
+        StringBuilder sql = new StringBuilder(insertPrefix.length() + rowCount * (rowPlaceholders.length() + 2));
+        sql.append(insertPrefix);
+        for (int i = 0; i < rowCount; i++) {
+            if (i > 0) sql.append(", ");
+            sql.append(rowPlaceholders);
+        }
+        return sql.toString();
+    }
+
+    private String readBackSql(int keyCount) {
+        return "select " + keyColumn + " from " + table
+                + " where id > ? and created_at = ?"
+                + (scopeColumn == null ? "" : " and " + scopeColumn + " = ?")
+                + " and " + keyColumn + " in (" + "?, ".repeat(keyCount - 1) + "?)";
+    }
+}
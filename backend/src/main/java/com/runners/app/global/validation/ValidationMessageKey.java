@@ -27,6 +27,21 @@ public final class ValidationMessageKey {
     public static final String RUN_COUNT_REQUIRED = "RUN_COUNT_REQUIRED";
     public static final String RUN_COUNT_OUT_OF_RANGE = "RUN_COUNT_OUT_OF_RANGE";
 
+    // Run records
+    public static final String RUN_RECORDS_REQUIRED = "RUN_RECORDS_REQUIRED";
+    public static final String RUN_RECORDS_TOO_MANY = "RUN_RECORDS_TOO_MANY";
+    public static final String RUN_RECORD_EXTERNAL_ID_REQUIRED = "RUN_RECORD_EXTERNAL_ID_REQUIRED";
+    public static final String RUN_RECORD_EXTERNAL_ID_TOO_LONG = "RUN_RECORD_EXTERNAL_ID_TOO_LONG";
+    public static final String RUN_RECORD_STARTED_AT_REQUIRED = "RUN_RECORD_STARTED_AT_REQUIRED";
+    public static final String RUN_RECORD_ENDED_AT_REQUIRED = "RUN_RECORD_ENDED_AT_REQUIRED";
+    public static final String RUN_RECORD_DISTANCE_REQUIRED = "RUN_RECORD_DISTANCE_REQUIRED";
+    public static final String RUN_RECORD_DISTANCE_OUT_OF_RANGE = "RUN_RECORD_DISTANCE_OUT_OF_RANGE";
+    public static final String RUN_RECORD_DURATION_REQUIRED = "RUN_RECORD_DURATION_REQUIRED";
+    public static final String RUN_RECORD_DURATION_OUT_OF_RANGE = "RUN_RECORD_DURATION_OUT_OF_RANGE";
+    public static final String RUN_RECORD_PACE_OUT_OF_RANGE = "RUN_RECORD_PACE_OUT_OF_RANGE";
+    public static final String RUN_RECORD_CALORIES_OUT_OF_RANGE = "RUN_RECORD_CALORIES_OUT_OF_RANGE";
+    public static final String RUN_RECORD_HEART_RATE_OUT_OF_RANGE = "RUN_RECORD_HEART_RATE_OUT_OF_RANGE";
+
     // Community
     public static final String TITLE_REQUIRED = "TITLE_REQUIRED";
     public static final String TITLE_TOO_LONG = "TITLE_TOO_LONG";
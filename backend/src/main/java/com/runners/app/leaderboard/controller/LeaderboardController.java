@@ -0,0 +1,35 @@
+package com.runners.app.leaderboard.controller;
+
+import com.runners.app.global.util.SecurityUtils;
+import com.runners.app.leaderboard.dto.response.LeaderboardResponse;
+import com.runners.app.leaderboard.service.LeaderboardPeriod;
+import com.runners.app.leaderboard.service.LeaderboardService;
+import io.swagger.v3.oas.annotations.Operation;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/leaderboard")
+public class LeaderboardController {
+
+    private final LeaderboardService leaderboardService;
+
+    public LeaderboardController(LeaderboardService leaderboardService) {
+        this.leaderboardService = leaderboardService;
+    }
+
+    @Operation(summary = "거리 리더보드", description = "누적(ALL)/이번 주(WEEK)/이번 달(MONTH) 거리 순위와 내 순위를 반환합니다. (page는 0부터)")
+    @GetMapping
+    public LeaderboardResponse leaderboard(
+            Authentication authentication,
+            @RequestParam(defaultValue = "ALL") LeaderboardPeriod period,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        Long userId = SecurityUtils.extractUserId(authentication);
+        return leaderboardService.getLeaderboard(userId, period, page, size);
+    }
+}
@@ -0,0 +1,12 @@
+package com.runners.app.leaderboard.dto.response;
+
+/**
+ * @param rank 1부터 시작하는 순위
+ */
+public record LeaderboardEntryResponse(
+        long rank,
+        Long userId,
+        String displayName,
+        String profileImageUrl,
+        double distanceKm
+) {}
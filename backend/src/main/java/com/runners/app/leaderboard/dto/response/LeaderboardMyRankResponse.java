@@ -0,0 +1,9 @@
+package com.runners.app.leaderboard.dto.response;
+
+/**
+ * @param rank 1부터 시작하는 순위
+ */
+public record LeaderboardMyRankResponse(
+        long rank,
+        double distanceKm
+) {}
@@ -0,0 +1,17 @@
+package com.runners.app.leaderboard.dto.response;
+
+import com.runners.app.leaderboard.service.LeaderboardPeriod;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * @param periodStart 주/월 리더보드의 기간 시작일 (ALL은 null)
+ * @param me 내 순위 (리더보드에 없으면 null)
+ */
+public record LeaderboardResponse(
+        LeaderboardPeriod period,
+        LocalDate periodStart,
+        List<LeaderboardEntryResponse> entries,
+        boolean hasNext,
+        LeaderboardMyRankResponse me
+) {}
@@ -0,0 +1,371 @@
+package com.runners.app.leaderboard.service;
+
+import com.runners.app.global.startup.StartupTask;
+import com.runners.app.run.event.RunRecordsIngestedEvent;
+import com.runners.app.run.repository.RunStatBucketRepository;
+import com.runners.app.user.event.UserTotalDistanceChangedEvent;
+import com.runners.app.user.repository.UserRepository;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 거리 리더보드 (Redis Sorted Set, DB 0번, member = userId, score = km)
+ *
+ * - ALL: users.total_distance_km 값을 그대로 ZADD (누적 거리 변경 커밋 후)
+ * - WEEK/MONTH: 기간별 키에 업로드된 러닝 기록 거리를 ZINCRBY (기록 저장 커밋 후)
+ *   키에 기간 시작일이 들어가므로 새 주/달이 되면 새 키로 넘어가고, 지난 키는 기간 종료 + retention 후 만료됩니다.
+ * 순위/페이지 조회는 O(log n + 페이지 크기)입니다.
+ * 매일 rebuild-cron에 MySQL(users, run_stat_buckets)에서 임시 키로 다시 만든 뒤 RENAME으로 교체합니다.
+ * 재구성은 키별 락을 잡은 인스턴스 하나만 수행하고, 락이 있는 동안 들어온 증분은 사용자 id를 dirty 집합에 남깁니다.
+ * 교체 직전에 dirty 사용자만 MySQL에서 다시 읽어 임시 키에 반영하고, dirty가 비어 있을 때만 원자적으로 RENAME 하므로
+ * 재구성 중 들어온 증분이 덮어써져 사라지지 않습니다.
+ */
+@Slf4j
+@Component
+public class DistanceLeaderboard implements StartupTask {
+
+    static final String KEY_PREFIX = "leaderboard:distance:";
+    private static final int REBUILD_BATCH_SIZE = 1000;
+    private static final int MAX_SWAP_ATTEMPTS = 10;
+
+    /**
+     * KEYS[1] 기간 리더보드 ZSET, KEYS[2] 재구성 락, KEYS[3] 재구성 중 바뀐 사용자
+     * ARGV[1] userId, ARGV[2] 더할 km, ARGV[3] 만료 시각(epoch seconds)
+     */
+    private static final DefaultRedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('ZINCRBY', KEYS[1], ARGV[2], ARGV[1]) "
+                    + "redis.call('EXPIREAT', KEYS[1], ARGV[3]) "
+                    + "if redis.call('EXISTS', KEYS[2]) == 1 then redis.call('SADD', KEYS[3], ARGV[1]) end "
+                    + "return 1",
+            Long.class
+    );
+
+    /**
+     * KEYS[1] 누적 리더보드 ZSET, KEYS[2] 재구성 락, KEYS[3] 재구성 중 바뀐 사용자
+     * ARGV[1] userId, ARGV[2] 누적 km (0 이하면 제거)
+     */
+    private static final DefaultRedisScript<Long> SET_TOTAL_SCRIPT = new DefaultRedisScript<>(
+            "if tonumber(ARGV[2]) > 0 then redis.call('ZADD', KEYS[1], ARGV[2], ARGV[1]) "
+                    + "else redis.call('ZREM', KEYS[1], ARGV[1]) end "
+                    + "if redis.call('EXISTS', KEYS[2]) == 1 then redis.call('SADD', KEYS[3], ARGV[1]) end "
+                    + "return 1",
+            Long.class
+    );
+
+    /**
+     * KEYS[1] 리더보드, KEYS[2] 임시 키, KEYS[3] 재구성 락, KEYS[4] 재구성 중 바뀐 사용자
+     * ARGV[1] 락 토큰, ARGV[2] 만료 시각(epoch seconds, 0이면 만료 없음)
+     * 반환: 1 교체 완료, 0 dirty가 남아 있어 다시 시도, -1 락을 잃음
+     */
+    private static final DefaultRedisScript<Long> SWAP_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[3]) ~= ARGV[1] then return -1 end "
+                    + "if redis.call('SCARD', KEYS[4]) > 0 then return 0 end "
+                    + "if redis.call('EXISTS', KEYS[2]) == 1 then "
+                    + "  redis.call('RENAME', KEYS[2], KEYS[1]) "
+                    + "  if ARGV[2] ~= '0' then redis.call('EXPIREAT', KEYS[1], ARGV[2]) end "
+                    + "else redis.call('DEL', KEYS[1]) end "
+                    + "redis.call('DEL', KEYS[3]) "
+                    + "return 1",
+            Long.class
+    );
+
+    /**
+     * KEYS[1] 재구성 락, KEYS[2] 임시 키, KEYS[3] 재구성 중 바뀐 사용자, ARGV[1] 락 토큰
+     */
+    private static final DefaultRedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) ~= ARGV[1] then return 0 end "
+                    + "redis.call('DEL', KEYS[1], KEYS[2], KEYS[3]) "
+                    + "return 1",
+            Long.class
+    );
+
+    private final StringRedisTemplate redis;
+    private final UserRepository userRepository;
+    private final RunStatBucketRepository runStatBucketRepository;
+    private final int retentionDays;
+    private final Duration rebuildLockTtl;
+
+    public DistanceLeaderboard(
+            StringRedisTemplate redis,
+            UserRepository userRepository,
+            RunStatBucketRepository runStatBucketRepository,
+            @Value("${app.leaderboard.period-retention-days:7}") int retentionDays,
+            @Value("${app.leaderboard.rebuild-lock-seconds:600}") long rebuildLockSeconds
+    ) {
+        this.redis = redis;
+        this.userRepository = userRepository;
+        this.runStatBucketRepository = runStatBucketRepository;
+        this.retentionDays = Math.max(0, retentionDays);
+        this.rebuildLockTtl = Duration.ofSeconds(Math.max(1, rebuildLockSeconds));
+    }
+
+    /**
+     * @param rank 1부터 시작하는 순위
+     */
+    public record Entry(long userId, double distanceKm, long rank) {
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleTotalDistanceChanged(UserTotalDistanceChangedEvent event) {
+        try {
+            String key = key(LeaderboardPeriod.ALL, null);
+            double km = event.totalDistanceKm() == null ? 0 : event.totalDistanceKm();
+            redis.execute(SET_TOTAL_SCRIPT, List.of(key, lockKey(key), dirtyKey(key)),
+                    String.valueOf(event.userId()), String.valueOf(km));
+        } catch (Exception e) {
+            log.warn("Failed to update distance leaderboard: userId={}", event.userId(), e);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleRunsIngested(RunRecordsIngestedEvent event) {
+        Map<String, Double> kmByKey = new HashMap<>();
+        Map<String, Long> expireAtByKey = new HashMap<>();
+        long nowSeconds = System.currentTimeMillis() / 1000;
+        for (RunRecordsIngestedEvent.IngestedRun run : event.runs()) {
+            if (run.distanceMeters() <= 0) continue;
+            for (LeaderboardPeriod period : List.of(LeaderboardPeriod.WEEK, LeaderboardPeriod.MONTH)) {
+                LocalDate start = period.startOf(run.day());
+                long expireAt = expireAtOf(period, start);
+                // 이미 만료됐을 지난 기간은 다시 만들지 않음
+                if (expireAt <= nowSeconds) continue;
+                String key = key(period, start);
+                kmByKey.merge(key, run.distanceMeters() / 1000.0, Double::sum);
+                expireAtByKey.put(key, expireAt);
+            }
+        }
+
+        kmByKey.forEach((key, km) -> {
+            try {
+                redis.execute(INCREMENT_SCRIPT, List.of(key, lockKey(key), dirtyKey(key)),
+                        String.valueOf(event.userId()), String.valueOf(km), String.valueOf(expireAtByKey.get(key)));
+            } catch (Exception e) {
+                log.warn("Failed to update distance leaderboard: key={}, userId={}", key, event.userId(), e);
+            }
+        });
+    }
+
+    /**
+     * 거리 내림차순으로 offset부터 최대 count명
+     */
+    public List<Entry> read(LeaderboardPeriod period, LocalDate today, long offset, int count) {
+        Set<ZSetOperations.TypedTuple<String>> tuples = redis.opsForZSet()
+                .reverseRangeWithScores(key(period, period.startOf(today)), offset, offset + count - 1);
+        if (tuples == null || tuples.isEmpty()) return List.of();
+
+        List<Entry> entries = new ArrayList<>(tuples.size());
+        long rank = offset;
+        for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+            rank++;
+            entries.add(new Entry(
+                    Long.parseLong(tuple.getValue()),
+                    tuple.getScore() == null ? 0 : tuple.getScore(),
+                    rank
+            ));
+        }
+        return entries;
+    }
+
+    /**
+     * 리더보드에 없으면 null
+     */
+    public Entry rankOf(LeaderboardPeriod period, LocalDate today, Long userId) {
+        String key = key(period, period.startOf(today));
+        String member = String.valueOf(userId);
+        Long rank = redis.opsForZSet().reverseRank(key, member);
+        if (rank == null) return null;
+        Double score = redis.opsForZSet().score(key, member);
+        return new Entry(userId, score == null ? 0 : score, rank + 1);
+    }
+
+    @Override
+    public void runOnStartup() {
+        warmUp();
+    }
+
+    /**
+     * 현재 기간 키가 없으면 재구성 (Redis 초기화 후 복구)
+     */
+    public void warmUp() {
+        LocalDate today = LocalDate.now();
+        for (LeaderboardPeriod period : LeaderboardPeriod.values()) {
+            try {
+                if (Boolean.TRUE.equals(redis.hasKey(key(period, period.startOf(today))))) continue;
+                rebuild(period, today);
+            } catch (Exception e) {
+                log.error("Failed to warm up distance leaderboard: period={}", period, e);
+            }
+        }
+    }
+
+    /**
+     * 매일 현재 기간 리더보드를 MySQL 기준으로 다시 만듦 (주/월이 바뀐 직후 새 키도 여기서 채워짐)
+     */
+    @Scheduled(cron = "${app.leaderboard.rebuild-cron:0 5 0 * * *}")
+    public void rebuildAll() {
+        LocalDate today = LocalDate.now();
+        for (LeaderboardPeriod period : LeaderboardPeriod.values()) {
+            try {
+                rebuild(period, today);
+            } catch (Exception e) {
+                log.error("Failed to rebuild distance leaderboard: period={}", period, e);
+            }
+        }
+    }
+
+    /**
+     * 다른 인스턴스가 같은 키를 재구성 중이면 건너뜀
+     */
+    public void rebuild(LeaderboardPeriod period, LocalDate today) {
+        LocalDate start = period.startOf(today);
+        String key = key(period, start);
+        String tempKey = key + ":rebuild";
+        String lockKey = lockKey(key);
+        String dirtyKey = dirtyKey(key);
+        String token = UUID.randomUUID().toString();
+
+        if (!Boolean.TRUE.equals(redis.opsForValue().setIfAbsent(lockKey, token, rebuildLockTtl))) {
+            log.info("Distance leaderboard rebuild already running: key={}", key);
+            return;
+        }
+        try {
+            redis.delete(tempKey);
+            int members = period == LeaderboardPeriod.ALL
+                    ? loadTotalDistances(tempKey)
+                    : loadPeriodDistances(period, start, tempKey);
+
+            String expireAt = period == LeaderboardPeriod.ALL ? "0" : String.valueOf(expireAtOf(period, start));
+            for (int attempt = 0; attempt < MAX_SWAP_ATTEMPTS; attempt++) {
+                Long result = redis.execute(SWAP_SCRIPT, List.of(key, tempKey, lockKey, dirtyKey), token, expireAt);
+                if (result != null && result == 1) {
+                    log.info("Distance leaderboard rebuilt: key={}, members={}", key, members);
+                    return;
+                }
+                if (result == null || result < 0) {
+                    log.warn("Distance leaderboard rebuild lock lost: key={}", key);
+                    return;
+                }
+                reloadDirty(period, start, tempKey, dirtyKey);
+            }
+            log.warn("Distance leaderboard rebuild gave up after {} attempts: key={}", MAX_SWAP_ATTEMPTS, key);
+        } finally {
+            redis.execute(RELEASE_SCRIPT, List.of(lockKey, tempKey, dirtyKey), token);
+        }
+    }
+
+    /**
+     * 재구성 중 바뀐 사용자를 MySQL에서 다시 읽어 임시 키에 반영 (증분 커밋 이후 값)
+     */
+    private void reloadDirty(LeaderboardPeriod period, LocalDate start, String tempKey, String dirtyKey) {
+        while (true) {
+            List<String> members = redis.opsForSet().pop(dirtyKey, REBUILD_BATCH_SIZE);
+            if (members == null || members.isEmpty()) return;
+
+            List<Long> userIds = members.stream().map(Long::valueOf).toList();
+            Map<Long, Double> kmByUserId = new HashMap<>(userIds.size());
+            if (period == LeaderboardPeriod.ALL) {
+                for (UserRepository.DistanceSource source : userRepository.findDistanceSourcesByIdIn(userIds)) {
+                    if (source.getTotalDistanceKm() != null && source.getTotalDistanceKm() > 0) {
+                        kmByUserId.put(source.getId(), source.getTotalDistanceKm());
+                    }
+                }
+            } else {
+                for (RunStatBucketRepository.PeriodDistance row
+                        : runStatBucketRepository.findPeriodDistancesByUserIdIn(period.statPeriod(), start, userIds)) {
+                    kmByUserId.put(row.getUserId(), row.getDistanceMeters() / 1000.0);
+                }
+            }
+
+            Set<ZSetOperations.TypedTuple<String>> tuples = new HashSet<>(kmByUserId.size());
+            List<Object> removed = new ArrayList<>();
+            for (Long userId : userIds) {
+                Double km = kmByUserId.get(userId);
+                if (km == null) {
+                    removed.add(String.valueOf(userId));
+                } else {
+                    tuples.add(ZSetOperations.TypedTuple.of(String.valueOf(userId), km));
+                }
+            }
+            if (!tuples.isEmpty()) redis.opsForZSet().add(tempKey, tuples);
+            if (!removed.isEmpty()) redis.opsForZSet().remove(tempKey, removed.toArray());
+        }
+    }
+
+    private int loadTotalDistances(String tempKey) {
+        int members = 0;
+        long lastId = 0;
+        while (true) {
+            List<UserRepository.DistanceSource> page = userRepository.findDistanceSourcesAfter(
+                    lastId,
+                    PageRequest.of(0, REBUILD_BATCH_SIZE)
+            );
+            if (page.isEmpty()) break;
+
+            Set<ZSetOperations.TypedTuple<String>> tuples = new HashSet<>(page.size());
+            for (UserRepository.DistanceSource source : page) {
+                tuples.add(ZSetOperations.TypedTuple.of(String.valueOf(source.getId()), source.getTotalDistanceKm()));
+                lastId = source.getId();
+            }
+            redis.opsForZSet().add(tempKey, tuples);
+            members += tuples.size();
+            if (page.size() < REBUILD_BATCH_SIZE) break;
+        }
+        return members;
+    }
+
+    private int loadPeriodDistances(LeaderboardPeriod period, LocalDate start, String tempKey) {
+        List<RunStatBucketRepository.PeriodDistance> rows =
+                runStatBucketRepository.findPeriodDistances(period.statPeriod(), start);
+
+        for (int from = 0; from < rows.size(); from += REBUILD_BATCH_SIZE) {
+            List<RunStatBucketRepository.PeriodDistance> batch = rows.subList(from, Math.min(rows.size(), from + REBUILD_BATCH_SIZE));
+            Set<ZSetOperations.TypedTuple<String>> tuples = new HashSet<>(batch.size());
+            for (RunStatBucketRepository.PeriodDistance row : batch) {
+                tuples.add(ZSetOperations.TypedTuple.of(String.valueOf(row.getUserId()), row.getDistanceMeters() / 1000.0));
+            }
+            redis.opsForZSet().add(tempKey, tuples);
+        }
+        return rows.size();
+    }
+
+    private long expireAtOf(LeaderboardPeriod period, LocalDate start) {
+        return period.nextStart(start)
+                .plusDays(retentionDays)
+                .atStartOfDay(ZoneId.systemDefault())
+                .toEpochSecond();
+    }
+
+    private static String lockKey(String key) {
+        return key + ":rebuild:lock";
+    }
+
+    private static String dirtyKey(String key) {
+        return key + ":rebuild:dirty";
+    }
+
+    static String key(LeaderboardPeriod period, LocalDate start) {
+        return switch (period) {
+            case ALL -> KEY_PREFIX + "all";
+            case WEEK -> KEY_PREFIX + "week:" + start;
+            case MONTH -> KEY_PREFIX + "month:" + start;
+        };
+    }
+}
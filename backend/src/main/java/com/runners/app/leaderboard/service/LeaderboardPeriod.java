@@ -0,0 +1,42 @@
+package com.runners.app.leaderboard.service;
+
+import com.runners.app.run.entity.RunStatPeriod;
+import java.time.LocalDate;
+
+/**
+ * 리더보드 기간
+ * ALL: 누적 거리(users.total_distance_km), WEEK/MONTH: 이번 주(월요일 시작)/이번 달 업로드된 러닝 기록 거리
+ */
+public enum LeaderboardPeriod {
+    ALL(RunStatPeriod.TOTAL),
+    WEEK(RunStatPeriod.WEEK),
+    MONTH(RunStatPeriod.MONTH);
+
+    private final RunStatPeriod statPeriod;
+
+    LeaderboardPeriod(RunStatPeriod statPeriod) {
+        this.statPeriod = statPeriod;
+    }
+
+    public RunStatPeriod statPeriod() {
+        return statPeriod;
+    }
+
+    /**
+     * day가 속한 기간의 시작일 (ALL은 null)
+     */
+    public LocalDate startOf(LocalDate day) {
+        return this == ALL ? null : statPeriod.startOf(day);
+    }
+
+    /**
+     * periodStart로 시작하는 기간의 다음 기간 시작일 (ALL은 null)
+     */
+    public LocalDate nextStart(LocalDate periodStart) {
+        return switch (this) {
+            case ALL -> null;
+            case WEEK -> periodStart.plusWeeks(1);
+            case MONTH -> periodStart.plusMonths(1);
+        };
+    }
+}
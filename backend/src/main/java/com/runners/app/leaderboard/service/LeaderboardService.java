@@ -0,0 +1,71 @@
+package com.runners.app.leaderboard.service;
+
+import com.runners.app.leaderboard.dto.response.LeaderboardEntryResponse;
+import com.runners.app.leaderboard.dto.response.LeaderboardMyRankResponse;
+import com.runners.app.leaderboard.dto.response.LeaderboardResponse;
+import com.runners.app.user.cache.AuthorCard;
+import com.runners.app.user.cache.AuthorCardCache;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.springframework.stereotype.Service;
+
+@Service
+public class LeaderboardService {
+
+    private static final long MAX_OFFSET = 10_000;
+
+    private final DistanceLeaderboard distanceLeaderboard;
+    private final AuthorCardCache authorCardCache;
+
+    public LeaderboardService(DistanceLeaderboard distanceLeaderboard, AuthorCardCache authorCardCache) {
+        this.distanceLeaderboard = distanceLeaderboard;
+        this.authorCardCache = authorCardCache;
+    }
+
+    /**
+     * 순위 페이지 + 내 순위 (Redis만 조회, 표시 정보는 AuthorCardCache로 한 번에 채움)
+     * 상위 MAX_OFFSET명까지만 페이지로 제공하며, 그 뒤 페이지는 빈 목록 + hasNext=false
+     */
+    public LeaderboardResponse getLeaderboard(Long userId, LeaderboardPeriod period, int page, int size) {
+        int safeSize = Math.min(50, Math.max(1, size));
+        long offset = (long) Math.max(0, page) * safeSize;
+        LocalDate today = LocalDate.now();
+
+        List<DistanceLeaderboard.Entry> pageEntries = List.of();
+        boolean hasNext = false;
+        if (offset < MAX_OFFSET) {
+            int count = (int) Math.min(safeSize, MAX_OFFSET - offset);
+            List<DistanceLeaderboard.Entry> fetched = distanceLeaderboard.read(period, today, offset, count + 1);
+            hasNext = fetched.size() > count && offset + count < MAX_OFFSET;
+            pageEntries = fetched.size() > count ? fetched.subList(0, count) : fetched;
+        }
+
+        Map<Long, AuthorCard> cards = authorCardCache.getAll(
+                pageEntries.stream().map(DistanceLeaderboard.Entry::userId).toList()
+        );
+        List<LeaderboardEntryResponse> entries = new ArrayList<>(pageEntries.size());
+        for (DistanceLeaderboard.Entry entry : pageEntries) {
+            // 탈퇴 등으로 없어진 사용자는 건너뜀 (순위 번호는 유지)
+            AuthorCard card = cards.get(entry.userId());
+            if (card == null) continue;
+            entries.add(new LeaderboardEntryResponse(
+                    entry.rank(),
+                    entry.userId(),
+                    card.displayName(),
+                    card.profileImageUrl(),
+                    entry.distanceKm()
+            ));
+        }
+
+        DistanceLeaderboard.Entry mine = distanceLeaderboard.rankOf(period, today, userId);
+        return new LeaderboardResponse(
+                period,
+                period.startOf(today),
+                entries,
+                hasNext,
+                mine == null ? null : new LeaderboardMyRankResponse(mine.rank(), mine.distanceKm())
+        );
+    }
+}
@@ -3,8 +3,10 @@ package com.runners.app.notification.config;
 import com.runners.app.notification.listener.NotificationStreamMessageListener;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.data.redis.connection.RedisConnection;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.stream.Consumer;
@@ -20,14 +22,19 @@ import java.time.Duration;
 /**
  * Redis Stream 리스너 컨테이너 설정
  * 전용 리스너 컨테이너로 실시간 이벤트 수신
+ *
+ * 파티션(스트림)마다 Consumer 1개를 등록하고, 각 Consumer는 전용 스레드에서 순차 처리합니다.
+ * 같은 게시글 이벤트는 같은 파티션으로 들어가므로 순서가 유지되고, 느린 FCM 호출이
+ * 다른 파티션의 처리를 막지 않습니다.
  */
 @Slf4j
 @Configuration
 public class NotificationStreamConfig {
 
-    private static final String STREAM_KEY = "notification:events:comment-created";
-    private static final String CONSUMER_GROUP = "notification-workers";
-    private static final String CONSUMER_NAME = "worker-" + getHostname() + "-" + ProcessHandle.current().pid();
+    private static final String CONSUMER_NAME_PREFIX = "worker-" + getHostname() + "-" + ProcessHandle.current().pid();
+
+    @Value("${app.notification.stream.poll-batch-size:10}")
+    private int pollBatchSize;
 
     /**
      * StreamMessageListenerContainer 설정
@@ -37,41 +44,57 @@ public class NotificationStreamConfig {
     public StreamMessageListenerContainer<String, MapRecord<String, String, String>>
             notificationStreamContainer(
                     @Qualifier("notificationRedisConnectionFactory") RedisConnectionFactory connectionFactory,
+                    NotificationStreamPartitions partitions,
                     NotificationStreamMessageListener messageListener
             ) {
+        // 파티션 수만큼만 스레드를 쓰는 소비 전용 Executor (각 구독은 polling loop를 점유하는 장기 실행 작업)
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("notification-stream-");
+        executor.setConcurrencyLimit(partitions.partitionCount());
+
         StreamMessageListenerContainer.StreamMessageListenerContainerOptions<String, MapRecord<String, String, String>> options =
                 StreamMessageListenerContainer.StreamMessageListenerContainerOptions
                         .builder()
                         .pollTimeout(Duration.ofSeconds(5))
+                        .batchSize(Math.max(1, pollBatchSize))
+                        .executor(executor)
                         .errorHandler(t -> log.error("Notification stream listener polling error", t))
                         .build();
 
         StreamMessageListenerContainer<String, MapRecord<String, String, String>> container =
                 StreamMessageListenerContainer.create(connectionFactory, options);
 
-        ensureConsumerGroupExists(connectionFactory);
+        for (int partition = 0; partition < partitions.partitionCount(); partition++) {
+            String streamKey = partitions.streamKey(partition);
+            ensureConsumerGroupExists(connectionFactory, streamKey);
 
-        // Consumer Group에서 읽기
-        StreamOffset<String> streamOffset = StreamOffset.create(STREAM_KEY, ReadOffset.lastConsumed());
-        Consumer consumer = Consumer.from(CONSUMER_GROUP, CONSUMER_NAME);
+            // Consumer Group에서 읽기 (파티션별 Consumer)
+            StreamOffset<String> streamOffset = StreamOffset.create(streamKey, ReadOffset.lastConsumed());
+            Consumer consumer = Consumer.from(NotificationStreamPartitions.CONSUMER_GROUP, consumerName(partition));
 
-        container.receive(consumer, streamOffset, messageListener);
+            container.receive(consumer, streamOffset, messageListener);
+        }
 
         container.start();
-        log.info("Notification stream container started: stream={}, group={}, consumer={}", STREAM_KEY, CONSUMER_GROUP, CONSUMER_NAME);
+        log.info("Notification stream container started: streams={}, group={}, consumerPrefix={}",
+                partitions.streamKeys(), NotificationStreamPartitions.CONSUMER_GROUP, CONSUMER_NAME_PREFIX);
 
         return container;
     }
 
-    private void ensureConsumerGroupExists(RedisConnectionFactory connectionFactory) {
+    public static String consumerName(int partition) {
+        return CONSUMER_NAME_PREFIX + "-p" + partition;
+    }
+
+    private void ensureConsumerGroupExists(RedisConnectionFactory connectionFactory, String streamKey) {
         try (RedisConnection connection = connectionFactory.getConnection()) {
             connection.streamCommands().xGroupCreate(
-                    STREAM_KEY.getBytes(StandardCharsets.UTF_8),
-                    CONSUMER_GROUP,
+                    streamKey.getBytes(StandardCharsets.UTF_8),
+                    NotificationStreamPartitions.CONSUMER_GROUP,
                     ReadOffset.from("0-0"),
                     true
             );
-            log.info("Notification consumer group ensured (mkstream): stream={}, group={}", STREAM_KEY, CONSUMER_GROUP);
+            log.info("Notification consumer group ensured (mkstream): stream={}, group={}",
+                    streamKey, NotificationStreamPartitions.CONSUMER_GROUP);
         } catch (Exception e) {
             // BUSYGROUP (already exists) 등은 정상 시나리오라 debug로만 남김
             log.debug("Notification consumer group already exists or cannot be created now: {}", e.getMessage());
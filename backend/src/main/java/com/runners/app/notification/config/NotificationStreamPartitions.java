@@ -0,0 +1,48 @@
+package com.runners.app.notification.config;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 알림 Redis Stream 파티션 정의
+ * postId 기준으로 K개 스트림에 나눠 적재하여, 같은 게시글의 이벤트는 순서를 유지하면서
+ * 파티션 간에는 병렬로 소비할 수 있도록 합니다.
+ *
+ * 0번 파티션은 기존 단일 스트림 키를 그대로 사용하여 이전에 쌓인 메시지도 계속 소비됩니다.
+ * 발행/소비 측이 같은 파티션 수를 사용해야 합니다.
+ */
+@Component
+public class NotificationStreamPartitions {
+
+    public static final String STREAM_KEY = "notification:events:comment-created";
+    public static final String CONSUMER_GROUP = "notification-workers";
+
+    private final int partitionCount;
+
+    public NotificationStreamPartitions(@Value("${app.notification.stream.partitions:4}") int partitionCount) {
+        this.partitionCount = Math.max(1, partitionCount);
+    }
+
+    public int partitionCount() {
+        return partitionCount;
+    }
+
+    public String streamKey(int partition) {
+        return partition == 0 ? STREAM_KEY : STREAM_KEY + ":" + partition;
+    }
+
+    public List<String> streamKeys() {
+        List<String> keys = new ArrayList<>(partitionCount);
+        for (int partition = 0; partition < partitionCount; partition++) {
+            keys.add(streamKey(partition));
+        }
+        return keys;
+    }
+
+    public String streamKeyForPost(Long postId) {
+        if (postId == null) return streamKey(0);
+        return streamKey(Math.floorMod(Long.hashCode(postId), partitionCount));
+    }
+}
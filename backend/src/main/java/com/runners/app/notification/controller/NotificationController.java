@@ -1,6 +1,7 @@
 package com.runners.app.notification.controller;
 
 import com.runners.app.global.util.SecurityUtils;
+import com.runners.app.notification.dto.response.MarkAllNotificationsReadResponse;
 import com.runners.app.notification.dto.response.NotificationCursorListResponse;
 import com.runners.app.notification.dto.response.UnreadNotificationCountResponse;
 import com.runners.app.notification.service.NotificationService;
@@ -54,11 +55,10 @@ public class NotificationController {
         notificationService.markAsRead(userId, notificationId);
     }
 
-    @Operation(summary = "모든 알림 읽음 처리", description = "사용자의 모든 알림을 읽음 처리합니다.")
+    @Operation(summary = "모든 알림 읽음 처리", description = "사용자의 모든 알림을 읽음 처리하고 변경된 알림 개수를 반환합니다.")
     @PutMapping("/read-all")
-    @ResponseStatus(HttpStatus.NO_CONTENT)
-    public void markAllAsRead(Authentication authentication) {
+    public MarkAllNotificationsReadResponse markAllAsRead(Authentication authentication) {
         Long userId = SecurityUtils.extractUserId(authentication);
-        notificationService.markAllAsRead(userId);
+        return notificationService.markAllAsRead(userId);
     }
 }
@@ -0,0 +1,8 @@
+package com.runners.app.notification.dto.response;
+
+/**
+ * 모든 알림 읽음 처리 응답 DTO
+ */
+public record MarkAllNotificationsReadResponse(
+        int updatedCount
+) {}
@@ -0,0 +1,7 @@
+package com.runners.app.notification.event;
+
+/**
+ * 사용자의 모든 알림 읽음 처리 (커밋 이후 안읽음 카운터를 0으로 초기화)
+ */
+public record AllNotificationsReadEvent(Long recipientId) {
+}
@@ -0,0 +1,18 @@
+package com.runners.app.notification.event;
+
+import java.util.Map;
+
+/**
+ * 안읽음 알림 수 변경 (recipientId -> 증감량)
+ * 커밋 이후 Redis 카운터에 반영됩니다.
+ */
+public record UnreadNotificationCountChangedEvent(Map<Long, Long> deltas) {
+
+    public static UnreadNotificationCountChangedEvent increased(Long recipientId) {
+        return new UnreadNotificationCountChangedEvent(Map.of(recipientId, 1L));
+    }
+
+    public static UnreadNotificationCountChangedEvent decreased(Long recipientId) {
+        return new UnreadNotificationCountChangedEvent(Map.of(recipientId, -1L));
+    }
+}
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.runners.app.community.comment.event.CommentCreatedEvent;
 import com.runners.app.community.recommend.event.CommentRecommendedEvent;
 import com.runners.app.community.recommend.event.PostRecommendedEvent;
+import com.runners.app.notification.config.NotificationStreamPartitions;
 import com.runners.app.notification.service.NotificationService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -21,9 +22,6 @@ import org.springframework.stereotype.Component;
 public class NotificationStreamMessageListener
         implements StreamListener<String, MapRecord<String, String, String>> {
 
-    private static final String STREAM_KEY = "notification:events:comment-created";
-    private static final String CONSUMER_GROUP = "notification-workers";
-
     private final StringRedisTemplate notificationRedisTemplate;  // DB 2번 사용
     private final NotificationService notificationService;
     private final ObjectMapper objectMapper;
@@ -49,8 +47,12 @@ public class NotificationStreamMessageListener
             processEvent(eventType, payload, recordId);
 
             // 처리 완료 확인 (ACK, DB 2번 사용)
-            notificationRedisTemplate.opsForStream().acknowledge(STREAM_KEY, CONSUMER_GROUP, recordId);
-            log.info("Processed and acknowledged stream record: {}", recordId);
+            notificationRedisTemplate.opsForStream().acknowledge(
+                    record.getStream(),
+                    NotificationStreamPartitions.CONSUMER_GROUP,
+                    recordId
+            );
+            log.info("Processed and acknowledged stream record: stream={}, recordId={}", record.getStream(), recordId);
 
         } catch (Exception e) {
             log.error("Failed to process stream record: {}", recordId, e);
@@ -0,0 +1,55 @@
+package com.runners.app.notification.push;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 오프라인 부하 테스트용 가짜 PushSender
+ * 배치당 고정 지연을 흉내 내고, "invalid"로 시작하는 토큰은 INVALID_TOKEN으로 응답합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.notification.push.sender", havingValue = "fake")
+public class FakePushSender implements PushSender {
+
+    private static final String INVALID_TOKEN_PREFIX = "invalid";
+
+    private final long latencyMs;
+    private final AtomicLong sentBatches = new AtomicLong();
+    private final AtomicLong sentMessages = new AtomicLong();
+
+    public FakePushSender(@Value("${app.notification.push.fake.latency-ms:50}") long latencyMs) {
+        this.latencyMs = Math.max(0, latencyMs);
+        log.warn("Fake push sender is active. Push notifications are not delivered.");
+    }
+
+    @Override
+    public List<PushSendResult> sendEach(List<PushMessage> messages) throws Exception {
+        if (latencyMs > 0) {
+            Thread.sleep(latencyMs);
+        }
+
+        List<PushSendResult> results = new ArrayList<>(messages.size());
+        for (PushMessage message : messages) {
+            results.add(message.token() != null && message.token().startsWith(INVALID_TOKEN_PREFIX)
+                    ? PushSendResult.INVALID_TOKEN
+                    : PushSendResult.SUCCESS);
+        }
+        sentBatches.incrementAndGet();
+        sentMessages.addAndGet(messages.size());
+        return results;
+    }
+
+    public long getSentBatches() {
+        return sentBatches.get();
+    }
+
+    public long getSentMessages() {
+        return sentMessages.get();
+    }
+}
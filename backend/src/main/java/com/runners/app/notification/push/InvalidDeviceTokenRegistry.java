@@ -0,0 +1,120 @@
+package com.runners.app.notification.push;
+
+import com.runners.app.notification.entity.DeviceToken;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Component;
+
+/**
+ * FCM이 무효(UNREGISTERED/INVALID_ARGUMENT)로 응답한 토큰 관리 (Redis DB 2번)
+ *
+ * - deny-set: 토큰별 만료 시각을 score로 둔 ZSET, 만료 전까지 푸시 메시지 생성 단계에서 해당 토큰을 제외
+ * - prune-pending: DeviceTokenPruneWorker가 꺼내서 device_tokens에서 일괄 삭제
+ * DB에서 지워지면 더 이상 조회되지 않으므로 deny-set은 삭제 전까지의 공백만 메우면 됩니다.
+ */
+@Slf4j
+@Component
+public class InvalidDeviceTokenRegistry {
+
+    private static final String DENY_KEY = "notification:device-token:deny-until";
+    private static final String PRUNE_PENDING_KEY = "notification:device-token:prune-pending";
+
+    private final StringRedisTemplate notificationRedisTemplate;
+    private final Duration denyTtl;
+
+    public InvalidDeviceTokenRegistry(
+            @Qualifier("notificationStringRedisTemplate") StringRedisTemplate notificationRedisTemplate,
+            @Value("${app.notification.push.deny-ttl-seconds:3600}") long denyTtlSeconds
+    ) {
+        this.notificationRedisTemplate = notificationRedisTemplate;
+        this.denyTtl = Duration.ofSeconds(Math.max(1, denyTtlSeconds));
+    }
+
+    /**
+     * 무효 토큰을 deny-set과 삭제 대기열에 등록
+     */
+    public void markInvalid(Collection<String> tokens) {
+        if (tokens == null || tokens.isEmpty()) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        double expiresAt = now + denyTtl.toMillis();
+        Set<ZSetOperations.TypedTuple<String>> entries = new HashSet<>(tokens.size());
+        for (String token : tokens) {
+            entries.add(ZSetOperations.TypedTuple.of(token, expiresAt));
+        }
+
+        // 만료된 토큰은 추가할 때 함께 정리, 새로 들어오는 토큰이 없으면 키 TTL로 통째로 사라짐
+        notificationRedisTemplate.opsForZSet().removeRangeByScore(DENY_KEY, Double.NEGATIVE_INFINITY, now);
+        notificationRedisTemplate.opsForZSet().add(DENY_KEY, entries);
+        notificationRedisTemplate.expire(DENY_KEY, denyTtl);
+        notificationRedisTemplate.opsForSet().add(PRUNE_PENDING_KEY, tokens.toArray(String[]::new));
+    }
+
+    /**
+     * deny-set에서 아직 만료되지 않은 토큰을 제외 (ZMSCORE 1회)
+     * Redis 조회에 실패하면 필터링 없이 그대로 반환
+     */
+    public List<DeviceToken> filterDenied(List<DeviceToken> tokens) {
+        if (tokens == null || tokens.isEmpty()) {
+            return tokens;
+        }
+
+        try {
+            Object[] values = tokens.stream().map(DeviceToken::getToken).toArray();
+            List<Double> expiresAt = notificationRedisTemplate.opsForZSet().score(DENY_KEY, values);
+            if (expiresAt == null) {
+                return tokens;
+            }
+
+            long now = System.currentTimeMillis();
+            List<DeviceToken> allowed = new ArrayList<>(tokens.size());
+            for (int i = 0; i < tokens.size(); i++) {
+                Double score = expiresAt.get(i);
+                if (score == null || score <= now) {
+                    allowed.add(tokens.get(i));
+                }
+            }
+            return allowed.size() == tokens.size() ? tokens : allowed;
+        } catch (Exception e) {
+            log.warn("Failed to check device token deny-set", e);
+            return tokens;
+        }
+    }
+
+    /**
+     * 재등록된 토큰은 deny-set에서 해제
+     */
+    public void allow(String token) {
+        notificationRedisTemplate.opsForZSet().remove(DENY_KEY, token);
+        notificationRedisTemplate.opsForSet().remove(PRUNE_PENDING_KEY, token);
+    }
+
+    /**
+     * 삭제 대기 토큰을 최대 count개 꺼냄 (SPOP, 여러 인스턴스가 동시에 꺼내도 중복 없음)
+     */
+    public List<String> popPendingPrune(int count) {
+        List<String> tokens = notificationRedisTemplate.opsForSet().pop(PRUNE_PENDING_KEY, count);
+        return tokens == null ? List.of() : tokens;
+    }
+
+    /**
+     * 삭제에 실패한 토큰을 대기열에 되돌림
+     */
+    public void restorePendingPrune(Collection<String> tokens) {
+        if (tokens == null || tokens.isEmpty()) {
+            return;
+        }
+        notificationRedisTemplate.opsForSet().add(PRUNE_PENDING_KEY, tokens.toArray(String[]::new));
+    }
+}
@@ -0,0 +1,9 @@
+package com.runners.app.notification.push;
+
+import java.util.List;
+
+/**
+ * 알림 저장 트랜잭션이 커밋된 뒤 전송할 푸시 메시지 묶음
+ */
+public record PushDispatchRequestedEvent(List<PushMessage> messages) {
+}
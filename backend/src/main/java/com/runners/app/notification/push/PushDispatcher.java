@@ -0,0 +1,324 @@
+package com.runners.app.notification.push;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 프로세스 내 푸시 전송 큐
+ *
+ * 알림 저장 트랜잭션이 커밋된 뒤에만 메시지를 받아, 짧은 윈도우 동안 모아 최대 500건씩 sendEach로 전송합니다.
+ * DB 커넥션을 잡은 채 FCM 네트워크 호출을 하지 않도록 트랜잭션과 분리합니다.
+ *
+ * - 전송은 고정 크기 워커 풀에서 수행 (동시 전송 배치 수 제한)
+ * - 워커가 모두 바쁘면 디스패처 스레드가 직접 전송하여 큐 소비가 느려지고,
+ *   큐가 가득 차면 enqueue가 호출당 최대 enqueue-timeout-ms 대기 후 버림 (스트림 소비 스레드로 역압 전달)
+ * - 일시적 오류는 지수 백오프로 재시도
+ * - 무효 토큰은 InvalidDeviceTokenRegistry로 넘겨 이후 배치에서 제외하고 DB에서 정리
+ * - 큐 길이, 결과별 메시지 수, 배치 전송 시간/크기를 Micrometer로 노출
+ */
+@Slf4j
+@Component
+public class PushDispatcher {
+
+    private final PushSender pushSender;
+    private final InvalidDeviceTokenRegistry invalidDeviceTokenRegistry;
+    private final BlockingQueue<PushMessage> queue;
+    private final int batchSize;
+    private final long windowMs;
+    private final long enqueueTimeoutMs;
+    private final int concurrency;
+    private final int maxAttempts;
+    private final long retryBackoffMs;
+
+    private final AtomicLong enqueued = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong sent = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong invalidTokens = new AtomicLong();
+
+    private final MeterRegistry meterRegistry;
+    private final DistributionSummary batchSizeSummary;
+
+    private ThreadPoolExecutor workers;
+    private Thread dispatcherThread;
+    private volatile boolean running;
+
+    public PushDispatcher(
+            PushSender pushSender,
+            InvalidDeviceTokenRegistry invalidDeviceTokenRegistry,
+            MeterRegistry meterRegistry,
+            @Value("${app.notification.push.queue-capacity:10000}") int queueCapacity,
+            @Value("${app.notification.push.batch-size:500}") int batchSize,
+            @Value("${app.notification.push.window-ms:20}") long windowMs,
+            @Value("${app.notification.push.enqueue-timeout-ms:100}") long enqueueTimeoutMs,
+            @Value("${app.notification.push.concurrency:4}") int concurrency,
+            @Value("${app.notification.push.max-attempts:3}") int maxAttempts,
+            @Value("${app.notification.push.retry-backoff-ms:200}") long retryBackoffMs
+    ) {
+        this.pushSender = pushSender;
+        this.invalidDeviceTokenRegistry = invalidDeviceTokenRegistry;
+        this.queue = new LinkedBlockingQueue<>(Math.max(1, queueCapacity));
+        this.batchSize = Math.min(PushSender.MAX_BATCH_SIZE, Math.max(1, batchSize));
+        this.windowMs = Math.max(0, windowMs);
+        this.enqueueTimeoutMs = Math.max(0, enqueueTimeoutMs);
+        this.concurrency = Math.max(1, concurrency);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryBackoffMs = Math.max(0, retryBackoffMs);
+        this.meterRegistry = meterRegistry;
+
+        Gauge.builder("notification.push.queue.size", queue, BlockingQueue::size)
+                .register(meterRegistry);
+        registerMessageCounter("enqueued", enqueued);
+        registerMessageCounter("dropped", dropped);
+        registerMessageCounter("sent", sent);
+        registerMessageCounter("failed", failed);
+        registerMessageCounter("invalid_token", invalidTokens);
+        this.batchSizeSummary = DistributionSummary.builder("notification.push.batch.size")
+                .baseUnit("messages")
+                .register(meterRegistry);
+    }
+
+    private void registerMessageCounter(String result, AtomicLong counter) {
+        FunctionCounter.builder("notification.push.messages", counter, AtomicLong::get)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        AtomicInteger workerSeq = new AtomicInteger();
+        workers = new ThreadPoolExecutor(
+                concurrency,
+                concurrency,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(concurrency),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "push-sender-" + workerSeq.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+
+        running = true;
+        dispatcherThread = new Thread(this::dispatchLoop, "push-dispatcher");
+        dispatcherThread.setDaemon(true);
+        dispatcherThread.start();
+        log.info("Push dispatcher started: sender={}, batchSize={}, windowMs={}, concurrency={}",
+                pushSender.getClass().getSimpleName(), batchSize, windowMs, concurrency);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (dispatcherThread != null) {
+            dispatcherThread.interrupt();
+        }
+        if (workers != null) {
+            workers.shutdown();
+            try {
+                if (!workers.awaitTermination(5, TimeUnit.SECONDS)) {
+                    workers.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                workers.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (!queue.isEmpty()) {
+            log.warn("Push dispatcher stopped with {} undelivered messages", queue.size());
+        }
+    }
+
+    /**
+     * 커밋 이후에만 큐에 적재 (트랜잭션이 없으면 즉시 적재)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handlePushDispatchRequested(PushDispatchRequestedEvent event) {
+        enqueue(event.messages());
+    }
+
+    /**
+     * 큐가 가득 차면 호출 1회당 최대 enqueue-timeout-ms까지만 대기
+     * 대기 시간을 다 쓰면 나머지는 대기 없이 넣어 보고 안 들어가면 버림
+     */
+    public void enqueue(List<PushMessage> messages) {
+        if (messages == null || messages.isEmpty()) {
+            return;
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(enqueueTimeoutMs);
+        int droppedCount = 0;
+        for (int i = 0; i < messages.size(); i++) {
+            try {
+                long remainingNanos = Math.max(0, deadline - System.nanoTime());
+                if (queue.offer(messages.get(i), remainingNanos, TimeUnit.NANOSECONDS)) {
+                    enqueued.incrementAndGet();
+                } else {
+                    droppedCount++;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                droppedCount += messages.size() - i;
+                break;
+            }
+        }
+
+        if (droppedCount > 0) {
+            dropped.addAndGet(droppedCount);
+            log.warn("Push queue full, dropped {} messages (queueSize={})", droppedCount, queue.size());
+        }
+    }
+
+    private void dispatchLoop() {
+        while (running) {
+            try {
+                List<PushMessage> batch = collectBatch();
+                if (!batch.isEmpty()) {
+                    workers.execute(() -> send(batch));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("Push dispatcher loop error", e);
+            }
+        }
+    }
+
+    /**
+     * 첫 메시지를 받은 뒤 windowMs 동안 또는 batchSize가 찰 때까지 모음
+     */
+    private List<PushMessage> collectBatch() throws InterruptedException {
+        PushMessage first = queue.poll(1, TimeUnit.SECONDS);
+        if (first == null) {
+            return List.of();
+        }
+
+        List<PushMessage> batch = new ArrayList<>(batchSize);
+        batch.add(first);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(windowMs);
+
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            if (batch.size() >= batchSize) {
+                break;
+            }
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                break;
+            }
+            PushMessage next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+        return batch;
+    }
+
+    private void send(List<PushMessage> batch) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        batchSizeSummary.record(batch.size());
+        List<PushMessage> pending = batch;
+        List<String> invalid = new ArrayList<>();
+
+        for (int attempt = 1; attempt <= maxAttempts && !pending.isEmpty(); attempt++) {
+            if (attempt > 1 && !sleepBackoff(attempt)) {
+                break;
+            }
+
+            List<PushSendResult> results;
+            try {
+                results = pushSender.sendEach(pending);
+            } catch (Exception e) {
+                log.warn("Push batch send failed: size={}, attempt={}/{}", pending.size(), attempt, maxAttempts, e);
+                continue;
+            }
+
+            List<PushMessage> retry = new ArrayList<>();
+            for (int i = 0; i < pending.size(); i++) {
+                PushSendResult result = i < results.size() ? results.get(i) : PushSendResult.FAILED;
+                switch (result) {
+                    case SUCCESS -> sent.incrementAndGet();
+                    case INVALID_TOKEN -> invalid.add(pending.get(i).token());
+                    case RETRYABLE -> retry.add(pending.get(i));
+                    case FAILED -> failed.incrementAndGet();
+                }
+            }
+            pending = retry;
+        }
+
+        if (!pending.isEmpty()) {
+            failed.addAndGet(pending.size());
+            log.error("Push messages failed after {} attempts: count={}", maxAttempts, pending.size());
+        }
+        sample.stop(Timer.builder("notification.push.batch")
+                .tag("outcome", pending.isEmpty() ? "completed" : "exhausted")
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+
+        if (!invalid.isEmpty()) {
+            invalidTokens.addAndGet(invalid.size());
+            try {
+                invalidDeviceTokenRegistry.markInvalid(invalid);
+            } catch (Exception e) {
+                log.warn("Failed to register invalid device tokens: count={}", invalid.size(), e);
+            }
+        }
+    }
+
+    private boolean sleepBackoff(int attempt) {
+        try {
+            Thread.sleep(retryBackoffMs * (1L << (attempt - 2)));
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    public long getEnqueuedCount() {
+        return enqueued.get();
+    }
+
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    public long getSentCount() {
+        return sent.get();
+    }
+
+    public long getFailedCount() {
+        return failed.get();
+    }
+
+    public long getInvalidTokenCount() {
+        return invalidTokens.get();
+    }
+}
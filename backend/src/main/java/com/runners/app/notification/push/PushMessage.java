@@ -0,0 +1,59 @@
+package com.runners.app.notification.push;
+
+import com.runners.app.notification.entity.Notification;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 디바이스 토큰 1개로 보낼 푸시 메시지
+ * 트랜잭션 안에서 엔티티로부터 만들어 두고, 커밋 이후 디스패처가 전송합니다.
+ */
+public record PushMessage(
+        String token,
+        String title,
+        String body,
+        Map<String, String> data
+) {
+
+    public static PushMessage of(String token, Notification notification) {
+        Map<String, String> data = new LinkedHashMap<>();
+        data.put("notificationId", notification.getId().toString());
+        data.put("type", notification.getType().name());
+
+        if (notification.getRelatedPost() != null) {
+            data.put("postId", notification.getRelatedPost().getId().toString());
+        }
+        if (notification.getRelatedComment() != null) {
+            data.put("commentId", notification.getRelatedComment().getId().toString());
+        }
+        if (notification.getActor() != null) {
+            data.put("actorId", notification.getActor().getId().toString());
+        }
+
+        return new PushMessage(token, title(notification), body(notification), Map.copyOf(data));
+    }
+
+    private static String title(Notification notification) {
+        return switch (notification.getType()) {
+            case COMMENT_ON_MY_POST -> "새 댓글이 달렸습니다";
+            case COMMENT_ON_MY_COMMENTED_POST -> "새 댓글이 달렸습니다";
+            case REPLY_TO_MY_COMMENT -> "대댓글이 달렸습니다";
+            case RECOMMEND_ON_MY_POST -> "게시글 추천 알림";
+            case RECOMMEND_ON_MY_COMMENT -> "댓글 추천 알림";
+        };
+    }
+
+    private static String body(Notification notification) {
+        String actorName = notification.getActor() != null
+                ? notification.getActor().getDisplayName()
+                : "누군가";
+
+        return switch (notification.getType()) {
+            case COMMENT_ON_MY_POST -> actorName + "님이 댓글을 남겼습니다";
+            case COMMENT_ON_MY_COMMENTED_POST -> actorName + "님이 댓글을 남겼습니다";
+            case REPLY_TO_MY_COMMENT -> actorName + "님이 대댓글을 남겼습니다";
+            case RECOMMEND_ON_MY_POST -> actorName + "님이 게시글을 추천했습니다";
+            case RECOMMEND_ON_MY_COMMENT -> actorName + "님이 댓글을 추천했습니다";
+        };
+    }
+}
@@ -0,0 +1,13 @@
+package com.runners.app.notification.push;
+
+/**
+ * 메시지 단위 전송 결과
+ */
+public enum PushSendResult {
+    SUCCESS,
+    // 만료/삭제된 토큰 (재시도 무의미)
+    INVALID_TOKEN,
+    // 일시적 오류 (재시도 대상)
+    RETRYABLE,
+    FAILED
+}
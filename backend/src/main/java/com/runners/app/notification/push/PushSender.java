@@ -0,0 +1,19 @@
+package com.runners.app.notification.push;
+
+import java.util.List;
+
+/**
+ * 푸시 전송 구현체 (FCM / 로컬 fake)
+ * app.notification.push.sender 값으로 선택합니다. (fcm 기본, fake)
+ */
+public interface PushSender {
+
+    // FCM sendEach 한 번에 보낼 수 있는 최대 메시지 수
+    int MAX_BATCH_SIZE = 500;
+
+    /**
+     * 메시지 목록을 한 번에 전송하고, 입력 순서와 같은 순서로 결과를 반환합니다.
+     * 배치 전체가 실패하면 예외를 던집니다. (디스패처가 배치 단위로 재시도)
+     */
+    List<PushSendResult> sendEach(List<PushMessage> messages) throws Exception;
+}
@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -34,4 +35,11 @@ public interface DeviceTokenRepository extends JpaRepository<DeviceToken, Long>
               and dt.token = :token
             """)
     void deleteByUserIdAndToken(@Param("userId") Long userId, @Param("token") String token);
+
+    @Modifying
+    @Query("""
+            delete from DeviceToken dt
+            where dt.token in :tokens
+            """)
+    int deleteByTokenIn(@Param("tokens") Collection<String> tokens);
 }
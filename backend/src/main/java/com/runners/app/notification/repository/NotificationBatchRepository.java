@@ -0,0 +1,18 @@
+package com.runners.app.notification.repository;
+
+import com.runners.app.notification.entity.Notification;
+import java.util.List;
+
+/**
+ * 알림 일괄 적재용 커스텀 리포지토리 (multi-row INSERT IGNORE)
+ */
+public interface NotificationBatchRepository {
+
+    /**
+     * dedupe_key 중복은 무시하고 multi-row INSERT IGNORE 1문장(500건 단위)으로 insert
+     * 저장하지 않은(transient) Notification을 받아 컬럼 값만 사용합니다.
+     *
+     * @return 입력 순서대로 실제 insert 여부 (이미 있던 dedupe_key면 false, 되읽기로 판단)
+     */
+    List<Boolean> insertIgnoreAll(List<Notification> notifications);
+}
@@ -0,0 +1,50 @@
+package com.runners.app.notification.repository;
+
+import com.runners.app.global.util.InsertIgnoreBatch;
+import com.runners.app.notification.entity.Notification;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.List;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+public class NotificationBatchRepositoryImpl implements NotificationBatchRepository {
+
+    private static final InsertIgnoreBatch<Notification> INSERT_IGNORE = new InsertIgnoreBatch<>(
+            "notifications",
+            List.of("recipient_id", "type", "related_post_id", "related_comment_id", "actor_id", "dedupe_key", "is_read"),
+            "dedupe_key",
+            null,
+            Notification::getDedupeKey,
+            NotificationBatchRepositoryImpl::bind
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public NotificationBatchRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<Boolean> insertIgnoreAll(List<Notification> notifications) {
+        return INSERT_IGNORE.insert(jdbcTemplate, notifications, null);
+    }
+
+    private static void bind(PreparedStatement ps, int index, Notification notification) throws SQLException {
+        ps.setLong(index, notification.getRecipient().getId());
+        ps.setString(index + 1, notification.getType().name());
+        setNullableLong(ps, index + 2, notification.getRelatedPost() == null ? null : notification.getRelatedPost().getId());
+        setNullableLong(ps, index + 3, notification.getRelatedComment() == null ? null : notification.getRelatedComment().getId());
+        setNullableLong(ps, index + 4, notification.getActor() == null ? null : notification.getActor().getId());
+        ps.setString(index + 5, notification.getDedupeKey());
+        ps.setBoolean(index + 6, false);
+    }
+
+    private static void setNullableLong(PreparedStatement ps, int index, Long value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.BIGINT);
+        } else {
+            ps.setLong(index, value);
+        }
+    }
+}
@@ -37,4 +37,9 @@ public interface NotificationOutboxRepository extends JpaRepository<Notification
             where o.id = :id
             """)
     void updateStatusToPublished(@Param("id") Long id);
+
+    /**
+     * 상태별 Outbox 건수 (발행 대기 backlog 메트릭용)
+     */
+    long countByStatus(OutboxStatus status);
 }
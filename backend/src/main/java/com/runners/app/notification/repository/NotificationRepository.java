@@ -3,6 +3,7 @@ package com.runners.app.notification.repository;
 import com.runners.app.notification.entity.Notification;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -10,14 +11,13 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
-public interface NotificationRepository extends JpaRepository<Notification, Long> {
+public interface NotificationRepository extends JpaRepository<Notification, Long>, NotificationBatchRepository {
 
     @Query("""
             select n from Notification n
             join fetch n.recipient r
             left join fetch n.relatedPost p
             left join fetch n.relatedComment c
-            left join fetch n.actor a
             where n.recipient.id = :recipientId
               and (
                 :cursorCreatedAt is null
@@ -40,6 +40,27 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
             """)
     long countUnreadByRecipientId(@Param("recipientId") Long recipientId);
 
+    @Query("""
+            select n.recipient.id as recipientId, count(n) as unreadCount
+            from Notification n
+            where n.recipient.id in :recipientIds
+              and n.isRead = false
+            group by n.recipient.id
+            """)
+    List<RecipientUnreadCount> countUnreadGroupByRecipientIds(@Param("recipientIds") List<Long> recipientIds);
+
+    @Modifying
+    @Query("""
+            update Notification n
+            set n.isRead = true, n.readAt = :readAt
+            where n.recipient.id = :recipientId
+              and n.isRead = false
+            """)
+    int markAllAsReadByRecipientId(
+            @Param("recipientId") Long recipientId,
+            @Param("readAt") LocalDateTime readAt
+    );
+
     @Query("""
             select n from Notification n
             where n.recipient.id = :recipientId
@@ -49,4 +70,16 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
             @Param("recipientId") Long recipientId,
             @Param("notificationId") Long notificationId
     );
+
+    @Query("""
+            select n from Notification n
+            where n.dedupeKey in :dedupeKeys
+            """)
+    List<Notification> findByDedupeKeyIn(@Param("dedupeKeys") List<String> dedupeKeys);
+
+    interface RecipientUnreadCount {
+        Long getRecipientId();
+
+        long getUnreadCount();
+    }
 }
@@ -0,0 +1,49 @@
+package com.runners.app.notification.service;
+
+import com.runners.app.notification.push.InvalidDeviceTokenRegistry;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * FCM이 무효로 응답한 토큰을 주기적으로 device_tokens에서 일괄 삭제하는 워커
+ * 기본 10초마다 실행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DeviceTokenPruneWorker {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final InvalidDeviceTokenRegistry invalidDeviceTokenRegistry;
+    private final DeviceTokenService deviceTokenService;
+
+    @Scheduled(fixedDelayString = "${app.notification.push.token-prune-interval-ms:10000}")
+    public void pruneInvalidTokens() {
+        List<String> tokens;
+        try {
+            tokens = invalidDeviceTokenRegistry.popPendingPrune(BATCH_SIZE);
+        } catch (Exception e) {
+            log.error("Failed to pop invalid device tokens", e);
+            return;
+        }
+        if (tokens.isEmpty()) {
+            return;
+        }
+
+        try {
+            int deleted = deviceTokenService.pruneTokens(tokens);
+            log.info("Pruned invalid device tokens: requested={}, deleted={}", tokens.size(), deleted);
+        } catch (Exception e) {
+            log.error("Failed to prune invalid device tokens, restoring: count={}", tokens.size(), e);
+            try {
+                invalidDeviceTokenRegistry.restorePendingPrune(tokens);
+            } catch (Exception restoreError) {
+                log.error("Failed to restore invalid device tokens: count={}", tokens.size(), restoreError);
+            }
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.runners.app.notification.service;
 
 import com.runners.app.notification.entity.DeviceToken;
+import com.runners.app.notification.push.InvalidDeviceTokenRegistry;
 import com.runners.app.notification.repository.DeviceTokenRepository;
 import com.runners.app.user.entity.User;
 import com.runners.app.user.repository.UserRepository;
@@ -20,6 +21,7 @@ public class DeviceTokenService {
 
     private final DeviceTokenRepository deviceTokenRepository;
     private final UserRepository userRepository;
+    private final InvalidDeviceTokenRegistry invalidDeviceTokenRegistry;
 
     /**
      * FCM 토큰 등록/업데이트
@@ -38,6 +40,13 @@ public class DeviceTokenService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("User not found: " + userId));
 
+        // 이전에 무효 처리된 토큰이 다시 등록되면 deny-set에서 해제 (변경 없는 재등록 포함)
+        try {
+            invalidDeviceTokenRegistry.allow(token);
+        } catch (Exception e) {
+            log.warn("Failed to release device token from deny-set", e);
+        }
+
         // 동일한 토큰이 이미 존재하는지 확인
         Optional<DeviceToken> existingToken = deviceTokenRepository.findByToken(token);
 
@@ -97,6 +106,20 @@ public class DeviceTokenService {
         log.debug("Removed device token for user: {}", userId);
     }
 
+    /**
+     * FCM이 무효로 응답한 토큰 일괄 삭제
+     *
+     * @param tokens 삭제할 FCM 토큰 목록
+     * @return 삭제된 행 수
+     */
+    @Transactional
+    public int pruneTokens(List<String> tokens) {
+        if (tokens.isEmpty()) {
+            return 0;
+        }
+        return deviceTokenRepository.deleteByTokenIn(tokens);
+    }
+
     /**
      * 사용자의 모든 FCM 토큰 조회
      * 
@@ -3,10 +3,12 @@ package com.runners.app.notification.service;
 import com.google.firebase.FirebaseApp;
 import com.google.firebase.FirebaseOptions;
 import com.google.firebase.messaging.*;
-import com.runners.app.notification.entity.DeviceToken;
-import com.runners.app.notification.entity.Notification;
+import com.runners.app.notification.push.PushMessage;
+import com.runners.app.notification.push.PushSendResult;
+import com.runners.app.notification.push.PushSender;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Service;
 
@@ -14,13 +16,17 @@ import jakarta.annotation.PostConstruct;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 
+/**
+ * FCM 전송 구현체 (app.notification.push.sender=fcm, 기본값)
+ * 호출은 PushDispatcher 워커 스레드에서만 이루어집니다.
+ */
 @Slf4j
 @Service
-public class FcmService {
+@ConditionalOnProperty(name = "app.notification.push.sender", havingValue = "fcm", matchIfMissing = true)
+public class FcmService implements PushSender {
 
     @Value("${firebase.service-account.path:classpath:firebase-service-account.json}")
     private Resource firebaseServiceAccountResource;
@@ -61,125 +67,37 @@ public class FcmService {
     }
 
     /**
-     * 단일 사용자에게 푸시 알림 발송
+     * 메시지 목록을 sendEach 한 번으로 전송 (최대 500건)
+     * 입력 순서대로 메시지별 결과를 반환합니다.
      */
-    public void sendNotification(List<DeviceToken> tokens, Notification notification) {
+    @Override
+    public List<PushSendResult> sendEach(List<PushMessage> messages) throws FirebaseMessagingException {
         if (!isFirebaseInitialized()) {
             log.debug("Firebase not initialized, skipping FCM notification");
-            return;
-        }
-
-        if (tokens == null || tokens.isEmpty()) {
-            log.debug("No device tokens found for user");
-            return;
+            return Collections.nCopies(messages.size(), PushSendResult.FAILED);
         }
 
-        String title = getNotificationTitle(notification);
-        String body = getNotificationBody(notification);
-
-        List<Message> messages = tokens.stream()
-                .map(token -> createMessage(token.getToken(), title, body, notification))
-                .collect(Collectors.toList());
-
-        try {
-            BatchResponse response = FirebaseMessaging.getInstance().sendEach(messages);
-            log.info("Sent {} messages, {} successful, {} failed", 
-                    messages.size(), response.getSuccessCount(), response.getFailureCount());
+        List<Message> fcmMessages = messages.stream()
+                .map(this::createMessage)
+                .toList();
 
-            // 실패한 토큰 처리
-            List<String> invalidTokens = new ArrayList<>();
-            for (int i = 0; i < response.getResponses().size(); i++) {
-                SendResponse sendResponse = response.getResponses().get(i);
-                if (!sendResponse.isSuccessful()) {
-                    String token = tokens.get(i).getToken();
-                    log.warn("Failed to send notification to token {}: {}", 
-                            token, sendResponse.getException().getMessage());
-                    
-                    if (isInvalidToken(sendResponse.getException())) {
-                        invalidTokens.add(token);
-                    }
-                }
-            }
+        BatchResponse response = FirebaseMessaging.getInstance().sendEach(fcmMessages);
+        log.info("Sent {} messages, {} successful, {} failed",
+                fcmMessages.size(), response.getSuccessCount(), response.getFailureCount());
 
-            // 무효한 토큰은 나중에 정리 (NotificationService에서 처리)
-            if (!invalidTokens.isEmpty()) {
-                log.info("Found {} invalid tokens to clean up", invalidTokens.size());
+        List<PushSendResult> results = new ArrayList<>(messages.size());
+        for (int i = 0; i < response.getResponses().size(); i++) {
+            SendResponse sendResponse = response.getResponses().get(i);
+            if (sendResponse.isSuccessful()) {
+                results.add(PushSendResult.SUCCESS);
+                continue;
             }
 
-        } catch (FirebaseMessagingException e) {
-            log.error("Failed to send FCM notifications", e);
-            throw new RuntimeException("FCM send failed", e);
-        }
-    }
-
-    /**
-     * 여러 사용자에게 일괄 푸시 알림 발송 (멀티캐스트)
-     */
-    public void sendMulticastNotification(
-            Map<Long, List<DeviceToken>> tokensByUser,
-            List<Notification> notifications
-    ) {
-        if (!isFirebaseInitialized()) {
-            log.debug("Firebase not initialized, skipping FCM multicast notification");
-            return;
-        }
-
-        if (tokensByUser == null || tokensByUser.isEmpty()) {
-            log.debug("No device tokens found for users");
-            return;
-        }
-
-        List<Message> messages = new ArrayList<>();
-        List<DeviceToken> tokenList = new ArrayList<>();
-
-        for (Notification notification : notifications) {
-            Long userId = notification.getRecipient().getId();
-            List<DeviceToken> tokens = tokensByUser.get(userId);
-            
-            if (tokens != null && !tokens.isEmpty()) {
-                String title = getNotificationTitle(notification);
-                String body = getNotificationBody(notification);
-
-                for (DeviceToken token : tokens) {
-                    messages.add(createMessage(token.getToken(), title, body, notification));
-                    tokenList.add(token);
-                }
-            }
-        }
-
-        if (messages.isEmpty()) {
-            log.debug("No messages to send");
-            return;
-        }
-
-        try {
-            BatchResponse response = FirebaseMessaging.getInstance().sendEach(messages);
-            log.info("Sent {} multicast messages, {} successful, {} failed", 
-                    messages.size(), response.getSuccessCount(), response.getFailureCount());
-
-            // 실패한 토큰 처리
-            List<String> invalidTokens = new ArrayList<>();
-            for (int i = 0; i < response.getResponses().size(); i++) {
-                SendResponse sendResponse = response.getResponses().get(i);
-                if (!sendResponse.isSuccessful()) {
-                    String token = tokenList.get(i).getToken();
-                    log.warn("Failed to send multicast notification to token {}: {}", 
-                            token, sendResponse.getException().getMessage());
-                    
-                    if (isInvalidToken(sendResponse.getException())) {
-                        invalidTokens.add(token);
-                    }
-                }
-            }
-
-            if (!invalidTokens.isEmpty()) {
-                log.info("Found {} invalid tokens to clean up from multicast", invalidTokens.size());
-            }
-
-        } catch (FirebaseMessagingException e) {
-            log.error("Failed to send multicast FCM notifications", e);
-            throw new RuntimeException("FCM multicast send failed", e);
+            log.warn("Failed to send notification to token {}: {}",
+                    messages.get(i).token(), sendResponse.getException().getMessage());
+            results.add(toResult(sendResponse.getException()));
         }
+        return results;
     }
 
     /**
@@ -213,62 +131,26 @@ public class FcmService {
         return !FirebaseApp.getApps().isEmpty();
     }
 
-    private Message createMessage(String token, String title, String body, Notification notification) {
-        Message.Builder builder = Message.builder()
-                .setToken(token)
+    private Message createMessage(PushMessage message) {
+        return Message.builder()
+                .setToken(message.token())
                 .setNotification(com.google.firebase.messaging.Notification.builder()
-                        .setTitle(title)
-                        .setBody(body)
+                        .setTitle(message.title())
+                        .setBody(message.body())
                         .build())
-                .putData("notificationId", notification.getId().toString())
-                .putData("type", notification.getType().name());
-
-        if (notification.getRelatedPost() != null) {
-            builder.putData("postId", notification.getRelatedPost().getId().toString());
-        }
-
-        if (notification.getRelatedComment() != null) {
-            builder.putData("commentId", notification.getRelatedComment().getId().toString());
-        }
-
-        if (notification.getActor() != null) {
-            builder.putData("actorId", notification.getActor().getId().toString());
-        }
-
-        return builder.build();
+                .putAllData(message.data())
+                .build();
     }
 
-    private String getNotificationTitle(Notification notification) {
-        return switch (notification.getType()) {
-            case COMMENT_ON_MY_POST -> "새 댓글이 달렸습니다";
-            case COMMENT_ON_MY_COMMENTED_POST -> "새 댓글이 달렸습니다";
-            case REPLY_TO_MY_COMMENT -> "대댓글이 달렸습니다";
-            case RECOMMEND_ON_MY_POST -> "게시글 추천 알림";
-            case RECOMMEND_ON_MY_COMMENT -> "댓글 추천 알림";
-        };
-    }
-
-    private String getNotificationBody(Notification notification) {
-        String actorName = notification.getActor() != null 
-                ? notification.getActor().getDisplayName() 
-                : "누군가";
-        
-        return switch (notification.getType()) {
-            case COMMENT_ON_MY_POST -> actorName + "님이 댓글을 남겼습니다";
-            case COMMENT_ON_MY_COMMENTED_POST -> actorName + "님이 댓글을 남겼습니다";
-            case REPLY_TO_MY_COMMENT -> actorName + "님이 대댓글을 남겼습니다";
-            case RECOMMEND_ON_MY_POST -> actorName + "님이 게시글을 추천했습니다";
-            case RECOMMEND_ON_MY_COMMENT -> actorName + "님이 댓글을 추천했습니다";
-        };
-    }
-
-    private boolean isInvalidToken(Exception exception) {
-        if (exception instanceof FirebaseMessagingException) {
-            FirebaseMessagingException fme = (FirebaseMessagingException) exception;
-            MessagingErrorCode errorCode = fme.getMessagingErrorCode();
-            return errorCode == MessagingErrorCode.INVALID_ARGUMENT
-                    || errorCode == MessagingErrorCode.UNREGISTERED;
+    private PushSendResult toResult(FirebaseMessagingException exception) {
+        MessagingErrorCode errorCode = exception.getMessagingErrorCode();
+        if (errorCode == null) {
+            return PushSendResult.FAILED;
         }
-        return false;
+        return switch (errorCode) {
+            case INVALID_ARGUMENT, UNREGISTERED -> PushSendResult.INVALID_TOKEN;
+            case UNAVAILABLE, INTERNAL, QUOTA_EXCEEDED -> PushSendResult.RETRYABLE;
+            default -> PushSendResult.FAILED;
+        };
     }
 }
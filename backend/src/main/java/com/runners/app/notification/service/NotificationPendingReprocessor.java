@@ -4,6 +4,8 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.runners.app.community.comment.event.CommentCreatedEvent;
 import com.runners.app.community.recommend.event.CommentRecommendedEvent;
 import com.runners.app.community.recommend.event.PostRecommendedEvent;
+import com.runners.app.notification.config.NotificationStreamConfig;
+import com.runners.app.notification.config.NotificationStreamPartitions;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.redis.connection.RedisConnection;
@@ -18,7 +20,6 @@ import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
-import java.net.InetAddress;
 import java.time.Duration;
 import java.util.List;
 
@@ -30,9 +31,6 @@ import java.util.List;
 @Component
 public class NotificationPendingReprocessor {
 
-    private static final String STREAM_KEY = "notification:events:comment-created";
-    private static final String CONSUMER_GROUP = "notification-workers";
-    private static final String CONSUMER_NAME = "worker-" + getHostname() + "-" + ProcessHandle.current().pid();
     private static final int BATCH_SIZE = 10;
     private static final Duration MIN_IDLE_TIME = Duration.ofMinutes(1);  // 1분 이상 idle인 것만 재처리
 
@@ -40,30 +38,44 @@ public class NotificationPendingReprocessor {
     private final RedisConnectionFactory notificationRedisConnectionFactory;  // DB 2번 사용
     private final NotificationService notificationService;
     private final ObjectMapper objectMapper;
+    private final NotificationStreamPartitions partitions;
 
     public NotificationPendingReprocessor(
             @Qualifier("notificationStringRedisTemplate") StringRedisTemplate notificationRedisTemplate,
             @Qualifier("notificationRedisConnectionFactory") RedisConnectionFactory notificationRedisConnectionFactory,
             NotificationService notificationService,
-            ObjectMapper objectMapper
+            ObjectMapper objectMapper,
+            NotificationStreamPartitions partitions
     ) {
         this.notificationRedisTemplate = notificationRedisTemplate;
         this.notificationRedisConnectionFactory = notificationRedisConnectionFactory;
         this.notificationService = notificationService;
         this.objectMapper = objectMapper;
+        this.partitions = partitions;
     }
 
     /**
-     * PENDING 리스트에서 idle time 기반으로 재처리
+     * PENDING 리스트에서 idle time 기반으로 재처리 (파티션 스트림별)
      */
     @Scheduled(fixedDelay = 30000)  // 30초마다 실행
     public void processPendingMessages() {
         try (RedisConnection connection = notificationRedisConnectionFactory.getConnection()) {
+            for (int partition = 0; partition < partitions.partitionCount(); partition++) {
+                processPendingMessages(connection, partition);
+            }
+        } catch (Exception e) {
+            log.error("Error processing pending messages", e);
+        }
+    }
+
+    private void processPendingMessages(RedisConnection connection, int partition) {
+        String streamKey = partitions.streamKey(partition);
+        try {
             // PENDING 리스트 조회 (DB 2번 사용)
             RedisStreamCommands streamCommands = connection.streamCommands();
             PendingMessages pendingMessages = streamCommands.xPending(
-                    STREAM_KEY.getBytes(),
-                    CONSUMER_GROUP,
+                    streamKey.getBytes(),
+                    NotificationStreamPartitions.CONSUMER_GROUP,
                     RedisStreamCommands.XPendingOptions.unbounded((long) BATCH_SIZE)
             );
 
@@ -80,16 +92,16 @@ public class NotificationPendingReprocessor {
 
                 if (idleTime >= minIdleTimeMillis) {
                     // idle time이 충분히 긴 메시지만 재처리
-                    claimAndProcess(pending, connection);
+                    claimAndProcess(pending, connection, streamKey, partition);
                 }
             }
 
         } catch (Exception e) {
-            log.error("Error processing pending messages", e);
+            log.error("Error processing pending messages: stream={}", streamKey, e);
         }
     }
 
-    private void claimAndProcess(PendingMessage pending, RedisConnection connection) {
+    private void claimAndProcess(PendingMessage pending, RedisConnection connection, String streamKey, int partition) {
         try {
             String recordId = pending.getIdAsString();
             RecordId recordIdObj = RecordId.of(recordId);
@@ -97,9 +109,9 @@ public class NotificationPendingReprocessor {
             // 메시지 재처리 권한 획득 (DB 2번 사용)
             RedisStreamCommands streamCommands = connection.streamCommands();
             List<ByteRecord> claimed = streamCommands.xClaim(
-                    STREAM_KEY.getBytes(),
-                    CONSUMER_GROUP,
-                    CONSUMER_NAME,
+                    streamKey.getBytes(),
+                    NotificationStreamPartitions.CONSUMER_GROUP,
+                    NotificationStreamConfig.consumerName(partition),
                     MIN_IDLE_TIME,
                     recordIdObj
             );
@@ -116,7 +128,7 @@ public class NotificationPendingReprocessor {
                     processEvent(eventType, payload);
 
                     // 처리 완료 확인 (ACK, DB 2번 사용)
-                    streamCommands.xAck(STREAM_KEY.getBytes(), CONSUMER_GROUP, recordIdObj);
+                    streamCommands.xAck(streamKey.getBytes(), NotificationStreamPartitions.CONSUMER_GROUP, recordIdObj);
                     log.info("Successfully reprocessed pending message: {}", recordId);
                 }
             }
@@ -151,12 +163,4 @@ public class NotificationPendingReprocessor {
             default -> log.warn("Unknown pending stream event type: {}", eventType);
         }
     }
-
-    private static String getHostname() {
-        try {
-            return InetAddress.getLocalHost().getHostName();
-        } catch (Exception e) {
-            return "unknown";
-        }
-    }
 }
@@ -0,0 +1,120 @@
+package com.runners.app.notification.service;
+
+import com.runners.app.notification.config.NotificationStreamPartitions;
+import com.runners.app.notification.entity.OutboxStatus;
+import com.runners.app.notification.repository.NotificationOutboxRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamInfo;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 알림 파이프라인 게이지 (파티션별 스트림 길이/PENDING 수/소비 지연, Outbox 발행 대기 수)
+ * 스크랩 시점에 Redis/DB를 조회하지 않도록 주기적으로 값을 갱신해 둡니다.
+ */
+@Slf4j
+@Component
+public class NotificationPipelineMetrics {
+
+    private final StringRedisTemplate notificationRedisTemplate;  // DB 2번 사용
+    private final NotificationOutboxRepository outboxRepository;
+    private final NotificationStreamPartitions partitions;
+
+    private final List<PartitionGauges> partitionGauges = new ArrayList<>();
+    private final AtomicLong outboxBacklog = new AtomicLong();
+
+    public NotificationPipelineMetrics(
+            @Qualifier("notificationStringRedisTemplate") StringRedisTemplate notificationRedisTemplate,
+            NotificationOutboxRepository outboxRepository,
+            NotificationStreamPartitions partitions,
+            MeterRegistry meterRegistry
+    ) {
+        this.notificationRedisTemplate = notificationRedisTemplate;
+        this.outboxRepository = outboxRepository;
+        this.partitions = partitions;
+
+        for (int partition = 0; partition < partitions.partitionCount(); partition++) {
+            PartitionGauges gauges = new PartitionGauges(partitions.streamKey(partition));
+            String tag = String.valueOf(partition);
+            Gauge.builder("notification.stream.length", gauges.length, AtomicLong::get)
+                    .tag("partition", tag)
+                    .register(meterRegistry);
+            Gauge.builder("notification.stream.pending", gauges.pending, AtomicLong::get)
+                    .tag("partition", tag)
+                    .register(meterRegistry);
+            Gauge.builder("notification.stream.lag", gauges.lagMillis, AtomicLong::get)
+                    .tag("partition", tag)
+                    .baseUnit("milliseconds")
+                    .description("마지막 발행 ID와 Consumer Group이 마지막으로 전달한 ID의 시간 차")
+                    .register(meterRegistry);
+            partitionGauges.add(gauges);
+        }
+        Gauge.builder("notification.outbox.backlog", outboxBacklog, AtomicLong::get)
+                .description("Redis Stream 발행 대기 중인 Outbox 수")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.notification.metrics.refresh-interval-ms:15000}")
+    public void refresh() {
+        for (PartitionGauges gauges : partitionGauges) {
+            try {
+                refreshStream(gauges);
+            } catch (Exception e) {
+                log.debug("Failed to refresh notification stream metrics: stream={}", gauges.streamKey, e);
+            }
+        }
+
+        try {
+            outboxBacklog.set(outboxRepository.countByStatus(OutboxStatus.PENDING));
+        } catch (Exception e) {
+            log.debug("Failed to refresh notification outbox backlog", e);
+        }
+    }
+
+    private void refreshStream(PartitionGauges gauges) {
+        if (!Boolean.TRUE.equals(notificationRedisTemplate.hasKey(gauges.streamKey))) {
+            gauges.length.set(0);
+            gauges.pending.set(0);
+            gauges.lagMillis.set(0);
+            return;
+        }
+
+        StreamInfo.XInfoStream info = notificationRedisTemplate.opsForStream().info(gauges.streamKey);
+        gauges.length.set(info.streamLength());
+
+        for (StreamInfo.XInfoGroup group : notificationRedisTemplate.opsForStream().groups(gauges.streamKey)) {
+            if (!NotificationStreamPartitions.CONSUMER_GROUP.equals(group.groupName())) {
+                continue;
+            }
+            gauges.pending.set(group.pendingCount());
+            gauges.lagMillis.set(Math.max(0, timestampOf(info.lastGeneratedId()) - timestampOf(group.lastDeliveredId())));
+        }
+    }
+
+    private long timestampOf(String recordId) {
+        if (recordId == null) {
+            return 0;
+        }
+        RecordId id = RecordId.of(recordId);
+        return id.shouldBeAutoGenerated() ? 0 : id.getTimestamp();
+    }
+
+    private static final class PartitionGauges {
+        private final String streamKey;
+        private final AtomicLong length = new AtomicLong();
+        private final AtomicLong pending = new AtomicLong();
+        private final AtomicLong lagMillis = new AtomicLong();
+
+        private PartitionGauges(String streamKey) {
+            this.streamKey = streamKey;
+        }
+    }
+}
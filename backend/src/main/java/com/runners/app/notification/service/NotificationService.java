@@ -8,21 +8,29 @@ import com.runners.app.community.post.repository.CommunityPostRepository;
 import com.runners.app.community.recommend.event.CommentRecommendedEvent;
 import com.runners.app.community.recommend.event.PostRecommendedEvent;
 import com.runners.app.global.status.CommunityContentStatus;
-import com.runners.app.global.util.CursorUtils;
+import com.runners.app.global.util.CursorCodec;
+import com.runners.app.notification.dto.response.MarkAllNotificationsReadResponse;
 import com.runners.app.notification.dto.response.NotificationCursorListResponse;
 import com.runners.app.notification.dto.response.NotificationResponse;
 import com.runners.app.notification.dto.response.UnreadNotificationCountResponse;
 import com.runners.app.notification.entity.DeviceToken;
 import com.runners.app.notification.entity.Notification;
 import com.runners.app.notification.entity.NotificationType;
+import com.runners.app.notification.event.AllNotificationsReadEvent;
+import com.runners.app.notification.event.UnreadNotificationCountChangedEvent;
 import com.runners.app.notification.exception.NotificationDomainException;
+import com.runners.app.notification.push.InvalidDeviceTokenRegistry;
+import com.runners.app.notification.push.PushDispatchRequestedEvent;
+import com.runners.app.notification.push.PushMessage;
 import com.runners.app.notification.repository.DeviceTokenRepository;
 import com.runners.app.notification.repository.NotificationRepository;
+import com.runners.app.user.cache.AuthorCard;
+import com.runners.app.user.cache.AuthorCardCache;
 import com.runners.app.user.entity.User;
 import com.runners.app.user.repository.UserRepository;
-import com.runners.app.user.service.UserProfileImageResolver;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
@@ -31,6 +39,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -48,8 +57,11 @@ public class NotificationService {
     private final CommunityCommentRepository communityCommentRepository;
     private final CommunityPostRepository communityPostRepository;
     private final UserRepository userRepository;
-    private final FcmService fcmService;
-    private final UserProfileImageResolver userProfileImageResolver;
+    private final ApplicationEventPublisher eventPublisher;
+    private final InvalidDeviceTokenRegistry invalidDeviceTokenRegistry;
+    private final UnreadNotificationCounter unreadNotificationCounter;
+    private final AuthorCardCache authorCardCache;
+    private final CursorCodec cursorCodec;
 
     /**
      * Redis Stream에서 받은 이벤트 처리
@@ -159,6 +171,7 @@ public class NotificationService {
                     .build();
 
             notificationRepository.save(notification);
+            eventPublisher.publishEvent(UnreadNotificationCountChangedEvent.increased(parentCommentAuthorId));
 
             // 저장 성공 시에만 FCM 푸시 알림 발송
             sendPushNotification(parentCommentAuthorId, notification);
@@ -196,6 +209,7 @@ public class NotificationService {
                     .build();
 
             notificationRepository.save(notification);
+            eventPublisher.publishEvent(UnreadNotificationCountChangedEvent.increased(postAuthorId));
 
             // 저장 성공 시에만 FCM 푸시 알림 발송
             sendPushNotification(postAuthorId, notification);
@@ -231,10 +245,8 @@ public class NotificationService {
             return;
         }
 
-        // 개별 저장 시도하면서 성공한 알림만 수집 (중복 방지 및 푸시 발송 보장)
-        List<Notification> savedNotifications = new ArrayList<>();
-        List<Long> savedUserIds = new ArrayList<>();
-
+        // dedupe_key 기준 multi-row INSERT IGNORE로 적재 (중복은 무시, idempotent)
+        List<Notification> candidates = new ArrayList<>(recipientIds.size());
         for (Long userId : recipientIds) {
             String dedupeKey = generateDedupeKey(
                     NotificationType.COMMENT_ON_MY_COMMENTED_POST,
@@ -242,62 +254,85 @@ public class NotificationService {
                     comment.getId()
             );
 
-            try {
-                Notification notification = Notification.builder()
-                        .recipient(userRepository.getReferenceById(userId))
-                        .type(NotificationType.COMMENT_ON_MY_COMMENTED_POST)
-                        .relatedPost(post)
-                        .relatedComment(comment)
-                        .actor(commentAuthor)
-                        .dedupeKey(dedupeKey)
-                        .isRead(false)
-                        .build();
-
-                // 개별 저장 시도
-                notificationRepository.save(notification);
-
-                // 성공한 경우만 리스트에 추가
-                savedNotifications.add(notification);
-                savedUserIds.add(userId);
-
-            } catch (DataIntegrityViolationException e) {
-                // 중복 알림 무시 (idempotent)
-                log.debug("Duplicate notification ignored: {}", dedupeKey);
-            } catch (Exception e) {
-                log.error("Failed to save notification for user: {}", userId, e);
+            candidates.add(Notification.builder()
+                    .recipient(userRepository.getReferenceById(userId))
+                    .type(NotificationType.COMMENT_ON_MY_COMMENTED_POST)
+                    .relatedPost(post)
+                    .relatedComment(comment)
+                    .actor(commentAuthor)
+                    .dedupeKey(dedupeKey)
+                    .isRead(false)
+                    .build());
+        }
+
+        List<Boolean> inserted = notificationRepository.insertIgnoreAll(candidates);
+        List<String> insertedDedupeKeys = new ArrayList<>(candidates.size());
+        Map<Long, Long> unreadDeltas = new HashMap<>();
+        for (int i = 0; i < candidates.size(); i++) {
+            if (Boolean.TRUE.equals(inserted.get(i))) {
+                insertedDedupeKeys.add(candidates.get(i).getDedupeKey());
+                unreadDeltas.merge(recipientIds.get(i), 1L, Long::sum);
             }
         }
+        log.debug("Batch inserted comment notifications: candidates={}, inserted={}",
+                candidates.size(), insertedDedupeKeys.size());
+
+        if (insertedDedupeKeys.isEmpty()) {
+            return;
+        }
+        eventPublisher.publishEvent(new UnreadNotificationCountChangedEvent(unreadDeltas));
+
+        // 새로 적재된 알림만 한 번에 다시 읽어 푸시 발송 (FCM data에 notificationId 필요)
+        List<Notification> savedNotifications = notificationRepository.findByDedupeKeyIn(insertedDedupeKeys);
+        List<Long> savedUserIds = savedNotifications.stream()
+                .map(notification -> notification.getRecipient().getId())
+                .toList();
 
-        // 성공한 알림에 대해서만 푸시 발송
         if (!savedNotifications.isEmpty()) {
             sendMulticastPushNotification(savedUserIds, savedNotifications);
         }
     }
 
+    /**
+     * 푸시 메시지만 만들어 두고, 실제 FCM 전송은 커밋 이후 PushDispatcher가 수행
+     */
     private void sendPushNotification(Long userId, Notification notification) {
-        try {
-            List<DeviceToken> tokens = deviceTokenRepository.findByUserId(userId);
-            if (!tokens.isEmpty()) {
-                fcmService.sendNotification(tokens, notification);
-            }
-        } catch (Exception e) {
-            // FCM 발송 실패는 로깅만 하고 알림 DB 저장은 유지
-            log.error("Failed to send FCM notification to user: {}", userId, e);
+        List<DeviceToken> tokens = invalidDeviceTokenRegistry.filterDenied(
+                deviceTokenRepository.findByUserId(userId)
+        );
+        if (tokens.isEmpty()) {
+            return;
         }
+
+        List<PushMessage> messages = tokens.stream()
+                .map(token -> PushMessage.of(token.getToken(), notification))
+                .toList();
+        eventPublisher.publishEvent(new PushDispatchRequestedEvent(messages));
     }
 
     private void sendMulticastPushNotification(
             List<Long> userIds,
             List<Notification> notifications
     ) {
-        try {
-            List<DeviceToken> allTokens = deviceTokenRepository.findByUserIds(userIds);
-            Map<Long, List<DeviceToken>> tokensByUser = allTokens.stream()
-                    .collect(Collectors.groupingBy(token -> token.getUser().getId()));
+        List<DeviceToken> allTokens = invalidDeviceTokenRegistry.filterDenied(
+                deviceTokenRepository.findByUserIds(userIds)
+        );
+        Map<Long, List<DeviceToken>> tokensByUser = allTokens.stream()
+                .collect(Collectors.groupingBy(token -> token.getUser().getId()));
+
+        List<PushMessage> messages = new ArrayList<>();
+        for (Notification notification : notifications) {
+            List<DeviceToken> tokens = tokensByUser.get(notification.getRecipient().getId());
+            if (tokens == null) {
+                continue;
+            }
+            for (DeviceToken token : tokens) {
+                messages.add(PushMessage.of(token.getToken(), notification));
+            }
+        }
 
-            fcmService.sendMulticastNotification(tokensByUser, notifications);
-        } catch (Exception e) {
-            log.error("Failed to send multicast FCM notifications", e);
+        if (!messages.isEmpty()) {
+            eventPublisher.publishEvent(new PushDispatchRequestedEvent(messages));
         }
     }
 
@@ -356,6 +391,7 @@ public class NotificationService {
                     .build();
 
             notificationRepository.save(notification);
+            eventPublisher.publishEvent(UnreadNotificationCountChangedEvent.increased(commentAuthorId));
             sendPushNotification(commentAuthorId, notification);
 
         } catch (DataIntegrityViolationException e) {
@@ -394,6 +430,7 @@ public class NotificationService {
                     .build();
 
             notificationRepository.save(notification);
+            eventPublisher.publishEvent(UnreadNotificationCountChangedEvent.increased(postAuthorId));
             sendPushNotification(postAuthorId, notification);
 
         } catch (DataIntegrityViolationException e) {
@@ -415,20 +452,21 @@ public class NotificationService {
             throw NotificationDomainException.noPermission();
         }
 
-        notification.markAsRead();
+        if (!notification.isRead()) {
+            notification.markAsRead();
+            eventPublisher.publishEvent(UnreadNotificationCountChangedEvent.decreased(userId));
+        }
     }
 
     /**
      * 모든 알림 읽음 처리
+     * (recipient_id, is_read) 인덱스를 타는 UPDATE 1회로 처리하고 변경된 행 수를 반환
      */
     @Transactional
-    public void markAllAsRead(Long userId) {
-        List<Notification> unreadNotifications = notificationRepository.findByRecipientIdForCursor(
-                userId, null, null, PageRequest.of(0, Integer.MAX_VALUE)
-        );
-        unreadNotifications.stream()
-                .filter(n -> !n.isRead())
-                .forEach(Notification::markAsRead);
+    public MarkAllNotificationsReadResponse markAllAsRead(Long userId) {
+        int updatedCount = notificationRepository.markAllAsReadByRecipientId(userId, LocalDateTime.now());
+        eventPublisher.publishEvent(new AllNotificationsReadEvent(userId));
+        return new MarkAllNotificationsReadResponse(updatedCount);
     }
 
     /**
@@ -436,9 +474,9 @@ public class NotificationService {
      */
     @Transactional(readOnly = true)
     public NotificationCursorListResponse listNotifications(Long userId, String cursor, int size) {
-        CursorUtils.Cursor decodedCursor;
+        CursorCodec.Cursor decodedCursor;
         try {
-            decodedCursor = CursorUtils.decodeCursor(cursor);
+            decodedCursor = cursorCodec.decodeCursor(cursor);
         } catch (IllegalArgumentException e) {
             throw NotificationDomainException.notificationNotFound();
         }
@@ -455,30 +493,35 @@ public class NotificationService {
                 ? notifications.subList(0, size) 
                 : notifications;
 
+        Map<Long, AuthorCard> actorCards = authorCardCache.getAll(
+                pageItems.stream()
+                        .map(notification -> notification.getActor() != null ? notification.getActor().getId() : null)
+                        .collect(Collectors.toList())
+        );
         List<NotificationResponse> responses = pageItems.stream()
-                .map(this::toNotificationResponse)
+                .map(notification -> toNotificationResponse(notification, actorCards))
                 .collect(Collectors.toList());
 
         String nextCursor = null;
         if (hasNext && !pageItems.isEmpty()) {
             Notification last = pageItems.get(pageItems.size() - 1);
-            nextCursor = CursorUtils.encodeCursor(last.getCreatedAt(), last.getId());
+            nextCursor = cursorCodec.encodeCursor(last.getCreatedAt(), last.getId());
         }
 
         return new NotificationCursorListResponse(responses, hasNext, nextCursor);
     }
 
     /**
-     * 안읽음 알림 개수 조회
+     * 안읽음 알림 개수 조회 (Redis 카운터, 없으면 DB COUNT로 적재)
      */
-    @Transactional(readOnly = true)
     public UnreadNotificationCountResponse getUnreadCount(Long userId) {
-        long count = notificationRepository.countUnreadByRecipientId(userId);
+        long count = unreadNotificationCounter.get(userId);
         return new UnreadNotificationCountResponse(count);
     }
 
-    private NotificationResponse toNotificationResponse(Notification notification) {
+    private NotificationResponse toNotificationResponse(Notification notification, Map<Long, AuthorCard> actorCards) {
         User actor = notification.getActor();
+        AuthorCard actorCard = actor != null ? actorCards.get(actor.getId()) : null;
         return new NotificationResponse(
                 notification.getId(),
                 notification.getType(),
@@ -487,8 +530,8 @@ public class NotificationService {
                 buildPostTitlePreview(notification),
                 buildCommentPreview(notification),
                 actor != null ? actor.getId() : null,
-                actor != null ? actor.getDisplayName() : null,
-                actor != null ? userProfileImageResolver.resolve(actor) : null,
+                actorCard != null ? actorCard.displayName() : null,
+                actorCard != null ? actorCard.profileImageUrl() : null,
                 notification.isRead(),
                 notification.getCreatedAt(),
                 notification.getReadAt()
@@ -520,7 +563,8 @@ public class NotificationService {
         );
     }
 
-    private String normalizeAndTrimPreview(String raw, int maxLength) {
+    // 벤치마크(src/jmh)에서 직접 호출하기 위해 package-private
+    static String normalizeAndTrimPreview(String raw, int maxLength) {
         if (raw == null) {
             return null;
         }
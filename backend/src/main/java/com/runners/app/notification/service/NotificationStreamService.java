@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.runners.app.community.comment.event.CommentCreatedEvent;
 import com.runners.app.community.recommend.event.CommentRecommendedEvent;
 import com.runners.app.community.recommend.event.PostRecommendedEvent;
+import com.runners.app.notification.config.NotificationStreamPartitions;
 import com.runners.app.notification.entity.NotificationOutbox;
 import com.runners.app.notification.entity.OutboxStatus;
 import com.runners.app.notification.repository.NotificationOutboxRepository;
@@ -27,21 +28,21 @@ import java.util.Map;
 @Service
 public class NotificationStreamService {
 
-    private static final String STREAM_KEY = "notification:events:comment-created";
-    private static final String CONSUMER_GROUP = "notification-workers";
-
     private final StringRedisTemplate notificationRedisTemplate;  // DB 2번 사용
     private final NotificationOutboxRepository outboxRepository;
     private final ObjectMapper objectMapper;
+    private final NotificationStreamPartitions partitions;
 
     public NotificationStreamService(
             @Qualifier("notificationStringRedisTemplate") StringRedisTemplate notificationRedisTemplate,
             NotificationOutboxRepository outboxRepository,
-            ObjectMapper objectMapper
+            ObjectMapper objectMapper,
+            NotificationStreamPartitions partitions
     ) {
         this.notificationRedisTemplate = notificationRedisTemplate;
         this.outboxRepository = outboxRepository;
         this.objectMapper = objectMapper;
+        this.partitions = partitions;
     }
 
     /**
@@ -53,33 +54,37 @@ public class NotificationStreamService {
      */
     @PostConstruct
     public void initializeConsumerGroup() {
-        try {
-            // Consumer Group 생성 (이미 존재하면 무시, DB 2번 사용)
-            // 처음부터 읽기 위해 ReadOffset.from("0") 사용
-            notificationRedisTemplate.opsForStream().createGroup(
-                    STREAM_KEY,
-                    ReadOffset.from("0"),
-                    CONSUMER_GROUP
-            );
-            log.info("Notification consumer group initialized: {}", CONSUMER_GROUP);
-        } catch (Exception e) {
-            // Consumer Group이 이미 존재하거나 Stream이 없는 경우 무시
-            // Stream이 없으면 첫 번째 메시지 발행 시 자동으로 생성됨
-            log.debug("Consumer group already exists or stream not found: {}", e.getMessage());
+        for (String streamKey : partitions.streamKeys()) {
+            try {
+                // Consumer Group 생성 (이미 존재하면 무시, DB 2번 사용)
+                // 처음부터 읽기 위해 ReadOffset.from("0") 사용
+                notificationRedisTemplate.opsForStream().createGroup(
+                        streamKey,
+                        ReadOffset.from("0"),
+                        NotificationStreamPartitions.CONSUMER_GROUP
+                );
+                log.info("Notification consumer group initialized: stream={}, group={}",
+                        streamKey, NotificationStreamPartitions.CONSUMER_GROUP);
+            } catch (Exception e) {
+                // Consumer Group이 이미 존재하거나 Stream이 없는 경우 무시
+                // Stream이 없으면 첫 번째 메시지 발행 시 자동으로 생성됨
+                log.debug("Consumer group already exists or stream not found: {}", e.getMessage());
+            }
         }
     }
 
     /**
      * Consumer Group이 없으면 생성 (publishEvent 후 호출하여 첫 메시지 시에도 그룹 보장)
      */
-    private void ensureConsumerGroupExists() {
+    private void ensureConsumerGroupExists(String streamKey) {
         try {
             notificationRedisTemplate.opsForStream().createGroup(
-                    STREAM_KEY,
+                    streamKey,
                     ReadOffset.from("0"),
-                    CONSUMER_GROUP
+                    NotificationStreamPartitions.CONSUMER_GROUP
             );
-            log.info("Notification consumer group created: {}", CONSUMER_GROUP);
+            log.info("Notification consumer group created: stream={}, group={}",
+                    streamKey, NotificationStreamPartitions.CONSUMER_GROUP);
         } catch (Exception e) {
             // 이미 존재하면 무시
             log.trace("Consumer group already exists: {}", e.getMessage());
@@ -89,24 +94,26 @@ public class NotificationStreamService {
     /**
      * Redis Stream에 이벤트 발행 시도
      * 실패 시 DB Outbox에 저장하여 유실 방지
+     * postId 기준 파티션 스트림에 적재하여 같은 게시글 이벤트의 처리 순서를 유지
      */
     public void publishEvent(CommentCreatedEvent event) {
-        publishEventInternal("COMMENT_CREATED", event, "commentId=" + event.commentId());
+        publishEventInternal("COMMENT_CREATED", event, event.postId(), "commentId=" + event.commentId());
     }
 
     public void publishEvent(CommentRecommendedEvent event) {
         publishEventInternal(
                 "COMMENT_RECOMMENDED",
                 event,
+                event.postId(),
                 "commentId=" + event.commentId()
         );
     }
 
     public void publishEvent(PostRecommendedEvent event) {
-        publishEventInternal("POST_RECOMMENDED", event, "postId=" + event.postId());
+        publishEventInternal("POST_RECOMMENDED", event, event.postId(), "postId=" + event.postId());
     }
 
-    private void publishEventInternal(String eventType, Object event, String targetLog) {
+    private void publishEventInternal(String eventType, Object event, Long postId, String targetLog) {
         try {
             String payload = objectMapper.writeValueAsString(event);
 
@@ -116,11 +123,12 @@ public class NotificationStreamService {
             );
 
             // Redis Stream에 이벤트 발행 시도 (DB 2번 사용)
-            notificationRedisTemplate.opsForStream().add(STREAM_KEY, fields);
-            log.debug("Published event to Redis Stream: eventType={}, {}", eventType, targetLog);
+            String streamKey = partitions.streamKeyForPost(postId);
+            notificationRedisTemplate.opsForStream().add(streamKey, fields);
+            log.debug("Published event to Redis Stream: stream={}, eventType={}, {}", streamKey, eventType, targetLog);
 
             // 스트림이 방금 생성됐을 수 있음 → Consumer Group이 없으면 생성 (리스너가 메시지 수신 가능하도록)
-            ensureConsumerGroupExists();
+            ensureConsumerGroupExists(streamKey);
 
         } catch (Exception e) {
             // Redis Stream 발행 실패 시 DB Outbox에 저장
@@ -0,0 +1,42 @@
+package com.runners.app.notification.service;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 최근 변경된 사용자의 안읽음 카운터를 DB 기준으로 보정하는 워커
+ * 기본 5분마다 실행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationUnreadCountReconcileWorker {
+
+    private static final int BATCH_SIZE = 500;
+    private static final int MAX_BATCHES_PER_RUN = 20;
+
+    private final UnreadNotificationCounter unreadNotificationCounter;
+
+    @Scheduled(fixedDelayString = "${app.notification.unread-count.reconcile-interval-ms:300000}")
+    public void reconcileUnreadCounts() {
+        try {
+            int reconciled = 0;
+            for (int batch = 0; batch < MAX_BATCHES_PER_RUN; batch++) {
+                List<Long> userIds = unreadNotificationCounter.popTracked(BATCH_SIZE);
+                if (userIds.isEmpty()) {
+                    break;
+                }
+                unreadNotificationCounter.reconcile(userIds);
+                reconciled += userIds.size();
+            }
+            if (reconciled > 0) {
+                log.info("Reconciled unread notification counters: users={}", reconciled);
+            }
+        } catch (Exception e) {
+            log.error("Failed to reconcile unread notification counters", e);
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.runners.app.notification.service;
+
+import com.runners.app.notification.event.AllNotificationsReadEvent;
+import com.runners.app.notification.event.UnreadNotificationCountChangedEvent;
+import com.runners.app.notification.repository.NotificationRepository;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 사용자별 안읽음 알림 수 카운터 (Redis DB 2번)
+ *
+ * 배지 조회는 GET 1회로 처리하고, 키가 없을 때만 DB COUNT로 채웁니다.
+ * 증감은 키가 있을 때만 반영하여 (없으면 다음 조회 때 DB에서 로드) 초기값이 틀어지지 않도록 합니다.
+ * 변경된 사용자는 tracked set에 모아 두고 NotificationUnreadCountReconcileWorker가 DB 기준으로 보정합니다.
+ */
+@Slf4j
+@Component
+public class UnreadNotificationCounter {
+
+    private static final String KEY_PREFIX = "notification:unread:";
+    private static final String TRACKED_KEY = "notification:unread:tracked";
+
+    /**
+     * KEYS[1] 카운터, ARGV[1] 증감량
+     * 키가 있을 때만 반영하고 음수가 되면 0으로 맞춤
+     */
+    private static final DefaultRedisScript<Long> APPLY_DELTA_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end "
+                    + "local v = redis.call('INCRBY', KEYS[1], ARGV[1]) "
+                    + "if v < 0 then redis.call('SET', KEYS[1], 0, 'KEEPTTL') v = 0 end "
+                    + "return v",
+            Long.class
+    );
+
+    private final StringRedisTemplate notificationRedisTemplate;
+    private final NotificationRepository notificationRepository;
+    private final Duration ttl;
+
+    public UnreadNotificationCounter(
+            @Qualifier("notificationStringRedisTemplate") StringRedisTemplate notificationRedisTemplate,
+            NotificationRepository notificationRepository,
+            @Value("${app.notification.unread-count.ttl-seconds:86400}") long ttlSeconds
+    ) {
+        this.notificationRedisTemplate = notificationRedisTemplate;
+        this.notificationRepository = notificationRepository;
+        this.ttl = Duration.ofSeconds(Math.max(1, ttlSeconds));
+    }
+
+    /**
+     * 안읽음 알림 수 조회
+     * Redis 장애 시 DB COUNT로 대체
+     */
+    public long get(Long userId) {
+        String key = toKey(userId);
+        try {
+            String cached = notificationRedisTemplate.opsForValue().get(key);
+            if (cached != null) {
+                return Long.parseLong(cached);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to read unread notification counter: userId={}", userId, e);
+            return notificationRepository.countUnreadByRecipientId(userId);
+        }
+
+        long count = notificationRepository.countUnreadByRecipientId(userId);
+        try {
+            notificationRedisTemplate.opsForValue().setIfAbsent(key, String.valueOf(count), ttl);
+            notificationRedisTemplate.opsForSet().add(TRACKED_KEY, String.valueOf(userId));
+        } catch (Exception e) {
+            log.warn("Failed to load unread notification counter: userId={}", userId, e);
+        }
+        return count;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleCountChanged(UnreadNotificationCountChangedEvent event) {
+        Map<Long, Long> deltas = event.deltas();
+        if (deltas == null || deltas.isEmpty()) {
+            return;
+        }
+
+        try {
+            notificationRedisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public Object execute(RedisOperations operations) throws DataAccessException {
+                    deltas.forEach((userId, delta) -> operations.execute(
+                            APPLY_DELTA_SCRIPT,
+                            List.of(toKey(userId)),
+                            String.valueOf(delta)
+                    ));
+                    operations.opsForSet().add(
+                            TRACKED_KEY,
+                            deltas.keySet().stream().map(String::valueOf).toArray()
+                    );
+                    return null;
+                }
+            });
+        } catch (Exception e) {
+            // 다음 보정 또는 TTL 만료 후 DB 로드로 복구됨
+            log.warn("Failed to apply unread notification counter deltas: users={}", deltas.size(), e);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleAllRead(AllNotificationsReadEvent event) {
+        try {
+            notificationRedisTemplate.opsForValue().set(toKey(event.recipientId()), "0", ttl);
+        } catch (Exception e) {
+            log.warn("Failed to reset unread notification counter: userId={}", event.recipientId(), e);
+        }
+    }
+
+    /**
+     * 보정 대상 사용자를 최대 count명 꺼냄
+     */
+    public List<Long> popTracked(int count) {
+        List<String> members = notificationRedisTemplate.opsForSet().pop(TRACKED_KEY, count);
+        if (members == null || members.isEmpty()) {
+            return List.of();
+        }
+        return members.stream().map(Long::parseLong).toList();
+    }
+
+    /**
+     * DB 기준 값으로 카운터를 덮어씀 (한 번의 GROUP BY + 파이프라인 SET)
+     */
+    public void reconcile(List<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Long> counts = new HashMap<>(userIds.size());
+        userIds.forEach(userId -> counts.put(userId, 0L));
+        notificationRepository.countUnreadGroupByRecipientIds(userIds)
+                .forEach(row -> counts.put(row.getRecipientId(), row.getUnreadCount()));
+
+        notificationRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                counts.forEach((userId, count) ->
+                        operations.opsForValue().set(toKey(userId), String.valueOf(count), ttl));
+                return null;
+            }
+        });
+    }
+
+    private String toKey(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+}
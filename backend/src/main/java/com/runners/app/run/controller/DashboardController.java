@@ -0,0 +1,33 @@
+package com.runners.app.run.controller;
+
+import com.runners.app.global.util.SecurityUtils;
+import com.runners.app.run.dashboard.DashboardRange;
+import com.runners.app.run.dto.response.DashboardSummaryResponse;
+import com.runners.app.run.service.DashboardService;
+import io.swagger.v3.oas.annotations.Operation;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/dashboard")
+public class DashboardController {
+
+    private final DashboardService dashboardService;
+
+    public DashboardController(DashboardService dashboardService) {
+        this.dashboardService = dashboardService;
+    }
+
+    @Operation(summary = "대시보드 요약", description = "총 누적/주간/월간 거리와 range 기간의 평균 페이스, 연속 러닝일을 반환합니다. (range: LAST_7_DAYS, LAST_30_DAYS, THIS_YEAR, ALL)")
+    @GetMapping("/summary")
+    public DashboardSummaryResponse summary(
+            Authentication authentication,
+            @RequestParam(defaultValue = "ALL") DashboardRange range
+    ) {
+        Long userId = SecurityUtils.extractUserId(authentication);
+        return dashboardService.getSummary(userId, range);
+    }
+}
@@ -0,0 +1,43 @@
+package com.runners.app.run.controller;
+
+import com.runners.app.global.util.SecurityUtils;
+import com.runners.app.run.dto.request.SyncRunRecordsRequest;
+import com.runners.app.run.dto.response.RunSyncResponse;
+import com.runners.app.run.dto.response.RunSyncWatermarkResponse;
+import com.runners.app.run.service.RunSyncService;
+import io.swagger.v3.oas.annotations.Operation;
+import jakarta.validation.Valid;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/runs")
+public class RunController {
+
+    private final RunSyncService runSyncService;
+
+    public RunController(RunSyncService runSyncService) {
+        this.runSyncService = runSyncService;
+    }
+
+    @Operation(summary = "러닝 기록 일괄 업로드", description = "러닝 기록을 최대 500건까지 한 번에 업로드합니다. 이미 올린 기록(externalId 기준)은 무시됩니다.")
+    @PostMapping("/sync")
+    public RunSyncResponse sync(
+            Authentication authentication,
+            @Valid @RequestBody SyncRunRecordsRequest request
+    ) {
+        Long userId = SecurityUtils.extractUserId(authentication);
+        return runSyncService.sync(userId, request.records());
+    }
+
+    @Operation(summary = "러닝 기록 동기화 워터마크 조회", description = "마지막으로 업로드된 기록의 종료 시각을 반환합니다. 클라이언트는 이 시각 이후에 끝난 세션부터 업로드합니다.")
+    @GetMapping("/sync/watermark")
+    public RunSyncWatermarkResponse watermark(Authentication authentication) {
+        Long userId = SecurityUtils.extractUserId(authentication);
+        return runSyncService.getWatermark(userId);
+    }
+}
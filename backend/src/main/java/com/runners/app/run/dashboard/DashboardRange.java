@@ -0,0 +1,12 @@
+package com.runners.app.run.dashboard;
+
+/**
+ * 대시보드 기간 (평균 페이스·연속 러닝일 계산 기준)
+ * LAST_7_DAYS/LAST_30_DAYS: 오늘 포함 최근 N일 (DAY 버킷), THIS_YEAR: 올해 (MONTH 버킷), ALL: 전체 (TOTAL 버킷)
+ */
+public enum DashboardRange {
+    LAST_7_DAYS,
+    LAST_30_DAYS,
+    THIS_YEAR,
+    ALL
+}
@@ -0,0 +1,180 @@
+package com.runners.app.run.dashboard;
+
+import com.runners.app.run.event.RunRecordsIngestedEvent;
+import com.runners.app.run.repository.RunStatBucketRepository;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 사용자별 러닝한 날짜 비트맵 (Redis bitmap, DB 0번)
+ *
+ * 2020-01-01부터 하루 1비트이므로 사용자당 수백 바이트이며, 연속 러닝일은 GET 1회 후 뒤에서부터 세어 구합니다.
+ * 원본은 run_stat_buckets의 DAY 행이고 비트맵은 캐시입니다.
+ * 키가 없으면 DAY 행으로 다시 만들고(SET NX + TTL), 커밋 후 갱신은 키가 있을 때만 비트를 켜서
+ * 일부 날짜만 담긴 비트맵이 생기지 않도록 합니다.
+ * 커밋 후 갱신은 사용자별 버전도 올리며, 재구성한 비트맵은 DB를 읽기 전의 버전이 그대로일 때만 저장합니다.
+ * 재구성 도중 커밋된 기록이 빠진 비트맵이 캐시에 남지 않습니다.
+ */
+@Slf4j
+@Component
+public class RunDayBitmap {
+
+    static final String KEY_PREFIX = "run:days:";
+    static final LocalDate BASE_DAY = LocalDate.of(2020, 1, 1);
+
+    /**
+     * KEYS[1] 비트맵, KEYS[2] 버전
+     * ARGV[1] 버전 TTL(초), ARGV[2..] 켤 비트 offset 목록
+     */
+    private static final DefaultRedisScript<Long> SET_BITS_IF_EXISTS_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('INCR', KEYS[2]) "
+                    + "redis.call('EXPIRE', KEYS[2], ARGV[1]) "
+                    + "if redis.call('EXISTS', KEYS[1]) == 0 then return 0 end "
+                    + "for i = 2, #ARGV do redis.call('SETBIT', KEYS[1], ARGV[i], 1) end "
+                    + "return #ARGV - 1",
+            Long.class
+    );
+
+    /**
+     * KEYS[1] 비트맵, KEYS[2] 버전
+     * ARGV[1] 재구성 전에 읽은 버전, ARGV[2] 비트맵, ARGV[3] TTL(ms)
+     */
+    private static final byte[] CACHE_IF_UNCHANGED_SCRIPT = (
+            "if (redis.call('GET', KEYS[2]) or '0') ~= ARGV[1] then return 0 end "
+                    + "if redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3], 'NX') then return 1 end "
+                    + "return 0"
+    ).getBytes(StandardCharsets.UTF_8);
+
+    private final StringRedisTemplate redis;
+    private final RunStatBucketRepository runStatBucketRepository;
+    private final Duration ttl;
+
+    public RunDayBitmap(
+            StringRedisTemplate redis,
+            RunStatBucketRepository runStatBucketRepository,
+            @Value("${app.run.day-bitmap.ttl-hours:168}") long ttlHours
+    ) {
+        this.redis = redis;
+        this.runStatBucketRepository = runStatBucketRepository;
+        this.ttl = Duration.ofHours(Math.max(1, ttlHours));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleIngested(RunRecordsIngestedEvent event) {
+        List<String> offsets = new ArrayList<>(event.runs().size() + 1);
+        offsets.add(String.valueOf(ttl.toSeconds()));
+        for (RunRecordsIngestedEvent.IngestedRun run : event.runs()) {
+            long offset = offsetOf(run.day());
+            if (offset >= 0) offsets.add(String.valueOf(offset));
+        }
+        if (offsets.size() == 1) return;
+
+        try {
+            redis.execute(SET_BITS_IF_EXISTS_SCRIPT,
+                    List.of(key(event.userId()), versionKey(event.userId())), offsets.toArray());
+        } catch (Exception e) {
+            log.warn("Failed to update run day bitmap: userId={}", event.userId(), e);
+        }
+    }
+
+    /**
+     * today로 끝나는 연속 러닝일 (최대 maxDays)
+     * 오늘 아직 기록이 없으면 어제까지의 연속 일수를 돌려줍니다.
+     */
+    public int currentStreak(Long userId, LocalDate today, int maxDays) {
+        byte[] bitmap = load(userId);
+        long offset = offsetOf(today);
+        if (offset < 0) return 0;
+        if (!isSet(bitmap, offset)) offset--;
+
+        int streak = 0;
+        while (offset >= 0 && streak < maxDays && isSet(bitmap, offset)) {
+            streak++;
+            offset--;
+        }
+        return streak;
+    }
+
+    private byte[] load(Long userId) {
+        byte[] key = key(userId).getBytes(StandardCharsets.UTF_8);
+        byte[] versionKey = versionKey(userId).getBytes(StandardCharsets.UTF_8);
+        String version;
+        try {
+            byte[] cached = redis.execute((RedisCallback<byte[]>) connection -> connection.stringCommands().get(key));
+            if (cached != null) return cached;
+            // DB를 읽기 전에 버전을 잡아 두고, 그 사이 커밋된 기록이 있으면 캐시하지 않음
+            version = redis.opsForValue().get(versionKey(userId));
+        } catch (Exception e) {
+            log.warn("Failed to read run day bitmap, falling back to DB: userId={}", userId, e);
+            return rebuild(userId);
+        }
+
+        byte[] rebuilt = rebuild(userId);
+        byte[] expectedVersion = (version == null ? "0" : version).getBytes(StandardCharsets.UTF_8);
+        byte[] ttlMillis = String.valueOf(ttl.toMillis()).getBytes(StandardCharsets.UTF_8);
+        try {
+            redis.execute((RedisCallback<Long>) connection -> connection.scriptingCommands().eval(
+                    CACHE_IF_UNCHANGED_SCRIPT,
+                    ReturnType.INTEGER,
+                    2,
+                    key,
+                    versionKey,
+                    expectedVersion,
+                    rebuilt,
+                    ttlMillis
+            ));
+        } catch (Exception e) {
+            log.warn("Failed to cache run day bitmap: userId={}", userId, e);
+        }
+        return rebuilt;
+    }
+
+    private byte[] rebuild(Long userId) {
+        List<LocalDate> days = runStatBucketRepository.findRunDaysSince(userId, BASE_DAY);
+        long maxOffset = -1;
+        for (LocalDate day : days) {
+            maxOffset = Math.max(maxOffset, offsetOf(day));
+        }
+        // 기록이 없어도 빈 값 대신 1바이트를 두어 캐시 미스로 취급되지 않도록 함
+        byte[] bitmap = new byte[(int) (maxOffset / 8) + 1];
+        for (LocalDate day : days) {
+            long offset = offsetOf(day);
+            bitmap[(int) (offset >>> 3)] |= (byte) (0x80 >>> (offset & 7));
+        }
+        return bitmap;
+    }
+
+    /**
+     * Redis SETBIT과 같은 비트 순서 (offset 0 = 첫 바이트의 최상위 비트)
+     */
+    private static boolean isSet(byte[] bitmap, long offset) {
+        int index = (int) (offset >>> 3);
+        if (index >= bitmap.length) return false;
+        return (bitmap[index] & (0x80 >>> (offset & 7))) != 0;
+    }
+
+    private static long offsetOf(LocalDate day) {
+        return ChronoUnit.DAYS.between(BASE_DAY, day);
+    }
+
+    private static String key(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+
+    private static String versionKey(Long userId) {
+        return KEY_PREFIX + userId + ":version";
+    }
+}
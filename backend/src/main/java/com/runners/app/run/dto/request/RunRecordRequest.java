@@ -0,0 +1,53 @@
+package com.runners.app.run.dto.request;
+
+import com.runners.app.global.validation.ValidationMessageKey;
+import com.runners.app.run.entity.RunRecord;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.time.LocalDateTime;
+
+/**
+ * 러닝 기록 1건 (avgPaceSecondsPerKm가 없으면 거리/시간으로 계산)
+ */
+public record RunRecordRequest(
+        @NotBlank(message = ValidationMessageKey.RUN_RECORD_EXTERNAL_ID_REQUIRED)
+        @Size(max = RunRecord.EXTERNAL_ID_MAX_LENGTH, message = ValidationMessageKey.RUN_RECORD_EXTERNAL_ID_TOO_LONG)
+        String externalId,
+
+        @NotNull(message = ValidationMessageKey.RUN_RECORD_STARTED_AT_REQUIRED)
+        LocalDateTime startedAt,
+
+        @NotNull(message = ValidationMessageKey.RUN_RECORD_ENDED_AT_REQUIRED)
+        LocalDateTime endedAt,
+
+        @NotNull(message = ValidationMessageKey.RUN_RECORD_DISTANCE_REQUIRED)
+        @DecimalMin(value = "0.0", inclusive = true, message = ValidationMessageKey.RUN_RECORD_DISTANCE_OUT_OF_RANGE)
+        @DecimalMax(value = "1000000.0", inclusive = true, message = ValidationMessageKey.RUN_RECORD_DISTANCE_OUT_OF_RANGE)
+        Double distanceMeters,
+
+        @NotNull(message = ValidationMessageKey.RUN_RECORD_DURATION_REQUIRED)
+        @Min(value = 0, message = ValidationMessageKey.RUN_RECORD_DURATION_OUT_OF_RANGE)
+        @Max(value = 604800, message = ValidationMessageKey.RUN_RECORD_DURATION_OUT_OF_RANGE)
+        Long durationSeconds,
+
+        @Min(value = 0, message = ValidationMessageKey.RUN_RECORD_PACE_OUT_OF_RANGE)
+        @Max(value = 86400, message = ValidationMessageKey.RUN_RECORD_PACE_OUT_OF_RANGE)
+        Integer avgPaceSecondsPerKm,
+
+        @DecimalMin(value = "0.0", inclusive = true, message = ValidationMessageKey.RUN_RECORD_CALORIES_OUT_OF_RANGE)
+        @DecimalMax(value = "100000.0", inclusive = true, message = ValidationMessageKey.RUN_RECORD_CALORIES_OUT_OF_RANGE)
+        Double caloriesKcal,
+
+        @Min(value = 0, message = ValidationMessageKey.RUN_RECORD_HEART_RATE_OUT_OF_RANGE)
+        @Max(value = 300, message = ValidationMessageKey.RUN_RECORD_HEART_RATE_OUT_OF_RANGE)
+        Integer avgHeartRate,
+
+        @Min(value = 0, message = ValidationMessageKey.RUN_RECORD_HEART_RATE_OUT_OF_RANGE)
+        @Max(value = 300, message = ValidationMessageKey.RUN_RECORD_HEART_RATE_OUT_OF_RANGE)
+        Integer maxHeartRate
+) {}
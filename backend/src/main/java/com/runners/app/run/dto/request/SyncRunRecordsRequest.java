@@ -0,0 +1,18 @@
+package com.runners.app.run.dto.request;
+
+import com.runners.app.global.validation.ValidationMessageKey;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+/**
+ * 러닝 기록 일괄 업로드 요청 DTO
+ */
+public record SyncRunRecordsRequest(
+        @NotEmpty(message = ValidationMessageKey.RUN_RECORDS_REQUIRED)
+        @Size(max = MAX_RECORDS, message = ValidationMessageKey.RUN_RECORDS_TOO_MANY)
+        List<@Valid RunRecordRequest> records
+) {
+    public static final int MAX_RECORDS = 500;
+}
@@ -0,0 +1,27 @@
+package com.runners.app.run.dto.response;
+
+import com.runners.app.run.dashboard.DashboardRange;
+
+/**
+ * 대시보드 요약
+ *
+ * @param totalDistanceKm 전체 누적 거리
+ * @param weeklyDistanceKm 이번 주(월요일 시작) 누적 거리
+ * @param monthlyDistanceKm 이번 달 누적 거리
+ * @param rangeDistanceKm range 기간 누적 거리
+ * @param rangeRunCount range 기간 러닝 횟수
+ * @param avgPaceSecondsPerKm range 기간 평균 페이스 (거리가 0이면 null)
+ * @param streakDays 오늘(기록이 없으면 어제)까지의 연속 러닝일 (range와 무관, 최대 3650일)
+ */
+public record DashboardSummaryResponse(
+        DashboardRange range,
+        double totalDistanceKm,
+        long totalDurationSeconds,
+        int totalRunCount,
+        double weeklyDistanceKm,
+        double monthlyDistanceKm,
+        double rangeDistanceKm,
+        int rangeRunCount,
+        Integer avgPaceSecondsPerKm,
+        int streakDays
+) {}
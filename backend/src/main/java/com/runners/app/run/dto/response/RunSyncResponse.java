@@ -0,0 +1,18 @@
+package com.runners.app.run.dto.response;
+
+import java.time.LocalDateTime;
+
+/**
+ * 러닝 기록 일괄 업로드 결과
+ *
+ * @param received 요청에 담긴 기록 수
+ * @param inserted 새로 저장된 기록 수
+ * @param duplicated 이미 저장되어 있던(또는 요청 내 중복) 기록 수
+ * @param lastEndedAt 동기화 워터마크 (다음 업로드는 이 시각 이후에 끝난 세션부터)
+ */
+public record RunSyncResponse(
+        int received,
+        int inserted,
+        int duplicated,
+        LocalDateTime lastEndedAt
+) {}
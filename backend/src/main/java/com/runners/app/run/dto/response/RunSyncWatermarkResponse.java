@@ -0,0 +1,11 @@
+package com.runners.app.run.dto.response;
+
+import java.time.LocalDateTime;
+
+/**
+ * 동기화 워터마크 (한 번도 업로드하지 않았으면 둘 다 null)
+ */
+public record RunSyncWatermarkResponse(
+        LocalDateTime lastEndedAt,
+        LocalDateTime lastSyncedAt
+) {}
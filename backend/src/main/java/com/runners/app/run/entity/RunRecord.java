@@ -0,0 +1,83 @@
+package com.runners.app.run.entity;
+
+import com.runners.app.user.entity.User;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 러닝 기록 1건 (Health Connect 세션 단위)
+ *
+ * (user_id, external_id)가 유일하므로 같은 세션을 여러 번 업로드해도 1건만 저장됩니다.
+ */
+@Entity
+@Table(
+        name = "run_records",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_run_records_user_id_external_id", columnNames = {"user_id", "external_id"})
+        },
+        indexes = {
+                @Index(name = "idx_run_records_user_id_started_at", columnList = "user_id,started_at")
+        }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class RunRecord {
+
+    public static final int EXTERNAL_ID_MAX_LENGTH = 128;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "user_id", nullable = false, foreignKey = @ForeignKey(name = "fk_run_records_user_id"))
+    private User user;
+
+    // 클라이언트 기록 ID (Health Connect 세션 ID 등)
+    @Column(name = "external_id", nullable = false, length = EXTERNAL_ID_MAX_LENGTH)
+    private String externalId;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "ended_at", nullable = false)
+    private LocalDateTime endedAt;
+
+    @Column(name = "distance_meters", nullable = false)
+    private double distanceMeters;
+
+    @Column(name = "duration_seconds", nullable = false)
+    private long durationSeconds;
+
+    @Column(name = "avg_pace_seconds_per_km")
+    private Integer avgPaceSecondsPerKm;
+
+    @Column(name = "calories_kcal")
+    private Double caloriesKcal;
+
+    @Column(name = "avg_heart_rate")
+    private Integer avgHeartRate;
+
+    @Column(name = "max_heart_rate")
+    private Integer maxHeartRate;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    void prePersist() {
+        if (createdAt == null) createdAt = LocalDateTime.now();
+    }
+
+    /**
+     * 거리가 0이면 페이스를 계산할 수 없으므로 null
+     */
+    public static Integer paceSecondsPerKm(double distanceMeters, long durationSeconds) {
+        if (distanceMeters <= 0 || durationSeconds <= 0) return null;
+        return (int) Math.round(durationSeconds / (distanceMeters / 1000.0));
+    }
+}
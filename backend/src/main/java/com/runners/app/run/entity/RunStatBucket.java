@@ -0,0 +1,45 @@
+package com.runners.app.run.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자별 러닝 집계 버킷 (일/주/월/전체)
+ *
+ * 러닝 기록이 저장될 때 같은 트랜잭션에서 해당 기록이 속한 DAY, WEEK, MONTH, TOTAL 행에 더해집니다.
+ * 대시보드는 run_records를 다시 읽지 않고 필요한 버킷 몇 개만 조회합니다.
+ * 갱신은 RunStatBucketRepository.addAll로만 합니다.
+ */
+@Entity
+@Table(
+        name = "run_stat_buckets",
+        indexes = {
+                @Index(name = "idx_run_stat_buckets_period", columnList = "period_type,period_start")
+        }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RunStatBucket {
+
+    @EmbeddedId
+    private RunStatBucketId id;
+
+    @Column(name = "distance_meters", nullable = false)
+    private double distanceMeters;
+
+    @Column(name = "duration_seconds", nullable = false)
+    private long durationSeconds;
+
+    @Column(name = "run_count", nullable = false)
+    private int runCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,25 @@
+package com.runners.app.run.entity;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * 러닝 집계 버킷 단위
+ * 주는 월요일 시작, TOTAL은 사용자당 1행(period_start = 1970-01-01)
+ */
+public enum RunStatPeriod {
+    DAY,
+    WEEK,
+    MONTH,
+    TOTAL;
+
+    public LocalDate startOf(LocalDate day) {
+        return switch (this) {
+            case DAY -> day;
+            case WEEK -> day.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTH -> day.withDayOfMonth(1);
+            case TOTAL -> LocalDate.EPOCH;
+        };
+    }
+}
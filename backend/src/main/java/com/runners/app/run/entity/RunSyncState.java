@@ -0,0 +1,34 @@
+package com.runners.app.run.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자별 러닝 기록 동기화 워터마크
+ *
+ * 지금까지 업로드된 기록 중 가장 늦은 종료 시각을 보관합니다. (줄어들지 않음)
+ * 클라이언트는 이 시각 이후에 끝난 세션만 읽어 업로드하면 됩니다.
+ * 갱신은 RunSyncStateRepository.upsertWatermark로만 합니다.
+ */
+@Entity
+@Table(name = "run_sync_states")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RunSyncState {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "last_ended_at", nullable = false)
+    private LocalDateTime lastEndedAt;
+
+    @Column(name = "last_synced_at", nullable = false)
+    private LocalDateTime lastSyncedAt;
+}
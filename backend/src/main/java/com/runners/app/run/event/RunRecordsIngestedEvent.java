@@ -0,0 +1,16 @@
+package com.runners.app.run.event;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 러닝 기록이 새로 저장됨 (중복으로 무시된 기록은 제외)
+ */
+public record RunRecordsIngestedEvent(Long userId, List<IngestedRun> runs) {
+
+    /**
+     * @param day 러닝 날짜 (시작 시각 기준)
+     */
+    public record IngestedRun(LocalDate day, double distanceMeters, long durationSeconds) {
+    }
+}
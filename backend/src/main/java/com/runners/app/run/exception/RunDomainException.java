@@ -0,0 +1,15 @@
+package com.runners.app.run.exception;
+
+import com.runners.app.global.exception.DomainException;
+import com.runners.app.global.exception.ErrorCode;
+import org.springframework.http.HttpStatus;
+
+public class RunDomainException extends DomainException {
+    public RunDomainException(HttpStatus status, ErrorCode errorCode, String message) {
+        super(status, errorCode, message);
+    }
+
+    public static RunDomainException timeRangeInvalid(String externalId) {
+        return new RunDomainException(HttpStatus.BAD_REQUEST, ErrorCode.RUN_RECORD_TIME_RANGE_INVALID, "endedAt must be after startedAt: " + externalId);
+    }
+}
@@ -0,0 +1,63 @@
+package com.runners.app.run.repository;
+
+import com.runners.app.global.util.InsertIgnoreBatch;
+import com.runners.app.run.entity.RunRecord;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+public class RunRecordBatchRepositoryImpl implements RunRecordBatchRepository {
+
+    private static final InsertIgnoreBatch<RunRecord> INSERT_IGNORE = new InsertIgnoreBatch<>(
+            "run_records",
+            List.of("user_id", "external_id", "started_at", "ended_at", "distance_meters", "duration_seconds",
+                    "avg_pace_seconds_per_km", "calories_kcal", "avg_heart_rate", "max_heart_rate"),
+            "external_id",
+            "user_id",
+            RunRecord::getExternalId,
+            RunRecordBatchRepositoryImpl::bind
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public RunRecordBatchRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<Boolean> insertIgnoreAll(Long userId, List<RunRecord> records) {
+        return INSERT_IGNORE.insert(jdbcTemplate, records, userId);
+    }
+
+    private static void bind(PreparedStatement ps, int index, RunRecord record) throws SQLException {
+        ps.setLong(index, record.getUser().getId());
+        ps.setString(index + 1, record.getExternalId());
+        ps.setTimestamp(index + 2, Timestamp.valueOf(record.getStartedAt()));
+        ps.setTimestamp(index + 3, Timestamp.valueOf(record.getEndedAt()));
+        ps.setDouble(index + 4, record.getDistanceMeters());
+        ps.setLong(index + 5, record.getDurationSeconds());
+        setNullableInt(ps, index + 6, record.getAvgPaceSecondsPerKm());
+        setNullableDouble(ps, index + 7, record.getCaloriesKcal());
+        setNullableInt(ps, index + 8, record.getAvgHeartRate());
+        setNullableInt(ps, index + 9, record.getMaxHeartRate());
+    }
+
+    private static void setNullableInt(PreparedStatement ps, int index, Integer value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.INTEGER);
+        } else {
+            ps.setInt(index, value);
+        }
+    }
+
+    private static void setNullableDouble(PreparedStatement ps, int index, Double value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.DOUBLE);
+        } else {
+            ps.setDouble(index, value);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.runners.app.run.repository;
+
+import com.runners.app.run.entity.RunRecord;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface RunRecordRepository extends JpaRepository<RunRecord, Long>, RunRecordBatchRepository {
+
+    /**
+     * 이미 저장된 external_id (uk_run_records_user_id_external_id 인덱스만 사용)
+     */
+    @Query("""
+            select r.externalId
+            from RunRecord r
+            where r.user.id = :userId
+              and r.externalId in :externalIds
+            """)
+    List<String> findExternalIdsByUserIdAndExternalIdIn(
+            @Param("userId") Long userId,
+            @Param("externalIds") Collection<String> externalIds
+    );
+}
@@ -0,0 +1,84 @@
+package com.runners.app.run.repository;
+
+import com.runners.app.run.entity.RunStatBucket;
+import com.runners.app.run.entity.RunStatBucketId;
+import com.runners.app.run.entity.RunStatPeriod;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface RunStatBucketRepository extends JpaRepository<RunStatBucket, RunStatBucketId>, RunStatBucketUpsertRepository {
+
+    /**
+     * [from, to] 구간의 버킷 (PK 범위 스캔)
+     */
+    @Query("""
+            select b
+            from RunStatBucket b
+            where b.id.userId = :userId
+              and b.id.periodType = :periodType
+              and b.id.periodStart between :from and :to
+            """)
+    List<RunStatBucket> findRange(
+            @Param("userId") Long userId,
+            @Param("periodType") RunStatPeriod periodType,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to
+    );
+
+    /**
+     * 한 기간(주/월)의 사용자별 거리 (리더보드 재구성용, idx_run_stat_buckets_period 사용)
+     */
+    @Query("""
+            select b.id.userId as userId,
+                   b.distanceMeters as distanceMeters
+            from RunStatBucket b
+            where b.id.periodType = :periodType
+              and b.id.periodStart = :periodStart
+              and b.distanceMeters > 0
+            """)
+    List<PeriodDistance> findPeriodDistances(
+            @Param("periodType") RunStatPeriod periodType,
+            @Param("periodStart") LocalDate periodStart
+    );
+
+    /**
+     * 한 기간(주/월)의 지정 사용자 거리 (리더보드 재구성 중 바뀐 사용자 다시 읽기용)
+     */
+    @Query("""
+            select b.id.userId as userId,
+                   b.distanceMeters as distanceMeters
+            from RunStatBucket b
+            where b.id.periodType = :periodType
+              and b.id.periodStart = :periodStart
+              and b.id.userId in :userIds
+              and b.distanceMeters > 0
+            """)
+    List<PeriodDistance> findPeriodDistancesByUserIdIn(
+            @Param("periodType") RunStatPeriod periodType,
+            @Param("periodStart") LocalDate periodStart,
+            @Param("userIds") Collection<Long> userIds
+    );
+
+    /**
+     * from 이후 러닝한 날짜 (연속 러닝일 비트맵 재구성용)
+     */
+    @Query("""
+            select b.id.periodStart
+            from RunStatBucket b
+            where b.id.userId = :userId
+              and b.id.periodType = com.runners.app.run.entity.RunStatPeriod.DAY
+              and b.id.periodStart >= :from
+              and b.runCount > 0
+            """)
+    List<LocalDate> findRunDaysSince(@Param("userId") Long userId, @Param("from") LocalDate from);
+
+    interface PeriodDistance {
+        Long getUserId();
+
+        double getDistanceMeters();
+    }
+}
@@ -0,0 +1,29 @@
+package com.runners.app.run.repository;
+
+import com.runners.app.run.entity.RunStatBucketId;
+import java.util.Map;
+
+/**
+ * 러닝 집계 버킷 증분 반영용 커스텀 리포지토리 (JDBC batch)
+ */
+public interface RunStatBucketUpsertRepository {
+
+    /**
+     * 버킷마다 없으면 만들고 있으면 더함 (insert ... on duplicate key update)
+     */
+    void addAll(Map<RunStatBucketId, Delta> deltas);
+
+    /**
+     * 버킷 1개에 더할 값
+     */
+    record Delta(double distanceMeters, long durationSeconds, int runCount) {
+
+        public Delta plus(Delta other) {
+            return new Delta(
+                    distanceMeters + other.distanceMeters,
+                    durationSeconds + other.durationSeconds,
+                    runCount + other.runCount
+            );
+        }
+    }
+}
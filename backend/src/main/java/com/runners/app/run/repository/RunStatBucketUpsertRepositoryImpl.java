@@ -0,0 +1,69 @@
+package com.runners.app.run.repository;
+
+import com.runners.app.run.entity.RunStatBucketId;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+public class RunStatBucketUpsertRepositoryImpl implements RunStatBucketUpsertRepository {
+
+    private static final String UPSERT_SQL = """
+            insert into run_stat_buckets
+              (user_id, period_type, period_start, distance_meters, duration_seconds, run_count, updated_at)
+            values (?, ?, ?, ?, ?, ?, ?)
+            on duplicate key update
+              distance_meters = distance_meters + values(distance_meters),
+              duration_seconds = duration_seconds + values(duration_seconds),
+              run_count = run_count + values(run_count),
+              updated_at = values(updated_at)
+            """;
+
+    // 동시 동기화끼리 같은 행을 다른 순서로 잠가 데드락이 나지 않도록 PK 순서로 반영
+    private static final Comparator<Map.Entry<RunStatBucketId, Delta>> PK_ORDER = Comparator
+            .comparing((Map.Entry<RunStatBucketId, Delta> e) -> e.getKey().getUserId())
+            .thenComparing(e -> e.getKey().getPeriodType().name())
+            .thenComparing(e -> e.getKey().getPeriodStart());
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public RunStatBucketUpsertRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void addAll(Map<RunStatBucketId, Delta> deltas) {
+        if (deltas == null || deltas.isEmpty()) return;
+
+        List<Map.Entry<RunStatBucketId, Delta>> entries = new ArrayList<>(deltas.entrySet());
+        entries.sort(PK_ORDER);
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(UPSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                RunStatBucketId id = entries.get(i).getKey();
+                Delta delta = entries.get(i).getValue();
+                ps.setLong(1, id.getUserId());
+                ps.setString(2, id.getPeriodType().name());
+                ps.setDate(3, Date.valueOf(id.getPeriodStart()));
+                ps.setDouble(4, delta.distanceMeters());
+                ps.setLong(5, delta.durationSeconds());
+                ps.setInt(6, delta.runCount());
+                ps.setTimestamp(7, now);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return entries.size();
+            }
+        });
+    }
+}
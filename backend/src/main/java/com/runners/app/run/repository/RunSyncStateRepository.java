@@ -0,0 +1,31 @@
+package com.runners.app.run.repository;
+
+import com.runners.app.run.entity.RunSyncState;
+import java.time.LocalDateTime;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface RunSyncStateRepository extends JpaRepository<RunSyncState, Long> {
+
+    /**
+     * 워터마크를 lastEndedAt 이상으로만 올림 (동시 동기화에도 줄어들지 않음)
+     */
+    @Modifying
+    @Query(
+            value = """
+            insert into run_sync_states (user_id, last_ended_at, last_synced_at)
+            values (:userId, :lastEndedAt, :syncedAt)
+            on duplicate key update
+              last_ended_at = greatest(last_ended_at, values(last_ended_at)),
+              last_synced_at = values(last_synced_at)
+            """,
+            nativeQuery = true
+    )
+    int upsertWatermark(
+            @Param("userId") Long userId,
+            @Param("lastEndedAt") LocalDateTime lastEndedAt,
+            @Param("syncedAt") LocalDateTime syncedAt
+    );
+}
@@ -0,0 +1,88 @@
+package com.runners.app.run.service;
+
+import com.runners.app.run.dashboard.DashboardRange;
+import com.runners.app.run.dashboard.RunDayBitmap;
+import com.runners.app.run.dto.response.DashboardSummaryResponse;
+import com.runners.app.run.entity.RunRecord;
+import com.runners.app.run.entity.RunStatBucket;
+import com.runners.app.run.entity.RunStatBucketId;
+import com.runners.app.run.entity.RunStatPeriod;
+import com.runners.app.run.repository.RunStatBucketRepository;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 대시보드 요약 조회
+ *
+ * run_records를 읽지 않고 미리 집계된 버킷만 조회합니다.
+ * TOTAL/이번 주/이번 달 버킷 1회(PK 3건) + range 버킷 1회(최대 30행), 연속 러닝일은 range와 무관하게 RunDayBitmap에서 구합니다.
+ */
+@Service
+public class DashboardService {
+
+    // 연속 러닝일은 range와 무관하게 같은 값 (비트맵 한 번 훑는 상한, 약 10년)
+    private static final int MAX_STREAK_DAYS = 3650;
+
+    private final RunStatBucketRepository runStatBucketRepository;
+    private final RunDayBitmap runDayBitmap;
+
+    public DashboardService(RunStatBucketRepository runStatBucketRepository, RunDayBitmap runDayBitmap) {
+        this.runStatBucketRepository = runStatBucketRepository;
+        this.runDayBitmap = runDayBitmap;
+    }
+
+    @Transactional(readOnly = true)
+    public DashboardSummaryResponse getSummary(Long userId, DashboardRange range) {
+        LocalDate today = LocalDate.now();
+
+        RunStatBucketId totalId = bucketId(userId, RunStatPeriod.TOTAL, today);
+        RunStatBucketId weekId = bucketId(userId, RunStatPeriod.WEEK, today);
+        RunStatBucketId monthId = bucketId(userId, RunStatPeriod.MONTH, today);
+        Map<RunStatBucketId, RunStatBucket> current = new HashMap<>();
+        for (RunStatBucket bucket : runStatBucketRepository.findAllById(List.of(totalId, weekId, monthId))) {
+            current.put(bucket.getId(), bucket);
+        }
+        RunStatBucket total = current.get(totalId);
+
+        List<RunStatBucket> rangeBuckets = switch (range) {
+            case LAST_7_DAYS -> runStatBucketRepository.findRange(userId, RunStatPeriod.DAY, today.minusDays(6), today);
+            case LAST_30_DAYS -> runStatBucketRepository.findRange(userId, RunStatPeriod.DAY, today.minusDays(29), today);
+            case THIS_YEAR -> runStatBucketRepository.findRange(userId, RunStatPeriod.MONTH, today.withDayOfYear(1), today);
+            case ALL -> total == null ? List.of() : List.of(total);
+        };
+
+        double rangeDistanceMeters = 0;
+        long rangeDurationSeconds = 0;
+        int rangeRunCount = 0;
+        for (RunStatBucket bucket : rangeBuckets) {
+            rangeDistanceMeters += bucket.getDistanceMeters();
+            rangeDurationSeconds += bucket.getDurationSeconds();
+            rangeRunCount += bucket.getRunCount();
+        }
+
+        return new DashboardSummaryResponse(
+                range,
+                toKm(total),
+                total == null ? 0 : total.getDurationSeconds(),
+                total == null ? 0 : total.getRunCount(),
+                toKm(current.get(weekId)),
+                toKm(current.get(monthId)),
+                rangeDistanceMeters / 1000.0,
+                rangeRunCount,
+                RunRecord.paceSecondsPerKm(rangeDistanceMeters, rangeDurationSeconds),
+                runDayBitmap.currentStreak(userId, today, MAX_STREAK_DAYS)
+        );
+    }
+
+    private static RunStatBucketId bucketId(Long userId, RunStatPeriod period, LocalDate day) {
+        return new RunStatBucketId(userId, period, period.startOf(day));
+    }
+
+    private static double toKm(RunStatBucket bucket) {
+        return bucket == null ? 0 : bucket.getDistanceMeters() / 1000.0;
+    }
+}
@@ -0,0 +1,45 @@
+package com.runners.app.run.service;
+
+import com.runners.app.run.entity.RunRecord;
+import com.runners.app.run.entity.RunStatBucketId;
+import com.runners.app.run.entity.RunStatPeriod;
+import com.runners.app.run.repository.RunStatBucketRepository;
+import com.runners.app.run.repository.RunStatBucketUpsertRepository.Delta;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.stereotype.Component;
+
+/**
+ * run_stat_buckets 증분 갱신
+ *
+ * 새로 저장된 러닝 기록만 받아 기록당 DAY/WEEK/MONTH/TOTAL 4개 버킷에 더합니다.
+ * 같은 요청 안에서 같은 버킷은 미리 합쳐 버킷당 1행만 upsert 합니다.
+ * RunSyncService와 같은 트랜잭션에서 호출되므로 기록과 집계가 함께 커밋/롤백됩니다.
+ */
+@Component
+public class RunStatBucketProjector {
+
+    private static final RunStatPeriod[] PERIODS = RunStatPeriod.values();
+
+    private final RunStatBucketRepository runStatBucketRepository;
+
+    public RunStatBucketProjector(RunStatBucketRepository runStatBucketRepository) {
+        this.runStatBucketRepository = runStatBucketRepository;
+    }
+
+    public void add(Long userId, List<RunRecord> records) {
+        if (records.isEmpty()) return;
+
+        Map<RunStatBucketId, Delta> deltas = new HashMap<>();
+        for (RunRecord record : records) {
+            LocalDate day = record.getStartedAt().toLocalDate();
+            Delta delta = new Delta(record.getDistanceMeters(), record.getDurationSeconds(), 1);
+            for (RunStatPeriod period : PERIODS) {
+                deltas.merge(new RunStatBucketId(userId, period, period.startOf(day)), delta, Delta::plus);
+            }
+        }
+        runStatBucketRepository.addAll(deltas);
+    }
+}
@@ -0,0 +1,135 @@
+package com.runners.app.run.service;
+
+import com.runners.app.run.dto.request.RunRecordRequest;
+import com.runners.app.run.dto.response.RunSyncResponse;
+import com.runners.app.run.dto.response.RunSyncWatermarkResponse;
+import com.runners.app.run.entity.RunRecord;
+import com.runners.app.run.entity.RunSyncState;
+import com.runners.app.run.event.RunRecordsIngestedEvent;
+import com.runners.app.run.exception.RunDomainException;
+import com.runners.app.run.repository.RunRecordRepository;
+import com.runners.app.run.repository.RunSyncStateRepository;
+import com.runners.app.user.entity.User;
+import com.runners.app.user.exception.UserDomainException;
+import com.runners.app.user.repository.UserRepository;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 러닝 기록 일괄 업로드 (멱등)
+ *
+ * 같은 세션을 다시 올려도 (user_id, external_id) 기준으로 1건만 저장되므로
+ * 클라이언트는 실패/중단 시 같은 구간을 그대로 재전송하면 됩니다.
+ * 요청 1건당 기존 external_id 조회 1회 + multi-row insert ignore 1문장(+ 새 행 되읽기) + 집계 버킷 batch upsert 1회 + 워터마크 upsert 1회로 끝납니다.
+ */
+@Service
+public class RunSyncService {
+
+    private final RunRecordRepository runRecordRepository;
+    private final RunSyncStateRepository runSyncStateRepository;
+    private final UserRepository userRepository;
+    private final RunStatBucketProjector runStatBucketProjector;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public RunSyncService(
+            RunRecordRepository runRecordRepository,
+            RunSyncStateRepository runSyncStateRepository,
+            UserRepository userRepository,
+            RunStatBucketProjector runStatBucketProjector,
+            ApplicationEventPublisher eventPublisher
+    ) {
+        this.runRecordRepository = runRecordRepository;
+        this.runSyncStateRepository = runSyncStateRepository;
+        this.userRepository = userRepository;
+        this.runStatBucketProjector = runStatBucketProjector;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Transactional
+    public RunSyncResponse sync(Long userId, List<RunRecordRequest> records) {
+        if (!userRepository.existsById(userId)) {
+            throw UserDomainException.userNotFound();
+        }
+
+        // 요청 안의 같은 externalId는 처음 것만 사용
+        Map<String, RunRecordRequest> byExternalId = new LinkedHashMap<>();
+        LocalDateTime lastEndedAt = null;
+        for (RunRecordRequest record : records) {
+            if (!record.endedAt().isAfter(record.startedAt())) {
+                throw RunDomainException.timeRangeInvalid(record.externalId());
+            }
+            byExternalId.putIfAbsent(record.externalId(), record);
+            if (lastEndedAt == null || record.endedAt().isAfter(lastEndedAt)) {
+                lastEndedAt = record.endedAt();
+            }
+        }
+
+        // 재전송 구간은 대부분 이미 저장된 기록이므로 insert 전에 걸러 batch 크기를 줄임
+        Set<String> existing = new HashSet<>(
+                runRecordRepository.findExternalIdsByUserIdAndExternalIdIn(userId, byExternalId.keySet())
+        );
+        User user = userRepository.getReferenceById(userId);
+        List<RunRecord> candidates = new ArrayList<>(byExternalId.size());
+        for (RunRecordRequest record : byExternalId.values()) {
+            if (existing.contains(record.externalId())) continue;
+            candidates.add(toEntity(user, record));
+        }
+
+        // 동시에 같은 기록을 올린 경우는 insert ignore가 걸러내고, 되읽기로 이번에 들어간 기록만 집계에 반영
+        List<Boolean> results = runRecordRepository.insertIgnoreAll(userId, candidates);
+        List<RunRecord> inserted = new ArrayList<>(candidates.size());
+        for (int i = 0; i < candidates.size(); i++) {
+            if (results.get(i)) inserted.add(candidates.get(i));
+        }
+        if (!inserted.isEmpty()) {
+            runStatBucketProjector.add(userId, inserted);
+            eventPublisher.publishEvent(new RunRecordsIngestedEvent(userId, inserted.stream()
+                    .map(record -> new RunRecordsIngestedEvent.IngestedRun(
+                            record.getStartedAt().toLocalDate(),
+                            record.getDistanceMeters(),
+                            record.getDurationSeconds()
+                    ))
+                    .toList()));
+        }
+
+        runSyncStateRepository.upsertWatermark(userId, lastEndedAt, LocalDateTime.now());
+        LocalDateTime watermark = runSyncStateRepository.findById(userId)
+                .map(RunSyncState::getLastEndedAt)
+                .orElse(lastEndedAt);
+
+        return new RunSyncResponse(records.size(), inserted.size(), records.size() - inserted.size(), watermark);
+    }
+
+    @Transactional(readOnly = true)
+    public RunSyncWatermarkResponse getWatermark(Long userId) {
+        return runSyncStateRepository.findById(userId)
+                .map(state -> new RunSyncWatermarkResponse(state.getLastEndedAt(), state.getLastSyncedAt()))
+                .orElseGet(() -> new RunSyncWatermarkResponse(null, null));
+    }
+
+    private static RunRecord toEntity(User user, RunRecordRequest record) {
+        Integer pace = record.avgPaceSecondsPerKm() != null
+                ? record.avgPaceSecondsPerKm()
+                : RunRecord.paceSecondsPerKm(record.distanceMeters(), record.durationSeconds());
+        return RunRecord.builder()
+                .user(user)
+                .externalId(record.externalId())
+                .startedAt(record.startedAt())
+                .endedAt(record.endedAt())
+                .distanceMeters(record.distanceMeters())
+                .durationSeconds(record.durationSeconds())
+                .avgPaceSecondsPerKm(pace)
+                .caloriesKcal(record.caloriesKcal())
+                .avgHeartRate(record.avgHeartRate())
+                .maxHeartRate(record.maxHeartRate())
+                .build();
+    }
+}
@@ -0,0 +1,13 @@
+package com.runners.app.user.cache;
+
+/**
+ * 목록 DTO에 들어가는 작성자 표시 정보
+ * profileImageUrl은 기본 이미지까지 적용된 값입니다.
+ */
+public record AuthorCard(
+        Long userId,
+        String displayName,
+        String profileImageUrl,
+        Double totalDistanceKm
+) {
+}
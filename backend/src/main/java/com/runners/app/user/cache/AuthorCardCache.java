@@ -0,0 +1,83 @@
+package com.runners.app.user.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.runners.app.user.entity.User;
+import com.runners.app.user.event.UserProfileChangedEvent;
+import com.runners.app.user.repository.UserRepository;
+import com.runners.app.user.service.UserProfileImageResolver;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * userId별 작성자 표시 정보 캐시 (프로세스 로컬 Caffeine)
+ *
+ * 목록 조회는 users를 join하지 않고 한 페이지의 작성자 id를 모아 getAll 한 번으로 채웁니다.
+ * 없는 id만 IN 쿼리 한 번으로 적재합니다.
+ * 닉네임/프로필 이미지/누적 거리 변경(UserProfileChangedEvent) 시 커밋 후 무효화됩니다.
+ * 다른 인스턴스에는 무효화가 전파되지 않으므로 TTL로 상한을 둡니다.
+ */
+@Component
+public class AuthorCardCache {
+
+    private final UserRepository userRepository;
+    private final UserProfileImageResolver userProfileImageResolver;
+    private final Cache<Long, AuthorCard> cache;
+
+    public AuthorCardCache(
+            UserRepository userRepository,
+            UserProfileImageResolver userProfileImageResolver,
+            @Value("${app.user.author-card-cache.max-size:50000}") long maxSize,
+            @Value("${app.user.author-card-cache.ttl-seconds:600}") long ttlSeconds
+    ) {
+        this.userRepository = userRepository;
+        this.userProfileImageResolver = userProfileImageResolver;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(Math.max(1, maxSize))
+                .expireAfterWrite(Duration.ofSeconds(Math.max(1, ttlSeconds)))
+                .build();
+    }
+
+    /**
+     * @return userId -> AuthorCard (존재하지 않는 사용자는 빠짐)
+     */
+    public Map<Long, AuthorCard> getAll(Collection<Long> userIds) {
+        Set<Long> keys = userIds.stream().filter(Objects::nonNull).collect(Collectors.toSet());
+        if (keys.isEmpty()) return Map.of();
+        return cache.getAll(keys, this::load);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleUserProfileChanged(UserProfileChangedEvent event) {
+        evict(event.userId());
+    }
+
+    public void evict(Long userId) {
+        if (userId == null) return;
+        cache.invalidate(userId);
+    }
+
+    private Map<Long, AuthorCard> load(Set<? extends Long> userIds) {
+        List<UserRepository.AuthorCardSource> sources = userRepository.findAuthorCardSourcesByIdIn(userIds);
+        Map<Long, AuthorCard> loaded = new HashMap<>(sources.size());
+        for (UserRepository.AuthorCardSource source : sources) {
+            loaded.put(source.getId(), new AuthorCard(
+                    source.getId(),
+                    User.toDisplayName(source.getNickname(), source.getName()),
+                    userProfileImageResolver.resolveCustomPicture(source.getCustomPicture()),
+                    source.getTotalDistanceKm()
+            ));
+        }
+        return loaded;
+    }
+}
@@ -88,6 +88,13 @@ public class User {
     }
 
     public String getDisplayName() {
+        return toDisplayName(nickname, name);
+    }
+
+    /**
+     * 엔티티 없이 컬럼 값만 조회한 경우(프로젝션)에도 같은 규칙으로 표시 이름 결정
+     */
+    public static String toDisplayName(String nickname, String name) {
         if (nickname != null && !nickname.isBlank()) return nickname;
         if (name != null && !name.isBlank()) return name;
         return "RUNNERS";
@@ -0,0 +1,10 @@
+package com.runners.app.user.event;
+
+/**
+ * 다른 도메인에 복제된 사용자 표시 정보(닉네임/프로필 이미지/누적 거리)가 바뀌었음을 알리는 이벤트
+ * 같은 트랜잭션 안에서 동기 처리됩니다. (캐시 무효화는 커밋 후)
+ */
+public record UserProfileChangedEvent(
+        Long userId
+) {
+}
@@ -0,0 +1,12 @@
+package com.runners.app.user.event;
+
+/**
+ * 사용자 누적 거리(users.total_distance_km)가 바뀌었음을 알리는 이벤트
+ *
+ * @param totalDistanceKm 바뀐 값 (null 가능)
+ */
+public record UserTotalDistanceChangedEvent(
+        Long userId,
+        Double totalDistanceKm
+) {
+}
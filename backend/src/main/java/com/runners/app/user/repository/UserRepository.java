@@ -2,11 +2,69 @@ package com.runners.app.user.repository;
 
 
 import com.runners.app.user.entity.User;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     Optional<User> findByGoogleSub(String googleSub);
     boolean existsByNickname(String nickname);
+
+    @Query("""
+            select u.id as id,
+                   u.nickname as nickname,
+                   u.name as name,
+                   u.customPicture as customPicture,
+                   u.totalDistanceKm as totalDistanceKm
+            from User u
+            where u.id in :ids
+            """)
+    List<AuthorCardSource> findAuthorCardSourcesByIdIn(@Param("ids") Collection<? extends Long> ids);
+
+    /**
+     * 누적 거리 리더보드 재구성용 (id 순 페이지)
+     */
+    @Query("""
+            select u.id as id,
+                   u.totalDistanceKm as totalDistanceKm
+            from User u
+            where u.id > :lastId
+              and u.totalDistanceKm > 0
+            order by u.id asc
+            """)
+    List<DistanceSource> findDistanceSourcesAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    /**
+     * 재구성 중 바뀐 사용자의 누적 거리 (리더보드 재구성 마무리용)
+     */
+    @Query("""
+            select u.id as id,
+                   u.totalDistanceKm as totalDistanceKm
+            from User u
+            where u.id in :ids
+            """)
+    List<DistanceSource> findDistanceSourcesByIdIn(@Param("ids") Collection<Long> ids);
+
+    interface AuthorCardSource {
+        Long getId();
+
+        String getNickname();
+
+        String getName();
+
+        String getCustomPicture();
+
+        Double getTotalDistanceKm();
+    }
+
+    interface DistanceSource {
+        Long getId();
+
+        Double getTotalDistanceKm();
+    }
 }
@@ -11,9 +11,14 @@ public class UserProfileImageResolver {
     private String defaultProfileImageUrl;
 
     public String resolve(User user) {
-        if (user == null) return normalizeDefault(defaultProfileImageUrl);
-        String custom = user.getCustomPicture();
-        if (custom != null && !custom.isBlank()) return custom;
+        return resolveCustomPicture(user == null ? null : user.getCustomPicture());
+    }
+
+    /**
+     * 사용자 지정 이미지가 없으면 기본 이미지 (읽기 모델처럼 User 없이 값만 복제해 둔 경우)
+     */
+    public String resolveCustomPicture(String customPicture) {
+        if (customPicture != null && !customPicture.isBlank()) return customPicture;
         return normalizeDefault(defaultProfileImageUrl);
     }
 
@@ -3,10 +3,13 @@ package com.runners.app.user.service;
 import com.runners.app.user.dto.UserMeResponse;
 import com.runners.app.user.dto.UserPublicProfileResponse;
 import com.runners.app.user.entity.User;
+import com.runners.app.user.event.UserProfileChangedEvent;
+import com.runners.app.user.event.UserTotalDistanceChangedEvent;
 import com.runners.app.user.exception.UserDomainException;
 import com.runners.app.user.repository.UserRepository;
 import com.runners.app.community.upload.service.CommunityUploadService;
 import java.util.Objects;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -17,15 +20,18 @@ public class UserService {
     private final UserRepository userRepository;
     private final CommunityUploadService communityUploadService;
     private final UserProfileImageResolver userProfileImageResolver;
+    private final ApplicationEventPublisher eventPublisher;
 
     public UserService(
             UserRepository userRepository,
             CommunityUploadService communityUploadService,
-            UserProfileImageResolver userProfileImageResolver
+            UserProfileImageResolver userProfileImageResolver,
+            ApplicationEventPublisher eventPublisher
     ) {
         this.userRepository = userRepository;
         this.communityUploadService = communityUploadService;
         this.userProfileImageResolver = userProfileImageResolver;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional(readOnly = true)
@@ -63,8 +69,10 @@ public class UserService {
                 .orElseThrow(UserDomainException::userNotFound);
 
         boolean changed = false;
+        boolean nicknameChanged = false;
         if (nickname != null) {
-            changed |= applyNicknameUpdate(user, nickname);
+            nicknameChanged = applyNicknameUpdate(user, nickname);
+            changed = nicknameChanged;
         }
         if (intro != null) {
             String trimmedIntro = intro.trim();
@@ -78,6 +86,9 @@ public class UserService {
         if (changed) {
             userRepository.save(user);
         }
+        if (nicknameChanged) {
+            eventPublisher.publishEvent(new UserProfileChangedEvent(user.getId()));
+        }
         return toMeResponse(user);
     }
 
@@ -92,6 +103,8 @@ public class UserService {
 
         user.updateTotalDistanceKm(totalDistanceKm);
         userRepository.save(user);
+        eventPublisher.publishEvent(new UserProfileChangedEvent(user.getId()));
+        eventPublisher.publishEvent(new UserTotalDistanceChangedEvent(user.getId(), totalDistanceKm));
         return toMeResponse(user);
     }
 
@@ -108,8 +121,13 @@ public class UserService {
             return toMeResponse(user);
         }
 
+        Double previousTotalDistanceKm = user.getTotalDistanceKm();
         user.updateRunningStats(totalDistanceKm, totalDurationMinutes, runCount);
         userRepository.save(user);
+        if (!Objects.equals(previousTotalDistanceKm, totalDistanceKm)) {
+            eventPublisher.publishEvent(new UserProfileChangedEvent(user.getId()));
+            eventPublisher.publishEvent(new UserTotalDistanceChangedEvent(user.getId(), totalDistanceKm));
+        }
         return toMeResponse(user);
     }
 
@@ -135,6 +153,7 @@ public class UserService {
         String url = communityUploadService.toPublicFileUrl(trimmedKey);
         user.updateCustomPicture(url, trimmedKey);
         userRepository.save(user);
+        eventPublisher.publishEvent(new UserProfileChangedEvent(user.getId()));
         return toMeResponse(user);
     }
 
@@ -150,6 +169,7 @@ public class UserService {
 
         user.clearCustomPicture();
         userRepository.save(user);
+        eventPublisher.publishEvent(new UserProfileChangedEvent(user.getId()));
         return toMeResponse(user);
     }
 
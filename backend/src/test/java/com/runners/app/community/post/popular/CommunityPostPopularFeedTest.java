@@ -0,0 +1,129 @@
+package com.runners.app.community.post.popular;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.github.fppt.jedismock.RedisServer;
+import com.runners.app.community.post.event.CommunityPostEngagementEvent;
+import com.runners.app.community.post.event.CommunityPostEngagementEvent.Type;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * ADD_SCRIPT의 log-sum-exp 더하기/빼기를 jedis-mock(Lua 지원)에서 실제로 실행해 확인
+ */
+class CommunityPostPopularFeedTest {
+
+    private static final double HALF_LIFE_HOURS = 12;
+    private static final double RECOMMEND_WEIGHT = 5;
+    private static final double COMMENT_WEIGHT = 3;
+    private static final long SCORE_EPOCH_SECONDS = LocalDateTime.of(2025, 1, 1, 0, 0).toEpochSecond(ZoneOffset.UTC);
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 3, 2, 9, 0);
+    private static final double EPSILON = 1e-9;
+
+    private static RedisServer server;
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redis;
+
+    private CommunityPostPopularFeed feed;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        server = RedisServer.newRedisServer();
+        server.start();
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(server.getHost(), server.getBindPort())
+        );
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redis = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        connectionFactory.destroy();
+        server.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redis.delete(CommunityPostPopularFeed.KEY);
+        feed = new CommunityPostPopularFeed(redis, null, HALF_LIFE_HOURS, 1, RECOMMEND_WEIGHT, COMMENT_WEIGHT, 10000, 7);
+    }
+
+    @Test
+    void removingOnlyContributionRemovesPost() {
+        feed.handleEngagement(event(1L, Type.RECOMMEND, 1, NOW));
+        feed.handleEngagement(event(1L, Type.RECOMMEND, -1, NOW));
+
+        assertTrue(feed.read(null, 10).isEmpty());
+    }
+
+    @Test
+    void addThenRemoveRestoresPreviousScore() {
+        feed.handleEngagement(event(1L, Type.COMMENT, 1, NOW.minusHours(3)));
+        double before = scoreOf(1L);
+
+        feed.handleEngagement(event(1L, Type.RECOMMEND, 1, NOW));
+        assertTrue(scoreOf(1L) > before);
+
+        feed.handleEngagement(event(1L, Type.RECOMMEND, -1, NOW));
+        assertEquals(before, scoreOf(1L), EPSILON);
+    }
+
+    @Test
+    void lateRemovalIsDecayedByOriginalEventTime() {
+        LocalDateTime dayAgo = NOW.minusDays(1);
+        feed.handleEngagement(event(1L, Type.RECOMMEND, 1, dayAgo));
+        feed.handleEngagement(event(1L, Type.COMMENT, 1, NOW));
+
+        // 하루 전 추천을 지금 취소해도 하루 전 기여도만큼만 빠짐
+        feed.handleEngagement(event(1L, Type.RECOMMEND, -1, dayAgo));
+
+        assertEquals(expectedScore(COMMENT_WEIGHT, NOW), scoreOf(1L), EPSILON);
+    }
+
+    @Test
+    void contributionsSumInLinearSpace() {
+        feed.handleEngagement(event(1L, Type.RECOMMEND, 1, NOW));
+        feed.handleEngagement(event(1L, Type.RECOMMEND, 1, NOW));
+        feed.handleEngagement(event(2L, Type.RECOMMEND, 2, NOW));
+
+        assertEquals(expectedScore(2 * RECOMMEND_WEIGHT, NOW), scoreOf(1L), EPSILON);
+        assertEquals(scoreOf(2L), scoreOf(1L), EPSILON);
+    }
+
+    @Test
+    void removalWithoutScoreIsIgnored() {
+        feed.handleEngagement(event(1L, Type.COMMENT, -1, NOW));
+
+        assertTrue(feed.read(null, 10).isEmpty());
+    }
+
+    private static CommunityPostEngagementEvent event(long postId, Type type, int delta, LocalDateTime occurredAt) {
+        return new CommunityPostEngagementEvent(postId, type, delta, occurredAt);
+    }
+
+    private double scoreOf(long postId) {
+        List<CommunityPostPopularFeed.Entry> entries = feed.read(null, 10);
+        return entries.stream()
+                .filter(entry -> entry.postId() == postId)
+                .findFirst()
+                .orElseThrow()
+                .score();
+    }
+
+    private static double expectedScore(double weight, LocalDateTime occurredAt) {
+        return Math.log(weight) / Math.log(2)
+                + (occurredAt.toEpochSecond(ZoneOffset.UTC) - SCORE_EPOCH_SECONDS) / (HALF_LIFE_HOURS * 3600);
+    }
+}
@@ -0,0 +1,204 @@
+package com.runners.app.global.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Base64;
+import org.junit.jupiter.api.Test;
+
+class CursorCodecTest {
+
+    private static final String SECRET = "test-cursor-secret";
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 5, 1, 12, 30, 15, 123_456_000);
+
+    // 기본 설정(서명 없음, 이전 형식 허용), 테스트마다 새 인스턴스
+    private CursorCodec codec = new CursorCodec(null, true);
+
+    @Test
+    void emptyCursorDecodesToNull() {
+        assertNull(codec.decodeCursor(null));
+        assertNull(codec.decodeCursor(" "));
+        assertNull(codec.decodeCursor("null"));
+        assertNull(codec.decodeScoreCursor(null));
+    }
+
+    @Test
+    void plainCursorRoundTrip() {
+        String encoded = codec.encodeCursor(CREATED_AT, 42L);
+
+        assertEquals(23, encoded.length());
+        assertEquals(1, decode(encoded)[0]);
+        assertEquals(new CursorCodec.Cursor(CREATED_AT, 42L), codec.decodeCursor(encoded));
+    }
+
+    @Test
+    void createdAtIsTruncatedToMicros() {
+        LocalDateTime withNanos = CREATED_AT.withNano(123_456_789);
+
+        CursorCodec.Cursor decoded = codec.decodeCursor(codec.encodeCursor(withNanos, 7L));
+
+        assertEquals(CREATED_AT, decoded.createdAt());
+    }
+
+    @Test
+    void signedCursorRoundTrip() {
+        codec = new CursorCodec(SECRET, false);
+        String encoded = codec.encodeCursor(CREATED_AT, 42L);
+
+        assertEquals(34, encoded.length());
+        assertEquals(2, decode(encoded)[0]);
+        assertEquals(new CursorCodec.Cursor(CREATED_AT, 42L), codec.decodeCursor(encoded));
+    }
+
+    @Test
+    void scoreCursorRoundTrip() {
+        assertEquals(new CursorCodec.ScoreCursor(12.5, 9L),
+                codec.decodeScoreCursor(codec.encodeScoreCursor(12.5, 9L)));
+
+        codec = new CursorCodec(SECRET, false);
+        String signed = codec.encodeScoreCursor(-3.25, 9L);
+        assertEquals(4, decode(signed)[0]);
+        assertEquals(new CursorCodec.ScoreCursor(-3.25, 9L), codec.decodeScoreCursor(signed));
+    }
+
+    @Test
+    void cursorKindsAreNotInterchangeable() {
+        codec = new CursorCodec(null, false);
+        String timeCursor = codec.encodeCursor(CREATED_AT, 1L);
+        String scoreCursor = codec.encodeScoreCursor(1.0, 1L);
+
+        assertThrows(IllegalArgumentException.class, () -> codec.decodeScoreCursor(timeCursor));
+        assertThrows(IllegalArgumentException.class, () -> codec.decodeCursor(scoreCursor));
+    }
+
+    @Test
+    void tamperedSignatureIsRejected() {
+        codec = new CursorCodec(SECRET, false);
+        byte[] bytes = decode(codec.encodeCursor(CREATED_AT, 42L));
+        bytes[bytes.length - 1] ^= 0x01;
+
+        assertThrows(IllegalArgumentException.class, () -> codec.decodeCursor(encode(bytes)));
+    }
+
+    @Test
+    void tamperedPayloadIsRejected() {
+        codec = new CursorCodec(SECRET, false);
+        byte[] bytes = decode(codec.encodeCursor(CREATED_AT, 42L));
+        // id 마지막 바이트 변경
+        bytes[16] ^= 0x01;
+
+        assertThrows(IllegalArgumentException.class, () -> codec.decodeCursor(encode(bytes)));
+    }
+
+    @Test
+    void cursorSignedWithAnotherKeyIsRejected() {
+        codec = new CursorCodec("other-secret", false);
+        String encoded = codec.encodeCursor(CREATED_AT, 42L);
+
+        codec = new CursorCodec(SECRET, false);
+        assertThrows(IllegalArgumentException.class, () -> codec.decodeCursor(encoded));
+    }
+
+    @Test
+    void instancesDoNotShareSigningKey() {
+        CursorCodec signed = new CursorCodec(SECRET, false);
+        String signedCursor = signed.encodeCursor(CREATED_AT, 42L);
+        String plainCursor = codec.encodeCursor(CREATED_AT, 42L);
+
+        assertEquals(new CursorCodec.Cursor(CREATED_AT, 42L), signed.decodeCursor(signedCursor));
+        assertEquals(new CursorCodec.Cursor(CREATED_AT, 42L), codec.decodeCursor(plainCursor));
+        assertThrows(IllegalArgumentException.class, () -> codec.decodeCursor(signedCursor));
+    }
+
+    @Test
+    void signedCursorIsRejectedWithoutSigner() {
+        codec = new CursorCodec(SECRET, false);
+        String encoded = codec.encodeCursor(CREATED_AT, 42L);
+
+        codec = new CursorCodec(null, false);
+        assertThrows(IllegalArgumentException.class, () -> codec.decodeCursor(encoded));
+    }
+
+    @Test
+    void unsignedCursorIsRejectedWhenSignerIsSet() {
+        String plain = codec.encodeCursor(CREATED_AT, 42L);
+        String plainScore = codec.encodeScoreCursor(1.0, 42L);
+
+        codec = new CursorCodec(SECRET, true);
+        assertThrows(IllegalArgumentException.class, () -> codec.decodeCursor(plain));
+        assertThrows(IllegalArgumentException.class, () -> codec.decodeScoreCursor(plainScore));
+    }
+
+    @Test
+    void wrongLengthIsRejected() {
+        byte[] plain = decode(codec.encodeCursor(CREATED_AT, 42L));
+        assertThrows(IllegalArgumentException.class,
+                () -> codec.decodeCursor(encode(Arrays.copyOf(plain, plain.length - 1))));
+        assertThrows(IllegalArgumentException.class,
+                () -> codec.decodeCursor(encode(Arrays.copyOf(plain, plain.length + 8))));
+
+        codec = new CursorCodec(SECRET, false);
+        byte[] signed = decode(codec.encodeCursor(CREATED_AT, 42L));
+        assertThrows(IllegalArgumentException.class,
+                () -> codec.decodeCursor(encode(Arrays.copyOf(signed, signed.length - 1))));
+    }
+
+    @Test
+    void unknownVersionIsRejected() {
+        byte[] bytes = decode(codec.encodeCursor(CREATED_AT, 42L));
+        bytes[0] = 9;
+
+        assertThrows(IllegalArgumentException.class, () -> codec.decodeCursor(encode(bytes)));
+        codec = new CursorCodec(null, false);
+        assertThrows(IllegalArgumentException.class, () -> codec.decodeCursor(encode(bytes)));
+        assertThrows(IllegalArgumentException.class, () -> codec.decodeScoreCursor(encode(bytes)));
+    }
+
+    @Test
+    void nonPositiveIdIsRejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> codec.decodeCursor(codec.encodeCursor(CREATED_AT, 0L)));
+        assertThrows(IllegalArgumentException.class,
+                () -> codec.decodeScoreCursor(codec.encodeScoreCursor(1.0, -1L)));
+    }
+
+    @Test
+    void nonFiniteScoreIsRejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> codec.decodeScoreCursor(codec.encodeScoreCursor(Double.NaN, 1L)));
+        assertThrows(IllegalArgumentException.class,
+                () -> codec.decodeScoreCursor(codec.encodeScoreCursor(Double.POSITIVE_INFINITY, 1L)));
+    }
+
+    @Test
+    void legacyCursorIsDecodedOnlyWhenAccepted() {
+        String legacy = encode("2024-05-01T12:30:15.123456|42".getBytes(StandardCharsets.UTF_8));
+
+        codec = new CursorCodec(null, true);
+        assertEquals(new CursorCodec.Cursor(CREATED_AT, 42L), codec.decodeCursor(legacy));
+
+        codec = new CursorCodec(null, false);
+        assertThrows(IllegalArgumentException.class, () -> codec.decodeCursor(legacy));
+    }
+
+    @Test
+    void malformedLegacyCursorIsRejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> codec.decodeCursor(encode("no-separator".getBytes(StandardCharsets.UTF_8))));
+        assertThrows(IllegalArgumentException.class,
+                () -> codec.decodeCursor(encode("2024-05-01T12:30:15|0".getBytes(StandardCharsets.UTF_8))));
+        assertThrows(IllegalArgumentException.class, () -> codec.decodeCursor("%%%"));
+    }
+
+    private static byte[] decode(String cursor) {
+        return Base64.getUrlDecoder().decode(cursor);
+    }
+
+    private static String encode(byte[] bytes) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+}